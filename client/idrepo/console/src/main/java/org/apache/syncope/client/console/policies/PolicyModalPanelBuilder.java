@@ -181,12 +181,48 @@ public class PolicyModalPanelBuilder<T extends PolicyTO> extends AbstractModalPa
                             new PropertyModel<>(policyTO, "fetchAroundProvisioning"),
                             false));
 
+                    fields.add(new AjaxCheckBoxPanel(
+                            "field",
+                            "fetchAfterProvisioning",
+                            new PropertyModel<>(policyTO, "fetchAfterProvisioning"),
+                            false));
+
                     fields.add(new AjaxCheckBoxPanel(
                             "field",
                             "updateDelta",
                             new PropertyModel<>(policyTO, "updateDelta"),
                             false));
 
+                    fields.add(new AjaxNumberFieldPanel.Builder<Integer>().min(0).build(
+                            "field",
+                            "coalescingWindow",
+                            Integer.class,
+                            new PropertyModel<>(policyTO, "coalescingWindow")));
+
+                    fields.add(new AjaxNumberFieldPanel.Builder<Integer>().min(0).build(
+                            "field",
+                            "maxConcurrency",
+                            Integer.class,
+                            new PropertyModel<>(policyTO, "maxConcurrency")));
+
+                    fields.add(new AjaxNumberFieldPanel.Builder<Integer>().min(0).build(
+                            "field",
+                            "breakerFailureThreshold",
+                            Integer.class,
+                            new PropertyModel<>(policyTO, "breakerFailureThreshold")));
+
+                    fields.add(new AjaxNumberFieldPanel.Builder<Integer>().min(0).build(
+                            "field",
+                            "breakerSlowCallThreshold",
+                            Integer.class,
+                            new PropertyModel<>(policyTO, "breakerSlowCallThreshold")));
+
+                    fields.add(new AjaxNumberFieldPanel.Builder<Integer>().min(0).build(
+                            "field",
+                            "breakerOpenDuration",
+                            Integer.class,
+                            new PropertyModel<>(policyTO, "breakerOpenDuration")));
+
                     fields.add(new AjaxNumberFieldPanel.Builder<Integer>().min(1).build(
                             "field",
                             "maxAttempts",
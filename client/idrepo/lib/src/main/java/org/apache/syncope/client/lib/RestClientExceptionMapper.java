@@ -22,6 +22,7 @@ import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotAuthorizedException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.RedirectionException;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
@@ -72,13 +73,18 @@ public class RestClientExceptionMapper implements ResponseExceptionMapper<Except
             ex = StringUtils.isBlank(message)
                     ? new BadRequestException()
                     : new BadRequestException(message);
+        } else if (statusCode == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            // 5. Map SC_NOT_MODIFIED, as returned by conditional requests
+            ex = new RedirectionException(response);
         } else {
-            // 5. All other codes are mapped to runtime exception with HTTP code information
+            // 6. All other codes are mapped to runtime exception with HTTP code information
             ex = new WebServiceException(String.format("Remote exception with status code: %s",
                     Response.Status.fromStatusCode(statusCode).name()));
         }
 
-        if (ex instanceof NotFoundException
+        if (ex instanceof RedirectionException) {
+            LOG.debug("Remote resource not modified");
+        } else if (ex instanceof NotFoundException
                 || (ex instanceof SyncopeClientException sce && sce.getType() == ClientExceptionType.NotFound)) {
 
             if (LOG.isDebugEnabled()) {
@@ -105,6 +105,22 @@ public class BatchRequest {
      * @return batch response
      */
     public BatchResponse commit(final boolean async) {
+        return commit(async, false);
+    }
+
+    /**
+     * Sends the current request, with items accumulated by invoking methods on proxies obtained via
+     * {@link #getService(java.lang.Class)}, to the Batch service, and awaits for a synchronous or asynchronous
+     * response, depending on the {@code async} parameter.
+     * When {@code parallel} is requested, items are executed concurrently, except for those referring to the same
+     * entity, which are executed in the given order; results are reported in the given order anyway.
+     * It also clears out the accumulated items, in case of reuse of this instance for subsequent requests.
+     *
+     * @param async whether asynchronous Batch process is requested, or not
+     * @param parallel whether parallel execution of items is requested, or not
+     * @return batch response
+     */
+    public BatchResponse commit(final boolean async, final boolean parallel) {
         String boundary = "--batch_" + UUID.randomUUID();
 
         WebClient webClient = WebClient.create(bcfb.getAddress()).path("batch").
@@ -113,6 +129,9 @@ public class BatchRequest {
         if (async) {
             webClient.header(RESTHeaders.PREFER, Preference.RESPOND_ASYNC);
         }
+        if (parallel) {
+            webClient.header(RESTHeaders.BATCH_PARALLEL, true);
+        }
         if (tlsClientParameters != null) {
             ClientConfiguration config = WebClient.getConfig(webClient);
             HTTPConduit httpConduit = (HTTPConduit) config.getConduit();
@@ -55,6 +55,8 @@ public interface SRARouteService extends JAXRSService {
 
     /**
      * Returns a list of all existing routes.
+     * The response carries a weak {@code ETag} computed over the whole list: when the same value is provided via the
+     * {@code If-None-Match} header and no route was changed since, {@code 304 Not Modified} is returned.
      *
      * @return paged list of existing routes matching the given query
      */
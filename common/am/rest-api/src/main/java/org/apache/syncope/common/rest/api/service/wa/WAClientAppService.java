@@ -45,6 +45,8 @@ public interface WAClientAppService extends JAXRSService {
 
     /**
      * Returns a list of all client applications available.
+     * The response carries a weak {@code ETag} computed over the whole list: when the same value is provided via the
+     * {@code If-None-Match} header and no client application was changed since, {@code 304 Not Modified} is returned.
      *
      * @return list of all client applications.
      */
@@ -29,6 +29,8 @@ public class PropagationPolicyTO extends PolicyTO {
 
     private boolean fetchAroundProvisioning = true;
 
+    private boolean fetchAfterProvisioning = true;
+
     private boolean updateDelta = false;
 
     private BackOffStrategy backOffStrategy = BackOffStrategy.FIXED;
@@ -37,6 +39,16 @@ public class PropagationPolicyTO extends PolicyTO {
 
     private int maxAttempts = 3;
 
+    private int coalescingWindow;
+
+    private int maxConcurrency;
+
+    private int breakerFailureThreshold;
+
+    private int breakerSlowCallThreshold;
+
+    private int breakerOpenDuration = 60;
+
     @JsonProperty("_class")
     @Schema(name = "_class", requiredMode = Schema.RequiredMode.REQUIRED,
             example = "org.apache.syncope.common.lib.policy.PropagationPolicyTO")
@@ -53,6 +65,14 @@ public class PropagationPolicyTO extends PolicyTO {
         this.fetchAroundProvisioning = fetchAroundProvisioning;
     }
 
+    public boolean isFetchAfterProvisioning() {
+        return fetchAfterProvisioning;
+    }
+
+    public void setFetchAfterProvisioning(final boolean fetchAfterProvisioning) {
+        this.fetchAfterProvisioning = fetchAfterProvisioning;
+    }
+
     public boolean isUpdateDelta() {
         return updateDelta;
     }
@@ -85,4 +105,44 @@ public class PropagationPolicyTO extends PolicyTO {
     public void setMaxAttempts(final int maxAttempts) {
         this.maxAttempts = maxAttempts;
     }
+
+    public int getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    public void setCoalescingWindow(final int coalescingWindow) {
+        this.coalescingWindow = coalescingWindow;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(final int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    public void setBreakerFailureThreshold(final int breakerFailureThreshold) {
+        this.breakerFailureThreshold = breakerFailureThreshold;
+    }
+
+    public int getBreakerSlowCallThreshold() {
+        return breakerSlowCallThreshold;
+    }
+
+    public void setBreakerSlowCallThreshold(final int breakerSlowCallThreshold) {
+        this.breakerSlowCallThreshold = breakerSlowCallThreshold;
+    }
+
+    public int getBreakerOpenDuration() {
+        return breakerOpenDuration;
+    }
+
+    public void setBreakerOpenDuration(final int breakerOpenDuration) {
+        this.breakerOpenDuration = breakerOpenDuration;
+    }
 }
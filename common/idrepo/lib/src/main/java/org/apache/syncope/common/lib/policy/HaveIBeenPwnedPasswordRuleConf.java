@@ -22,4 +22,17 @@ public class HaveIBeenPwnedPasswordRuleConf extends AbstractPasswordRuleConf {
 
     private static final long serialVersionUID = -8962889598888347921L;
 
+    /**
+     * Whether password values shall be checked against the locally imported breached password corpus, configured via
+     * the {@code password.pwned.corpus} configuration parameter, rather than the online service.
+     */
+    private boolean offline;
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public void setOffline(final boolean offline) {
+        this.offline = offline;
+    }
 }
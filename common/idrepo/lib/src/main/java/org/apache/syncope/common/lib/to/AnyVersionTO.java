@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Lightweight representation of User, Group or Any Object, only reporting when it was last changed.
+ */
+public class AnyVersionTO implements EntityTO {
+
+    private static final long serialVersionUID = 3216563880421505466L;
+
+    private String key;
+
+    private String type;
+
+    private OffsetDateTime creationDate;
+
+    private OffsetDateTime lastChangeDate;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public void setKey(final String key) {
+        this.key = key;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(final String type) {
+        this.type = type;
+    }
+
+    public OffsetDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(final OffsetDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public OffsetDateTime getLastChangeDate() {
+        return lastChangeDate;
+    }
+
+    public void setLastChangeDate(final OffsetDateTime lastChangeDate) {
+        this.lastChangeDate = lastChangeDate;
+    }
+
+    /**
+     * Same as {@link AnyTO#getETagValue()}.
+     *
+     * @return ETag value
+     */
+    @JsonIgnore
+    public String getETagValue() {
+        OffsetDateTime etagDate = getLastChangeDate() == null
+                ? getCreationDate() : getLastChangeDate();
+        return Optional.ofNullable(etagDate).
+                map(date -> String.valueOf(date.toInstant().toEpochMilli())).
+                orElse(StringUtils.EMPTY);
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                append(key).
+                append(type).
+                append(creationDate).
+                append(lastChangeDate).
+                build();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final AnyVersionTO other = (AnyVersionTO) obj;
+        return new EqualsBuilder().
+                append(key, other.key).
+                append(type, other.type).
+                append(creationDate, other.creationDate).
+                append(lastChangeDate, other.lastChangeDate).
+                build();
+    }
+}
@@ -30,6 +30,8 @@ public class ThreadPoolSettings implements Serializable {
 
     private int poolSize = Integer.MAX_VALUE;
 
+    private int queueCapacity = 1000;
+
     public int getPoolSize() {
         return poolSize;
     }
@@ -38,10 +40,19 @@ public class ThreadPoolSettings implements Serializable {
         this.poolSize = poolSize;
     }
 
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
                 append(poolSize).
+                append(queueCapacity).
                 build();
     }
 
@@ -59,6 +70,7 @@ public class ThreadPoolSettings implements Serializable {
         final ThreadPoolSettings other = (ThreadPoolSettings) obj;
         return new EqualsBuilder().
                 append(poolSize, other.poolSize).
+                append(queueCapacity, other.queueCapacity).
                 build();
     }
 
@@ -66,6 +78,7 @@ public class ThreadPoolSettings implements Serializable {
     public String toString() {
         return new ToStringBuilder(this, ToStringStyle.SIMPLE_STYLE).
                 append(poolSize).
+                append(queueCapacity).
                 build();
     }
 }
@@ -46,6 +46,12 @@ public final class RESTHeaders {
      */
     public static final String NULL_PRIORITY_ASYNC = "X-Syncope-Null-Priority-Async";
 
+    /**
+     * Asks for parallel execution of the items within a batch request; items referring to the same entity are
+     * executed in the given order anyway.
+     */
+    public static final String BATCH_PARALLEL = "X-Syncope-Batch-Parallel";
+
     /**
      * Declares the type of exception being raised.
      *
@@ -73,6 +79,16 @@ public final class RESTHeaders {
      */
     public static final MediaType TEXT_CSV_TYPE = new MediaType("text", "csv");
 
+    /**
+     * Mediatype for newline-delimited JSON, not defined in {@link jakarta.ws.rs.core.MediaType}.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /**
+     * Mediatype for newline-delimited JSON, not defined in {@link jakarta.ws.rs.core.MediaType}.
+     */
+    public static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+
     /**
      * Mediatype for multipart/mixed, not defined in {@link jakarta.ws.rs.core.MediaType}.
      */
@@ -23,10 +23,14 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.QueryParam;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 
 public class AnyQuery extends AbstractQuery {
@@ -50,6 +54,21 @@ public class AnyQuery extends AbstractQuery {
             return this;
         }
 
+        public Builder attr(final String attr) {
+            getInstance().getAttrs().add(attr);
+            return this;
+        }
+
+        public Builder attrs(final Collection<String> attrs) {
+            getInstance().getAttrs().addAll(attrs);
+            return this;
+        }
+
+        public Builder count(final SearchCountMode count) {
+            getInstance().setCount(count);
+            return this;
+        }
+
         public Builder realm(final String realm) {
             getInstance().setRealm(realm);
             return this;
@@ -68,6 +87,10 @@ public class AnyQuery extends AbstractQuery {
 
     private Boolean details;
 
+    private List<String> attrs = new ArrayList<>();
+
+    private SearchCountMode count;
+
     private String fiql;
 
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
@@ -111,6 +134,32 @@ public class AnyQuery extends AbstractQuery {
         this.details = details;
     }
 
+    @Parameter(name = JAXRSService.PARAM_ATTRS, description = "plain or derived attributes to be included, "
+            + "all if none specified; any other attribute is neither read nor computed", schema =
+            @Schema(implementation = String.class))
+    public List<String> getAttrs() {
+        return attrs;
+    }
+
+    @QueryParam(JAXRSService.PARAM_ATTRS)
+    public void setAttrs(final List<String> attrs) {
+        this.attrs = attrs;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_COUNT, description = "how the total number of matching entities is to be "
+            + "reported: EXACT requires a dedicated count query, ESTIMATE might be approximate while NONE only tells "
+            + "whether further pages are available", schema =
+            @Schema(implementation = SearchCountMode.class, defaultValue = "EXACT"))
+    public SearchCountMode getCount() {
+        return Optional.ofNullable(count).orElse(SearchCountMode.EXACT);
+    }
+
+    @QueryParam(JAXRSService.PARAM_COUNT)
+    @DefaultValue("EXACT")
+    public void setCount(final SearchCountMode count) {
+        this.count = count;
+    }
+
     public String getFiql() {
         return fiql;
     }
@@ -142,6 +191,8 @@ public class AnyQuery extends AbstractQuery {
                 appendSuper(super.equals(obj)).
                 append(realm, other.realm).
                 append(details, other.details).
+                append(attrs, other.attrs).
+                append(count, other.count).
                 append(fiql, other.fiql).
                 build();
     }
@@ -152,6 +203,8 @@ public class AnyQuery extends AbstractQuery {
                 appendSuper(super.hashCode()).
                 append(realm).
                 append(details).
+                append(attrs).
+                append(count).
                 append(fiql).
                 build();
     }
@@ -36,14 +36,18 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Set;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.request.ResourceAR;
 import org.apache.syncope.common.lib.request.ResourceDR;
 import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.AnyVersionTO;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.ResourceAssociationAction;
@@ -90,10 +94,17 @@ public interface AnyService<TO extends AnyTO> extends JAXRSService {
 
     /**
      * Reads the any object matching the provided key.
+     * When {@code If-None-Match} or {@code If-Modified-Since} headers are provided and the any object was not changed
+     * since, {@code 304 Not Modified} is returned without building the any object.
+     * The optional {@code attrs} query parameter can be used to restrict the plain or derived attributes to be
+     * included, as with {@link AnyQuery#getAttrs()}.
      *
      * @param key if value looks like a UUID then it is interpreted as key, otherwise as a (user)name
      * @return any object with matching key
      */
+    @Parameter(name = JAXRSService.PARAM_ATTRS, in = ParameterIn.QUERY,
+            description = "plain or derived attributes to be included, all if none specified",
+            schema = @Schema(implementation = String.class))
     @GET
     @Path("{key}")
     @Produces({ MediaType.APPLICATION_JSON })
@@ -101,6 +112,8 @@ public interface AnyService<TO extends AnyTO> extends JAXRSService {
 
     /**
      * Returns a paged list of any objects matching the given query.
+     * When {@code If-None-Match} header is provided and neither the total count nor the any objects in the requested
+     * page were changed since, {@code 304 Not Modified} is returned without building the any objects.
      *
      * @param anyQuery query conditions
      * @return paged list of any objects matching the given query
@@ -109,6 +122,40 @@ public interface AnyService<TO extends AnyTO> extends JAXRSService {
     @Produces({ MediaType.APPLICATION_JSON })
     PagedResult<TO> search(@BeanParam AnyQuery anyQuery);
 
+    /**
+     * Streams all any objects matching the given query, sorted by key, as either newline-delimited JSON or CSV
+     * according to the {@code Accept} header; page and size from the query are ignored and any objects are fetched
+     * one chunk at a time, so that memory usage does not depend on the number of matching any objects.
+     * When CSV is requested, columns are taken from the given list: each item can be either a field name (as
+     * {@code key} or {@code username}), a plain or a derived schema name; defaults to {@code key} only.
+     * Mapped under {@code search/} rather than directly as {@code stream}, which would prevent any object named
+     * {@code stream} from being read by name.
+     *
+     * @param anyQuery query conditions
+     * @param columns CSV columns
+     * @return response streaming all any objects matching the given query
+     */
+    @GET
+    @Path("search/stream")
+    @Produces({ RESTHeaders.APPLICATION_NDJSON, RESTHeaders.TEXT_CSV })
+    Response stream(@BeanParam AnyQuery anyQuery, @QueryParam("columns") List<String> columns);
+
+    /**
+     * Returns a paged list of any objects matching the given query and changed since the given instant, if provided,
+     * sorted by last change date; only key and change dates are reported, with no need to load attributes,
+     * memberships or relationships.
+     * Mapped under {@code search/} rather than directly as {@code changes}, which would prevent any object named
+     * {@code changes} from being read by name.
+     *
+     * @param since only any objects changed since this instant are reported, if provided
+     * @param anyQuery query conditions
+     * @return paged list of any objects matching the given query and changed since the given instant
+     */
+    @GET
+    @Path("search/changes")
+    @Produces({ MediaType.APPLICATION_JSON })
+    PagedResult<AnyVersionTO> changes(@QueryParam("since") OffsetDateTime since, @BeanParam AnyQuery anyQuery);
+
     /**
      * Adds or replaces the attribute, owned by the given any object, for the given schema type and schema.
      *
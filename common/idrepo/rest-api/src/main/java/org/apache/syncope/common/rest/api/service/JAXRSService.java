@@ -46,6 +46,10 @@ public interface JAXRSService {
 
     String PARAM_DETAILS = "details";
 
+    String PARAM_ATTRS = "attrs";
+
+    String PARAM_COUNT = "count";
+
     String PARAM_CONNID_PAGED_RESULTS_COOKIE = "connIdPagedResultsCookie";
 
     String PARAM_MAX = "max";
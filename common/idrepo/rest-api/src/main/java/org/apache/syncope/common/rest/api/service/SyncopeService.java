@@ -67,6 +67,11 @@ public interface SyncopeService extends JAXRSService {
             description = "Allows client to specify a preference to process the batch request asynchronously",
             allowEmptyValue = true, schema =
             @Schema(defaultValue = "", allowableValues = { "respond-async" }))
+    @Parameter(name = RESTHeaders.BATCH_PARALLEL, in = ParameterIn.HEADER,
+            description = "If 'true', instructs to execute the batch items in parallel, except for those referring to"
+            + " the same entity, which are executed in the given order",
+            allowEmptyValue = true, schema =
+            @Schema(type = "boolean", defaultValue = "false"))
     @ApiResponses({
         @ApiResponse(responseCode = "200",
                 description = "Batch request processed, results returned as Response entity, "
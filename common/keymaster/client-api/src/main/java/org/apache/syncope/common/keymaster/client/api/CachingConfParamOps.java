@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.api;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Decorates {@link ConfParamOps} by keeping, for each domain, a local snapshot of the values read so far.
+ * Snapshots are discarded after the configured time-to-live, upon local writes and whenever
+ * {@link #invalidate(String)} is invoked, typically as a result of a change notification.
+ */
+public class CachingConfParamOps implements ConfParamOps, DisposableBean {
+
+    protected record DomainSnapshot(Map<String, Optional<Object>> values, long createdAt) {
+
+    }
+
+    protected final ConfParamOps delegate;
+
+    protected final long ttl;
+
+    protected final Map<String, DomainSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    protected final LongAdder hits = new LongAdder();
+
+    protected final LongAdder misses = new LongAdder();
+
+    protected final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param delegate actual implementation
+     * @param ttl time-to-live of domain snapshots, in milliseconds
+     */
+    public CachingConfParamOps(final ConfParamOps delegate, final long ttl) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+    }
+
+    public ConfParamOps getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    protected DomainSnapshot snapshot(final String domain) {
+        DomainSnapshot snapshot = snapshots.get(domain);
+        if (snapshot == null || System.currentTimeMillis() - snapshot.createdAt() > ttl) {
+            snapshot = new DomainSnapshot(new ConcurrentHashMap<>(), System.currentTimeMillis());
+            snapshots.put(domain, snapshot);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public Map<String, Object> list(final String domain) {
+        return delegate.list(domain);
+    }
+
+    @Override
+    public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
+        Map<String, Optional<Object>> values = snapshot(domain).values();
+        String cacheKey = key + '@' + reference.getName();
+
+        Optional<Object> value = values.get(cacheKey);
+        if (value == null) {
+            misses.increment();
+
+            // read without default value, in order to tell missing values apart
+            value = Optional.ofNullable(delegate.get(domain, key, null, reference));
+            values.put(cacheKey, value);
+        } else {
+            hits.increment();
+        }
+
+        return value.map(reference::cast).orElse(defaultValue);
+    }
+
+    @Override
+    public <T> void set(final String domain, final String key, final T value) {
+        try {
+            delegate.set(domain, key, value);
+        } finally {
+            invalidate(domain);
+        }
+    }
+
+    @Override
+    public void remove(final String domain, final String key) {
+        try {
+            delegate.remove(domain, key);
+        } finally {
+            invalidate(domain);
+        }
+    }
+
+    /**
+     * Discards the local snapshot for the given domain.
+     *
+     * @param domain domain
+     */
+    public void invalidate(final String domain) {
+        if (snapshots.remove(domain) != null) {
+            invalidations.increment();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+}
@@ -35,6 +35,11 @@ public class KeymasterProperties {
 
     private boolean enableAutoRegistration = true;
 
+    /**
+     * Time-to-live (in milliseconds) of locally cached configuration parameters; set to 0 to disable caching.
+     */
+    private long confParamCacheTtl = 60000;
+
     public String getAddress() {
         return address;
     }
@@ -82,4 +87,12 @@ public class KeymasterProperties {
     public void setEnableAutoRegistration(final boolean enableAutoRegistration) {
         this.enableAutoRegistration = enableAutoRegistration;
     }
+
+    public long getConfParamCacheTtl() {
+        return confParamCacheTtl;
+    }
+
+    public void setConfParamCacheTtl(final long confParamCacheTtl) {
+        this.confParamCacheTtl = confParamCacheTtl;
+    }
 }
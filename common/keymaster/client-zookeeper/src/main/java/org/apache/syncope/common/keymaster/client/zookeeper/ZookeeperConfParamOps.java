@@ -22,17 +22,22 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.KeymasterException;
 import org.apache.zookeeper.KeeperException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 
 /**
  * Implements {@link ConfParamOps} via Apache Curator / Zookeeper.
  */
-public class ZookeeperConfParamOps implements ConfParamOps {
+public class ZookeeperConfParamOps implements ConfParamOps, DisposableBean {
 
     protected static final Logger LOG = LoggerFactory.getLogger(ConfParamOps.class);
 
@@ -42,6 +47,8 @@ public class ZookeeperConfParamOps implements ConfParamOps {
 
     protected final CuratorFramework client;
 
+    protected CuratorCache cache;
+
     protected static String buildConfPath(final String... parts) {
         return CONF_PATH + '/' + String.join("/", parts);
     }
@@ -50,6 +57,46 @@ public class ZookeeperConfParamOps implements ConfParamOps {
         this.client = client;
     }
 
+    /**
+     * Starts watching configuration parameters: the given listener is invoked with the affected domain whenever
+     * any parameter is created, updated or removed, by this or any other client.
+     *
+     * @param listener domain listener
+     */
+    public synchronized void watch(final Consumer<String> listener) {
+        if (cache != null) {
+            throw new IllegalStateException("Already watching " + CONF_PATH);
+        }
+
+        try {
+            if (client.checkExists().forPath(CONF_PATH) == null) {
+                client.create().creatingParentContainersIfNeeded().forPath(CONF_PATH);
+            }
+        } catch (Exception e) {
+            throw new KeymasterException(e);
+        }
+
+        cache = CuratorCache.build(client, CONF_PATH);
+        cache.listenable().addListener((type, oldData, newData) -> {
+            String path = Optional.ofNullable(newData).or(() -> Optional.ofNullable(oldData)).
+                    map(ChildData::getPath).orElse(null);
+            String domain = StringUtils.substringBefore(StringUtils.substringAfter(path, CONF_PATH + '/'), "/");
+            if (StringUtils.isNotBlank(domain)) {
+                LOG.debug("Event {} received for {}", type, path);
+                listener.accept(domain);
+            }
+        });
+        cache.start();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (cache != null) {
+            cache.close();
+            cache = null;
+        }
+    }
+
     @Override
     public Map<String, Object> list(final String domain) {
         try {
@@ -28,6 +28,7 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.retry.ExponentialBackoffRetry;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.KeymasterProperties;
@@ -126,8 +127,15 @@ public class ZookeeperKeymasterClientContext {
 
     @Conditional(ZookeeperCondition.class)
     @Bean
-    public ConfParamOps selfConfParamOps(final CuratorFramework client) {
-        return new ZookeeperConfParamOps(client);
+    public ConfParamOps selfConfParamOps(final CuratorFramework client, final KeymasterProperties props) {
+        ZookeeperConfParamOps confParamOps = new ZookeeperConfParamOps(client);
+        if (props.getConfParamCacheTtl() <= 0) {
+            return confParamOps;
+        }
+
+        CachingConfParamOps cachingConfParamOps = new CachingConfParamOps(confParamOps, props.getConfParamCacheTtl());
+        confParamOps.watch(cachingConfParamOps::invalidate);
+        return cachingConfParamOps;
     }
 
     @Conditional(ZookeeperCondition.class)
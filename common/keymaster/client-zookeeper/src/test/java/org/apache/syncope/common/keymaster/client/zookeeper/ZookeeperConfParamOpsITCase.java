@@ -20,14 +20,19 @@ package org.apache.syncope.common.keymaster.client.zookeeper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +46,9 @@ public class ZookeeperConfParamOpsITCase {
     @Autowired
     private ConfParamOps confParamOps;
 
+    @Autowired
+    private CuratorFramework client;
+
     @Test
     public void list() {
         Map<String, Object> confParams = confParamOps.list(DOMAIN);
@@ -119,4 +127,53 @@ public class ZookeeperConfParamOpsITCase {
         assertNull(confParamOps.get(DOMAIN, key, null, String.class));
         assertEquals("defaultValue", confParamOps.get(DOMAIN, key, "defaultValue", String.class));
     }
+
+    @Test
+    public void cacheInvalidation() throws InterruptedException {
+        CachingConfParamOps cachingConfParamOps = assertInstanceOf(CachingConfParamOps.class, confParamOps);
+
+        String key = UUID.randomUUID().toString();
+        assertNull(confParamOps.get(DOMAIN, key, null, String.class));
+
+        long hits = cachingConfParamOps.getHits();
+        assertNull(confParamOps.get(DOMAIN, key, null, String.class));
+        assertEquals(hits + 1, cachingConfParamOps.getHits());
+
+        // update via another client, bypassing the local cache
+        new ZookeeperConfParamOps(client).set(DOMAIN, key, "stringValue");
+
+        String actual = null;
+        for (int i = 0; i < 50 && actual == null; i++) {
+            Thread.sleep(100);
+            actual = confParamOps.get(DOMAIN, key, null, String.class);
+        }
+        assertEquals("stringValue", actual);
+
+        confParamOps.remove(DOMAIN, key);
+    }
+
+    @Test
+    public void watchAndDestroy() throws InterruptedException {
+        String key = UUID.randomUUID().toString();
+
+        AtomicInteger notifications = new AtomicInteger();
+        ZookeeperConfParamOps watching = new ZookeeperConfParamOps(client);
+        watching.watch(domain -> notifications.incrementAndGet());
+
+        ZookeeperConfParamOps other = new ZookeeperConfParamOps(client);
+        other.set(DOMAIN, key, "stringValue");
+        for (int i = 0; i < 50 && notifications.get() == 0; i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(notifications.get() > 0);
+
+        // no more notifications once destroyed
+        watching.destroy();
+        notifications.set(0);
+        other.set(DOMAIN, key, "otherValue");
+        Thread.sleep(500);
+        assertEquals(0, notifications.get());
+
+        other.remove(DOMAIN, key);
+    }
 }
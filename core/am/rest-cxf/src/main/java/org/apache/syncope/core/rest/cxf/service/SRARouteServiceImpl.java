@@ -36,7 +36,9 @@ public class SRARouteServiceImpl extends AbstractService implements SRARouteServ
 
     @Override
     public List<SRARouteTO> list() {
-        return logic.list();
+        List<SRARouteTO> routes = logic.list();
+        checkNotModified(routes);
+        return routes;
     }
 
     @Override
@@ -35,7 +35,9 @@ public class WAClientAppServiceImpl extends AbstractService implements WAClientA
 
     @Override
     public List<WAClientApp> list() {
-        return logic.list();
+        List<WAClientApp> clientApps = logic.list();
+        checkNotModified(clientApps);
+        return clientApps;
     }
 
     @Override
@@ -604,14 +604,22 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         if (spec.getIgnorePaging()) {
             matching = new ArrayList<>();
 
-            long count = anySearchDAO.count(base, true, adminRealms, effectiveCond, anyType.getKind());
-            long pages = (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            for (int page = 0; page < pages; page++) {
-                matching.addAll(anySearchDAO.search(
+            if (pageable.getSort().isUnsorted()) {
+                anySearchDAO.<Any>scan(
                         base, true, adminRealms, effectiveCond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, pageable.getSort()),
-                        anyType.getKind()));
+                        AnyDAO.DEFAULT_PAGE_SIZE,
+                        anyType.getKind(),
+                        matching::addAll);
+            } else {
+                long count = anySearchDAO.count(base, true, adminRealms, effectiveCond, anyType.getKind());
+                long pages = (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+
+                for (int page = 0; page < pages; page++) {
+                    matching.addAll(anySearchDAO.search(
+                            base, true, adminRealms, effectiveCond,
+                            PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, pageable.getSort()),
+                            anyType.getKind()));
+                }
             }
         } else {
             matching = anySearchDAO.search(base, true, adminRealms, effectiveCond, pageable, anyType.getKind());
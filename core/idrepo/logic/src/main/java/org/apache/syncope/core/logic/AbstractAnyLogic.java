@@ -18,9 +18,13 @@
  */
 package org.apache.syncope.core.logic;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
@@ -29,18 +33,24 @@ import org.apache.syncope.common.lib.request.AnyUR;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.AnyVersionTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.core.logic.api.LogicActions;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U extends AnyUR>
@@ -216,14 +226,163 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
         return result;
     }
 
+    protected static OffsetDateTime getLastChange(final Any any) {
+        return any.getLastChangeDate() == null ? any.getCreationDate() : any.getLastChangeDate();
+    }
+
+    /**
+     * Sorts the given entities according to the order of the given keys.
+     *
+     * @param <A> entity type
+     * @param keys entity keys, in the expected order
+     * @param found entities, in any order
+     * @return given entities, sorted according to the order of the given keys
+     */
+    protected static <A extends Any> List<A> sortByKeys(final List<String> keys, final List<A> found) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            positions.put(keys.get(i), i);
+        }
+        return found.stream().sorted(Comparator.comparing(any -> positions.get(any.getKey()))).toList();
+    }
+
+    protected static AnyVersionTO getAnyVersionTO(final Any any) {
+        AnyVersionTO anyVersionTO = new AnyVersionTO();
+        anyVersionTO.setKey(any.getKey());
+        anyVersionTO.setType(any.getType().getKey());
+        anyVersionTO.setCreationDate(any.getCreationDate());
+        anyVersionTO.setLastChangeDate(any.getLastChangeDate());
+        return anyVersionTO;
+    }
+
+    /**
+     * Computes the total number of entities matching the given conditions, according to the given count mode.
+     * Whatever the count mode, when the given page is not full the total number is known without further queries;
+     * otherwise, {@link SearchCountMode#NONE} only checks whether one more entity follows the given page.
+     *
+     * @param searchDAO search DAO
+     * @param countMode count mode
+     * @param base base realm
+     * @param recursive whether to search in the given realm only or in all its descendants
+     * @param authRealms realms for which the caller owns the proper entitlement
+     * @param searchCond search conditions
+     * @param pageable pagination and sorting
+     * @param found number of entities found for the given page
+     * @param kind any type kind
+     * @return total number of matching entities: exact, estimated or lower bound, according to count mode
+     */
+    protected long count(
+            final AnySearchDAO searchDAO,
+            final SearchCountMode countMode,
+            final Realm base,
+            final boolean recursive,
+            final Set<String> authRealms,
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final int found,
+            final AnyTypeKind kind) {
+
+        if (countMode == SearchCountMode.EXACT) {
+            return searchDAO.count(base, recursive, authRealms, searchCond, kind);
+        }
+
+        long seen = pageable.isPaged() ? pageable.getOffset() + found : found;
+        if (pageable.isUnpaged()
+                || ((found > 0 || pageable.getOffset() == 0) && found < pageable.getPageSize())) {
+            return seen;
+        }
+
+        if (countMode == SearchCountMode.ESTIMATE) {
+            return Math.max(searchDAO.estimate(base, recursive, authRealms, searchCond, kind), seen);
+        }
+
+        return found == 0 || searchDAO.search(
+                base, recursive, authRealms, searchCond, PageRequest.of((int) seen, 1, pageable.getSort()), kind).
+                isEmpty() ? seen : seen + 1;
+    }
+
     public abstract TO read(String key);
 
+    /**
+     * Returns the last change date (or creation date if not available) of the entity with given key, subject to the
+     * same authorization checks as {@link #read(String)}.
+     *
+     * @param key entity key
+     * @return last change date of the entity with matching key
+     */
+    public abstract OffsetDateTime lastChange(String key);
+
+    /**
+     * Same as {@link #read(String)}, but only including the given plain and derived attributes.
+     *
+     * @param key entity key
+     * @param attrs plain or derived schema keys of the attributes to include, all if empty
+     * @return entity with matching key
+     */
+    public abstract TO read(String key, Set<String> attrs);
+
     public abstract Page<TO> search(
             SearchCond searchCond,
             Pageable pageable,
             String realm,
             boolean recursive,
-            boolean details);
+            boolean details,
+            Set<String> attrs,
+            SearchCountMode countMode);
+
+    /**
+     * Builds the full representation of the entities with given keys, as previously reported by
+     * {@link #versions(SearchCond, Pageable, String, boolean, SearchCountMode)}, subject to the same authorization
+     * checks as search; entities not found are skipped.
+     *
+     * @param keys entity keys
+     * @param realm base realm
+     * @param details whether to include all details or not
+     * @param attrs plain or derived schema keys of the attributes to include, all if empty
+     * @return entities with given keys, in the same order
+     */
+    public abstract List<TO> searchByKeys(List<String> keys, String realm, boolean details, Set<String> attrs);
+
+    /**
+     * Returns the page of entities matching the given conditions which follows the given position, as defined by
+     * {@link org.apache.syncope.core.persistence.api.dao.AnySearchDAO#searchAfter}; meant to walk through large
+     * result sets by invoking this method once per page, so that no persistence context grows beyond a single page.
+     *
+     * @param searchCond search conditions
+     * @param lastKey last key of the previous page, null for first page
+     * @param size page size
+     * @param realm base realm
+     * @param recursive whether to search in the given realm only or in all its descendants
+     * @param details whether to include all details or not
+     * @param attrs plain or derived schema keys of the attributes to include, all if empty
+     * @return the page of entities following the given position
+     */
+    public abstract AnySearchDAO.SearchAfterPage<TO> searchAfter(
+            SearchCond searchCond,
+            String lastKey,
+            int size,
+            String realm,
+            boolean recursive,
+            boolean details,
+            Set<String> attrs);
+
+    /**
+     * Same as {@link #search(SearchCond, Pageable, String, boolean, boolean, Set, SearchCountMode)} but only
+     * reporting key and change dates, thus saving the cost of building the full representation.
+     *
+     * @param searchCond search conditions
+     * @param pageable pagination and sorting
+     * @param realm base realm
+     * @param recursive whether to search in the given realm only or in all its descendants
+     * @param countMode how the total number of matching entities is computed
+     * @return matching entities, only reporting key and change dates
+     */
+    public abstract Page<AnyVersionTO> versions(
+            SearchCond searchCond,
+            Pageable pageable,
+            String realm,
+            boolean recursive,
+            SearchCountMode countMode);
 
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
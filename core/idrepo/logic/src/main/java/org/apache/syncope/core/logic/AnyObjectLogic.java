@@ -19,6 +19,7 @@
 package org.apache.syncope.core.logic;
 
 import java.lang.reflect.Method;
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -32,6 +33,7 @@ import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.common.lib.request.MembershipUR;
 import org.apache.syncope.common.lib.request.StringPatchItem;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
+import org.apache.syncope.common.lib.to.AnyVersionTO;
 import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
@@ -39,6 +41,7 @@ import org.apache.syncope.common.lib.types.AnyEntitlement;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -96,6 +99,18 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
         return binder.getAnyObjectTO(key);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public AnyObjectTO read(final String key, final Set<String> attrs) {
+        return binder.getAnyObjectTO(anyObjectDAO.authFind(key), true, attrs);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public OffsetDateTime lastChange(final String key) {
+        return getLastChange(anyObjectDAO.authFind(key));
+    }
+
     @Transactional(readOnly = true)
     public AnyObjectTO read(final String type, final String name) {
         return anyObjectDAO.findKey(type, name).
@@ -110,7 +125,9 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
             final Pageable pageable,
             final String realm,
             final boolean recursive,
-            final boolean details) {
+            final boolean details,
+            final Set<String> attrs,
+            final SearchCountMode countMode) {
 
         if (searchCond.hasAnyTypeCond() == null) {
             throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
@@ -123,14 +140,97 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
                 AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
                 realm);
 
-        long count = searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT);
-
         List<AnyObject> matching = searchDAO.search(
                 base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT);
         List<AnyObjectTO> result = matching.stream().
-                map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
+                map(anyObject -> binder.getAnyObjectTO(anyObject, details, attrs)).
                 toList();
 
+        long count = count(
+                searchDAO, countMode, base, recursive, authRealms, searchCond, pageable, result.size(),
+                AnyTypeKind.ANY_OBJECT);
+
+        return new SyncopePage<>(result, pageable, count);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AnyObjectTO> searchByKeys(
+            final List<String> keys,
+            final String realm,
+            final boolean details,
+            final Set<String> attrs) {
+
+        List<AnyObject> anyObjects = sortByKeys(keys, anyObjectDAO.findByKeys(keys));
+        anyObjects.forEach(anyObject -> anyObjectDAO.securityChecks(
+                RealmUtils.getEffective(
+                        AuthContextUtils.getAuthorizations().
+                                get(AnyEntitlement.SEARCH.getFor(anyObject.getType().getKey())),
+                        realm),
+                anyObject.getKey(),
+                anyObject.getRealm().getFullPath(),
+                anyObjectDAO.findAllGroupKeys(anyObject)));
+
+        return anyObjects.stream().map(anyObject -> binder.getAnyObjectTO(anyObject, details, attrs)).toList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public AnySearchDAO.SearchAfterPage<AnyObjectTO> searchAfter(
+            final SearchCond searchCond,
+            final String lastKey,
+            final int size,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final Set<String> attrs) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                realm);
+
+        AnySearchDAO.SearchAfterPage<AnyObject> matching = searchDAO.searchAfter(
+                base, recursive, authRealms, searchCond, lastKey, size, AnyTypeKind.ANY_OBJECT);
+        return matching.map(anyObject -> binder.getAnyObjectTO(anyObject, details, attrs));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyVersionTO> versions(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final SearchCountMode countMode) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                realm);
+
+        List<AnyObject> matching = searchDAO.search(
+                base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT);
+        List<AnyVersionTO> result = matching.stream().
+                map(AbstractAnyLogic::getAnyVersionTO).
+                toList();
+
+        long count = count(
+                searchDAO, countMode, base, recursive, authRealms, searchCond, pageable, result.size(),
+                AnyTypeKind.ANY_OBJECT);
+
         return new SyncopePage<>(result, pageable, count);
     }
 
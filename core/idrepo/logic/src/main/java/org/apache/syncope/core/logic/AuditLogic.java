@@ -59,6 +59,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.SystemPropertyUtils;
 
@@ -122,6 +124,25 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
                 orElseThrow(() -> new NotFoundException("AuditConf " + key));
     }
 
+    /**
+     * Evicts cached active audit configurations once the current transaction is committed, so that concurrent
+     * readers cannot cache again the state before commit.
+     */
+    protected void auditConfsChanged() {
+        String domain = AuthContextUtils.getDomain();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    auditManager.auditConfsChanged(domain);
+                }
+            });
+        } else {
+            auditManager.auditConfsChanged(domain);
+        }
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_SET + "')")
     public void setConf(final AuditConfTO auditTO) {
         AuditConf audit = auditConfDAO.findById(auditTO.getKey()).orElse(null);
@@ -131,6 +152,8 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         }
         audit.setActive(auditTO.isActive());
         auditConfDAO.save(audit);
+
+        auditConfsChanged();
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_DELETE + "')")
@@ -138,6 +161,8 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         AuditConf audit = auditConfDAO.findById(key).
                 orElseThrow(() -> new NotFoundException("AuditConf " + key));
         auditConfDAO.delete(audit);
+
+        auditConfsChanged();
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_LIST + "') "
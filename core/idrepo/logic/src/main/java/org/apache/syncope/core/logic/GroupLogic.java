@@ -30,6 +30,7 @@ import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
 import org.apache.syncope.common.lib.request.StringPatchItem;
+import org.apache.syncope.common.lib.to.AnyVersionTO;
 import org.apache.syncope.common.lib.to.ExecTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
@@ -40,6 +41,7 @@ import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.JobType;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ProvisionAction;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -143,6 +145,20 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
         return binder.getGroupTO(key);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_READ + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public GroupTO read(final String key, final Set<String> attrs) {
+        return binder.getGroupTO(groupDAO.authFind(key), true, attrs);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_READ + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public OffsetDateTime lastChange(final String key) {
+        return getLastChange(groupDAO.authFind(key));
+    }
+
     @PreAuthorize("isAuthenticated() and not(hasRole('" + IdRepoEntitlement.ANONYMOUS + "'))")
     @Transactional(readOnly = true)
     public List<GroupTO> own() {
@@ -164,7 +180,9 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             final Pageable pageable,
             final String realm,
             final boolean recursive,
-            final boolean details) {
+            final boolean details,
+            final Set<String> attrs,
+            final SearchCountMode countMode) {
 
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
@@ -174,14 +192,90 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP);
-
         List<Group> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP);
         List<GroupTO> result = matching.stream().
-                map(group -> binder.getGroupTO(group, details)).
+                map(group -> binder.getGroupTO(group, details, attrs)).
+                toList();
+
+        long count = count(
+                searchDAO, countMode, base, recursive, authRealms, effectiveCond, pageable, result.size(),
+                AnyTypeKind.GROUP);
+
+        return new SyncopePage<>(result, pageable, count);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public List<GroupTO> searchByKeys(
+            final List<String> keys,
+            final String realm,
+            final boolean details,
+            final Set<String> attrs) {
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        List<Group> groups = sortByKeys(keys, groupDAO.findByKeys(keys));
+        groups.forEach(group -> groupDAO.securityChecks(authRealms, group.getKey(), group.getRealm().getFullPath()));
+
+        return groups.stream().map(group -> binder.getGroupTO(group, details, attrs)).toList();
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public AnySearchDAO.SearchAfterPage<GroupTO> searchAfter(
+            final SearchCond searchCond,
+            final String lastKey,
+            final int size,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final Set<String> attrs) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
+
+        AnySearchDAO.SearchAfterPage<Group> matching = searchDAO.searchAfter(
+                base, recursive, authRealms, effectiveCond, lastKey, size, AnyTypeKind.GROUP);
+        return matching.map(group -> binder.getGroupTO(group, details, attrs));
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyVersionTO> versions(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final SearchCountMode countMode) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
+
+        List<Group> matching = searchDAO.search(
+                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP);
+        List<AnyVersionTO> result = matching.stream().
+                map(AbstractAnyLogic::getAnyVersionTO).
                 toList();
 
+        long count = count(
+                searchDAO, countMode, base, recursive, authRealms, effectiveCond, pageable, result.size(),
+                AnyTypeKind.GROUP);
+
         return new SyncopePage<>(result, pageable, count);
     }
 
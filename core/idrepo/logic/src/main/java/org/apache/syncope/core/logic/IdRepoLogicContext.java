@@ -88,12 +88,16 @@ import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.api.job.report.ReportResultStore;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.rules.RuleProvider;
+import org.apache.syncope.core.provisioning.java.job.StatsRegistry;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
+import org.apache.syncope.core.provisioning.java.job.report.ReportStats;
+import org.apache.syncope.core.provisioning.java.pushpull.DispatcherStats;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -237,9 +241,10 @@ public class IdRepoLogicContext {
     public DelegationLogic delegationLogic(
             final DelegationDataBinder binder,
             final UserDAO userDAO,
-            final DelegationDAO delegationDAO) {
+            final DelegationDAO delegationDAO,
+            final ApplicationEventPublisher publisher) {
 
-        return new DelegationLogic(binder, delegationDAO, userDAO);
+        return new DelegationLogic(binder, delegationDAO, userDAO, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -391,7 +396,9 @@ public class IdRepoLogicContext {
             final JobStatusDAO jobStatusDAO,
             final ReportDAO reportDAO,
             final EntityFactory entityFactory,
-            final ReportExecDAO reportExecDAO) {
+            final ReportExecDAO reportExecDAO,
+            final ReportResultStore reportResultStore,
+            final StatsRegistry<ReportStats> reportStats) {
 
         return new ReportLogic(
                 jobManager,
@@ -400,7 +407,9 @@ public class IdRepoLogicContext {
                 reportDAO,
                 reportExecDAO,
                 binder,
-                entityFactory);
+                entityFactory,
+                reportResultStore,
+                reportStats);
     }
 
     @ConditionalOnMissingBean
@@ -419,9 +428,10 @@ public class IdRepoLogicContext {
             final DerSchemaDAO derSchemaDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final ImplementationDAO implementationDAO,
-            final SchemaDataBinder binder) {
+            final SchemaDataBinder binder,
+            final ApplicationEventPublisher publisher) {
 
-        return new SchemaLogic(plainSchemaDAO, derSchemaDAO, anyTypeClassDAO, implementationDAO, binder);
+        return new SchemaLogic(plainSchemaDAO, derSchemaDAO, anyTypeClassDAO, implementationDAO, binder, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -472,7 +482,8 @@ public class IdRepoLogicContext {
             final NotificationJobDelegate notificationJobDelegate,
             final TaskDataBinder taskDataBinder,
             final TaskUtilsFactory taskUtilsFactory,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final StatsRegistry<DispatcherStats> dispatcherStats) {
 
         return new TaskLogic(
                 jobManager,
@@ -485,7 +496,8 @@ public class IdRepoLogicContext {
                 taskDataBinder,
                 taskExecutor,
                 notificationJobDelegate,
-                taskUtilsFactory);
+                taskUtilsFactory,
+                dispatcherStats);
     }
 
     @ConditionalOnMissingBean
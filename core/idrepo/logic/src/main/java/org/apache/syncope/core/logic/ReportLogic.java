@@ -19,7 +19,8 @@
 package org.apache.syncope.core.logic;
 
 import jakarta.ws.rs.core.Response;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.time.OffsetDateTime;
@@ -52,8 +53,11 @@ import org.apache.syncope.core.persistence.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.provisioning.api.data.ReportDataBinder;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
 import org.apache.syncope.core.provisioning.api.job.JobNamer;
+import org.apache.syncope.core.provisioning.api.job.report.ReportResultStore;
+import org.apache.syncope.core.provisioning.java.job.StatsRegistry;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.provisioning.java.job.report.ReportJob;
+import org.apache.syncope.core.provisioning.java.job.report.ReportStats;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -70,6 +74,10 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
     protected final EntityFactory entityFactory;
 
+    protected final ReportResultStore resultStore;
+
+    protected final StatsRegistry<ReportStats> reportStats;
+
     public ReportLogic(
             final JobManager jobManager,
             final SyncopeTaskScheduler scheduler,
@@ -77,7 +85,9 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
             final ReportDAO reportDAO,
             final ReportExecDAO reportExecDAO,
             final ReportDataBinder binder,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final ReportResultStore resultStore,
+            final StatsRegistry<ReportStats> reportStats) {
 
         super(jobManager, scheduler, jobStatusDAO);
 
@@ -85,6 +95,8 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         this.reportExecDAO = reportExecDAO;
         this.binder = binder;
         this.entityFactory = entityFactory;
+        this.resultStore = resultStore;
+        this.reportStats = reportStats;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_CREATE + "')")
@@ -202,6 +214,12 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
                 + Strings.CS.removeStart(reportExec.getReport().getFileExt(), ".");
     }
 
+    protected static SyncopeClientException invalidReportExec(final String message) {
+        SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidReportExec);
+        sce.getElements().add(message);
+        return sce;
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_READ + "')")
     @Transactional(readOnly = true)
     public void exportExecutionResult(
@@ -211,23 +229,20 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         ReportExec reportExec = reportExecDAO.findById(executionKey).
                 orElseThrow(() -> new NotFoundException("ReportExec " + executionKey));
 
-        if (reportExec.getExecResult() == null || !ReportJob.Status.SUCCESS.name().equals(reportExec.getStatus())) {
-            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidReportExec);
-            sce.getElements().add(reportExec.getExecResult() == null
-                    ? "No report data produced"
-                    : "Report did not run successfully");
-            throw sce;
+        if (!ReportJob.Status.SUCCESS.name().equals(reportExec.getStatus())) {
+            throw invalidReportExec("Report did not run successfully");
         }
 
-        // streaming output from a compressed byte array stream
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(reportExec.getExecResult());
-                ZipInputStream zis = new ZipInputStream(bais)) {
+        // streaming output from the compressed stored result
+        try (InputStream result = resultStore.open(reportExec).
+                orElseThrow(() -> invalidReportExec("No report data produced"));
+                ZipInputStream zis = new ZipInputStream(result)) {
 
             // a single ZipEntry in the ZipInputStream
             zis.getNextEntry();
 
             zis.transferTo(os);
-        } catch (Exception e) {
+        } catch (IOException e) {
             LOG.error("While exporting content", e);
         }
     }
@@ -239,6 +254,8 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         ReportTO deletedReport = binder.getReportTO(report);
         jobManager.unregister(report);
+        report.getExecs().forEach(resultStore::delete);
+        reportStats.remove(AuthContextUtils.getDomain(), report.getKey());
         reportDAO.delete(report);
         return deletedReport;
     }
@@ -276,6 +293,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
                 orElseThrow(() -> new NotFoundException("ReportExec " + executionKey));
 
         ExecTO reportExecToDelete = binder.getExecTO(reportExec);
+        resultStore.delete(reportExec);
         reportExecDAO.delete(reportExec);
         return reportExecToDelete;
     }
@@ -298,6 +316,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
             batchResponseItems.add(item);
 
             try {
+                resultStore.delete(exec);
                 reportExecDAO.delete(exec);
                 item.setStatus(Response.Status.OK.getStatusCode());
             } catch (Exception e) {
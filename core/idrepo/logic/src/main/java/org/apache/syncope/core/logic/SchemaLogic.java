@@ -49,7 +49,11 @@ import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Schema;
 import org.apache.syncope.core.provisioning.api.data.SchemaDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -65,6 +69,8 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
 
     protected final SchemaDataBinder binder;
 
+    protected final ApplicationEventPublisher publisher;
+
     protected final Map<String, DropdownValueProvider> perContextDropdownValueProviders = new ConcurrentHashMap<>();
 
     public SchemaLogic(
@@ -72,13 +78,15 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
             final DerSchemaDAO derSchemaDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final ImplementationDAO implementationDAO,
-            final SchemaDataBinder binder) {
+            final SchemaDataBinder binder,
+            final ApplicationEventPublisher publisher) {
 
         this.plainSchemaDAO = plainSchemaDAO;
         this.derSchemaDAO = derSchemaDAO;
         this.anyTypeClassDAO = anyTypeClassDAO;
         this.implementationDAO = implementationDAO;
         this.binder = binder;
+        this.publisher = publisher;
     }
 
     @SuppressWarnings("unchecked")
@@ -121,14 +129,18 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
 
             case PLAIN:
             default:
-                created = (T) binder.getPlainSchemaTO(binder.create((PlainSchemaTO) schemaTO).getKey());
+                PlainSchema plainSchema = binder.create((PlainSchemaTO) schemaTO);
+                created = (T) binder.getPlainSchemaTO(plainSchema.getKey());
+
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.CREATE, plainSchema, AuthContextUtils.getDomain()));
         }
         return created;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.SCHEMA_DELETE + "')")
     public void delete(final SchemaType schemaType, final String schemaKey) {
-        findById(schemaType, schemaKey).
+        Schema schema = findById(schemaType, schemaKey).
                 orElseThrow(() -> new NotFoundException(schemaType + ": " + schemaKey));
 
         switch (schemaType) {
@@ -139,6 +151,9 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
             case PLAIN:
             default:
                 plainSchemaDAO.deleteById(schemaKey);
+
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.DELETE, schema, AuthContextUtils.getDomain()));
         }
     }
 
@@ -209,8 +224,12 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
             case DERIVED ->
                 binder.update((DerSchemaTO) schemaTO, (DerSchema) schema);
 
-            case PLAIN ->
-                binder.update((PlainSchemaTO) schemaTO, (PlainSchema) schema);
+            case PLAIN -> {
+                PlainSchema plainSchema = binder.update((PlainSchemaTO) schemaTO, (PlainSchema) schema);
+
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, plainSchema, AuthContextUtils.getDomain()));
+            }
 
             default -> {
             }
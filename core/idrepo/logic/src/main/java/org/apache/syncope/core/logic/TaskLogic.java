@@ -72,8 +72,10 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationJobDele
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.provisioning.java.job.MacroJobDelegate;
+import org.apache.syncope.core.provisioning.java.job.StatsRegistry;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
+import org.apache.syncope.core.provisioning.java.pushpull.DispatcherStats;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.ObjectClass;
@@ -101,6 +103,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
     protected final TaskUtilsFactory taskUtilsFactory;
 
+    protected final StatsRegistry<DispatcherStats> dispatcherStats;
+
     public TaskLogic(
             final JobManager jobManager,
             final SyncopeTaskScheduler scheduler,
@@ -112,7 +116,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             final TaskDataBinder binder,
             final PropagationTaskExecutor taskExecutor,
             final NotificationJobDelegate notificationJobDelegate,
-            final TaskUtilsFactory taskUtilsFactory) {
+            final TaskUtilsFactory taskUtilsFactory,
+            final StatsRegistry<DispatcherStats> dispatcherStats) {
 
         super(jobManager, scheduler, jobStatusDAO);
 
@@ -124,6 +129,7 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
         this.taskExecutor = taskExecutor;
         this.notificationJobDelegate = notificationJobDelegate;
         this.taskUtilsFactory = taskUtilsFactory;
+        this.dispatcherStats = dispatcherStats;
     }
 
     protected void securityChecks(final String entitlement, final String realm) {
@@ -423,6 +429,12 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
             jobManager.unregister(task);
         }
+        if (TaskType.LIVE_SYNC == taskUtils.getType()
+                || TaskType.PULL == taskUtils.getType()
+                || TaskType.PUSH == taskUtils.getType()) {
+
+            dispatcherStats.remove(AuthContextUtils.getDomain(), task.getKey());
+        }
 
         taskDAO.delete(task);
         return taskToDelete;
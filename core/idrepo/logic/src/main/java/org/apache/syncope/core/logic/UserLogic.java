@@ -38,6 +38,7 @@ import org.apache.syncope.common.lib.request.StatusR;
 import org.apache.syncope.common.lib.request.StringPatchItem;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.AnyVersionTO;
 import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
@@ -47,6 +48,7 @@ import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.common.rest.api.beans.ComplianceQuery;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
 import org.apache.syncope.core.persistence.api.attrvalue.InvalidEntityException;
@@ -169,6 +171,20 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
         return binder.getUserTO(key);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_READ + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public UserTO read(final String key, final Set<String> attrs) {
+        return binder.getUserTO(userDAO.authFind(key), true, attrs);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_READ + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public OffsetDateTime lastChange(final String key) {
+        return getLastChange(userDAO.authFind(key));
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
     @Transactional(readOnly = true)
     @Override
@@ -177,7 +193,9 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
             final Pageable pageable,
             final String realm,
             final boolean recursive,
-            final boolean details) {
+            final boolean details,
+            final Set<String> attrs,
+            final SearchCountMode countMode) {
 
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
@@ -187,14 +205,91 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
 
         SearchCond effectiveCond = searchCond == null ? userDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER);
-
         List<User> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER);
         List<UserTO> result = matching.stream().
-                map(user -> binder.getUserTO(user, details)).
+                map(user -> binder.getUserTO(user, details, attrs)).
+                toList();
+
+        long count = count(
+                searchDAO, countMode, base, recursive, authRealms, effectiveCond, pageable, result.size(),
+                AnyTypeKind.USER);
+
+        return new SyncopePage<>(result, pageable, count);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserTO> searchByKeys(
+            final List<String> keys,
+            final String realm,
+            final boolean details,
+            final Set<String> attrs) {
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        List<User> users = sortByKeys(keys, userDAO.findByKeys(keys));
+        users.forEach(user -> userDAO.securityChecks(
+                authRealms, user.getKey(), user.getRealm().getFullPath(), userDAO.findAllGroupKeys(user)));
+
+        return users.stream().map(user -> binder.getUserTO(user, details, attrs)).toList();
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public AnySearchDAO.SearchAfterPage<UserTO> searchAfter(
+            final SearchCond searchCond,
+            final String lastKey,
+            final int size,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final Set<String> attrs) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? userDAO.getAllMatchingCond() : searchCond;
+
+        AnySearchDAO.SearchAfterPage<User> matching = searchDAO.searchAfter(
+                base, recursive, authRealms, effectiveCond, lastKey, size, AnyTypeKind.USER);
+        return matching.map(user -> binder.getUserTO(user, details, attrs));
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyVersionTO> versions(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final SearchCountMode countMode) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? userDAO.getAllMatchingCond() : searchCond;
+
+        List<User> matching = searchDAO.search(
+                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER);
+        List<AnyVersionTO> result = matching.stream().
+                map(AbstractAnyLogic::getAnyVersionTO).
                 toList();
 
+        long count = count(
+                searchDAO, countMode, base, recursive, authRealms, effectiveCond, pageable, result.size(),
+                AnyTypeKind.USER);
+
         return new SyncopePage<>(result, pageable, count);
     }
 
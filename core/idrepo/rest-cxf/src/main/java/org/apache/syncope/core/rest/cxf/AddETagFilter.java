@@ -25,18 +25,47 @@ import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.RuntimeDelegate;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.EntityTO;
+import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 
 /**
- * Adds the {@code ETag} header to any response containing an instance of {@link AnyTO} as entity.
+ * Adds the {@code ETag} and {@code Last-Modified} headers to any response containing an instance of {@link AnyTO} as
+ * entity.
  * The actual ETag value is computed on the basis of last change date (or creation date if not available).
+ * Paged results of {@link AnyTO} instances are given a weak ETag, computed on the basis of total count and of the
+ * ETag values of all the contained items.
  */
 @Provider
 public class AddETagFilter implements ContainerResponseFilter {
 
+    /**
+     * Computes the weak ETag of a page of results.
+     *
+     * @param totalCount total number of results
+     * @param items key and ETag value of each item in the page
+     * @return weak ETag for the given page
+     */
+    public static EntityTag pageETag(final long totalCount, final List<String> items) {
+        StringBuilder value = new StringBuilder().append(totalCount);
+        items.forEach(item -> value.append(';').append(item));
+        return new EntityTag(
+                UUID.nameUUIDFromBytes(value.toString().getBytes(StandardCharsets.UTF_8)).toString(), true);
+    }
+
+    protected static void addETag(final ContainerResponseContext resCtx, final EntityTag etag) {
+        resCtx.getHeaders().add(
+                HttpHeaders.ETAG,
+                RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).toString(etag));
+    }
+
     @Override
     public void filter(final ContainerRequestContext reqCtx, final ContainerResponseContext resCtx) {
         if (resCtx.getEntityTag() == null) {
@@ -48,14 +77,30 @@ public class AddETagFilter implements ContainerResponseFilter {
                 if (entity instanceof AnyTO anyTO) {
                     annotated = anyTO;
                 }
+            } else if (resCtx.getEntity() instanceof final PagedResult<?> pagedResult
+                    && !pagedResult.getResult().isEmpty()
+                    && pagedResult.getResult().stream().allMatch(AnyTO.class::isInstance)) {
+
+                addETag(resCtx, pageETag(
+                        pagedResult.getTotalCount(),
+                        pagedResult.getResult().stream().
+                                map(AnyTO.class::cast).
+                                map(any -> any.getKey() + ':' + any.getETagValue()).
+                                toList()));
             }
             if (annotated != null) {
                 String etagValue = annotated.getETagValue();
                 if (StringUtils.isNotBlank(etagValue)) {
+                    addETag(resCtx, new EntityTag(etagValue));
+                }
+
+                OffsetDateTime lastModified = annotated.getLastChangeDate() == null
+                        ? annotated.getCreationDate() : annotated.getLastChangeDate();
+                if (lastModified != null && resCtx.getLastModified() == null) {
                     resCtx.getHeaders().add(
-                            HttpHeaders.ETAG,
-                            RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).
-                                    toString(new EntityTag(etagValue)));
+                            HttpHeaders.LAST_MODIFIED,
+                            RuntimeDelegate.getInstance().createHeaderDelegate(Date.class).
+                                    toString(Date.from(lastModified.toInstant())));
                 }
             }
         }
@@ -28,7 +28,17 @@ public class RESTProperties {
     @NestedConfigurationProperty
     private final ExecutorProperties batchExecutor = new ExecutorProperties();
 
+    private int batchConcurrency = 10;
+
     public ExecutorProperties getBatchExecutor() {
         return batchExecutor;
     }
+
+    public int getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
+    public void setBatchConcurrency(final int batchConcurrency) {
+        this.batchConcurrency = batchConcurrency;
+    }
 }
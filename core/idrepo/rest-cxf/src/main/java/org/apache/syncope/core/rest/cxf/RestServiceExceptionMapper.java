@@ -22,6 +22,7 @@ import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.RollbackException;
 import jakarta.validation.ValidationException;
+import jakarta.ws.rs.RedirectionException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
@@ -88,6 +89,11 @@ public class RestServiceExceptionMapper implements ExceptionMapper<Exception> {
 
     @Override
     public Response toResponse(final Exception ex) {
+        if (ex instanceof final RedirectionException redirectionException) {
+            // not an error, e.g. 304 Not Modified as response to conditional GET
+            return redirectionException.getResponse();
+        }
+
         if (ex instanceof NotFoundException) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Exception thrown", ex);
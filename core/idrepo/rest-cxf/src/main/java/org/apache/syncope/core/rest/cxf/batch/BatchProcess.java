@@ -23,7 +23,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.transport.http.AbstractHTTPDestination;
 import org.apache.cxf.transport.http.DestinationRegistry;
 import org.apache.syncope.common.rest.api.batch.BatchPayloadGenerator;
@@ -31,6 +38,7 @@ import org.apache.syncope.common.rest.api.batch.BatchRequestItem;
 import org.apache.syncope.common.rest.api.batch.BatchResponseItem;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.dao.BatchDAO;
+import org.apache.syncope.core.rest.cxf.RESTProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +52,9 @@ public class BatchProcess implements Runnable {
     @Autowired
     private BatchDAO batchDAO;
 
+    @Autowired
+    private RESTProperties props;
+
     private String boundary;
 
     private String scheme;
@@ -72,6 +83,8 @@ public class BatchProcess implements Runnable {
 
     private Authentication authentication;
 
+    private boolean parallel;
+
     public void setBoundary(final String boundary) {
         this.boundary = boundary;
     }
@@ -128,51 +141,124 @@ public class BatchProcess implements Runnable {
         this.authentication = authentication;
     }
 
-    @Override
-    public void run() {
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    public void setParallel(final boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the path prefix identifying the entity the given request item refers to - as {@code users/{key}} - or
+     * {@code null} for items not referring to any specific entity - as {@code users} for creation.
+     *
+     * @param reqItem request item
+     * @return path prefix identifying the entity the given request item refers to, or {@code null}
+     */
+    private static String pathKey(final BatchRequestItem reqItem) {
+        String[] segments = StringUtils.split(StringUtils.substringBefore(reqItem.getRequestURI(), '?'), '/');
+        return segments.length < 2 ? null : segments[0] + '/' + segments[1];
+    }
 
-        List<BatchResponseItem> batchResponseItems = new ArrayList<>(batchRequestItems.size());
+    private BatchResponseItem process(final BatchRequestItem reqItem) {
+        LOG.debug("Batch Request item:\n{}", reqItem);
+
+        AbstractHTTPDestination dest = destinationRegistry.getDestinationForPath(reqItem.getRequestURI(), true);
+        if (dest == null) {
+            dest = destinationRegistry.checkRestfulRequest(reqItem.getRequestURI());
+        }
+        LOG.debug("Destination found for {}: {}", reqItem.getRequestURI(), dest);
+
+        BatchResponseItem resItem = new BatchResponseItem();
+        if (dest == null) {
+            resItem.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        } else {
+            BatchItemRequest request = new BatchItemRequest(
+                    scheme, serverName, serverPort, contextPath, servletPath, pathInfo, characterEncoding,
+                    baseURI, servletRequest, reqItem);
+            BatchItemResponse response = new BatchItemResponse();
+            try {
+                dest.invoke(servletConfig, servletConfig.getServletContext(), request, response);
+
+                resItem.setStatus(response.getStatus());
+                resItem.setHeaders(response.getHeaders());
+                String output = new String(response.getUnderlyingOutputStream().toByteArray());
+                if (!output.isEmpty()) {
+                    resItem.setContent(output);
+                }
 
-        batchRequestItems.forEach(reqItem -> {
-            LOG.debug("Batch Request item:\n{}", reqItem);
+                LOG.debug("Returned:\nstatus: {}\nheaders: {}\nbody:\n{}",
+                        response.getStatus(), response.getHeaders(), output);
+            } catch (IOException e) {
+                LOG.error("Invocation of {} failed", dest.getPath(), e);
 
-            AbstractHTTPDestination dest = destinationRegistry.getDestinationForPath(reqItem.getRequestURI(), true);
-            if (dest == null) {
-                dest = destinationRegistry.checkRestfulRequest(reqItem.getRequestURI());
+                resItem.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             }
-            LOG.debug("Destination found for {}: {}", reqItem.getRequestURI(), dest);
+        }
 
-            BatchResponseItem resItem = new BatchResponseItem();
-            batchResponseItems.add(resItem);
-            if (dest == null) {
-                resItem.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            } else {
-                BatchItemRequest request = new BatchItemRequest(
-                        scheme, serverName, serverPort, contextPath, servletPath, pathInfo, characterEncoding,
-                        baseURI, servletRequest, reqItem);
-                BatchItemResponse response = new BatchItemResponse();
-                try {
-                    dest.invoke(servletConfig, servletConfig.getServletContext(), request, response);
+        LOG.debug("Batch Response item:\n{}", resItem);
+        return resItem;
+    }
 
-                    resItem.setStatus(response.getStatus());
-                    resItem.setHeaders(response.getHeaders());
-                    String output = new String(response.getUnderlyingOutputStream().toByteArray());
-                    if (!output.isEmpty()) {
-                        resItem.setContent(output);
-                    }
+    /**
+     * Executes request items on virtual threads, up to the configured concurrency; items referring to the same entity
+     * are chained, and executed in the given order.
+     *
+     * @return response items, in the same order as request items
+     */
+    private List<BatchResponseItem> processParallel() {
+        List<List<Integer>> chains = new ArrayList<>();
+        Map<String, List<Integer>> byPathKey = new LinkedHashMap<>();
+        for (int i = 0; i < batchRequestItems.size(); i++) {
+            String pathKey = pathKey(batchRequestItems.get(i));
+            if (pathKey == null) {
+                chains.add(List.of(i));
+            } else {
+                byPathKey.computeIfAbsent(pathKey, k -> {
+                    List<Integer> chain = new ArrayList<>();
+                    chains.add(chain);
+                    return chain;
+                }).add(i);
+            }
+        }
+        LOG.debug("Executing {} items in {} chains", batchRequestItems.size(), chains.size());
 
-                    LOG.debug("Returned:\nstatus: {}\nheaders: {}\nbody:\n{}",
-                            response.getStatus(), response.getHeaders(), output);
-                } catch (IOException e) {
-                    LOG.error("Invocation of {} failed", dest.getPath(), e);
+        BatchResponseItem[] batchResponseItems = new BatchResponseItem[batchRequestItems.size()];
+        Semaphore permits = new Semaphore(Math.max(1, props.getBatchConcurrency()));
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("Batch-" + boundary + "-", 0).factory())) {
 
-                    resItem.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            chains.forEach(chain -> executor.execute(() -> {
+                permits.acquireUninterruptibly();
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                try {
+                    chain.forEach(i -> {
+                        try {
+                            batchResponseItems[i] = process(batchRequestItems.get(i));
+                        } catch (Exception e) {
+                            LOG.error("While processing {}", batchRequestItems.get(i), e);
+
+                            batchResponseItems[i] = new BatchResponseItem();
+                            batchResponseItems[i].setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        }
+                    });
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    permits.release();
                 }
-            }
+            }));
+        }
+
+        return Arrays.asList(batchResponseItems);
+    }
+
+    @Override
+    public void run() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            LOG.debug("Batch Response item:\n{}", resItem);
-        });
+        List<BatchResponseItem> batchResponseItems;
+        if (parallel && batchRequestItems.size() > 1) {
+            batchResponseItems = processParallel();
+        } else {
+            batchResponseItems = batchRequestItems.stream().map(this::process).toList();
+        }
 
         String results = BatchPayloadGenerator.generate(batchResponseItems, JAXRSService.DOUBLE_DASH + boundary);
 
@@ -18,10 +18,23 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
@@ -30,12 +43,14 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.jackson.SyncopeJsonMapper;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyUR;
 import org.apache.syncope.common.lib.request.AttrPatch;
 import org.apache.syncope.common.lib.request.ResourceAR;
 import org.apache.syncope.common.lib.request.ResourceDR;
 import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.AnyVersionTO;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -52,16 +67,50 @@ import org.apache.syncope.common.rest.api.service.AnyService;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.logic.AbstractAnyLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SyncopePage;
+import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.rest.cxf.AddETagFilter;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.CollectionUtils;
 
 public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR extends AnyUR>
         extends AbstractSearchService implements AnyService<TO> {
 
+    protected static final JsonMapper JSON_MAPPER = new SyncopeJsonMapper();
+
+    protected static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    protected static String csvValue(final AnyTO any, final JsonNode node, final String column) {
+        return any.getPlainAttr(column).or(() -> any.getDerAttr(column)).
+                map(attr -> String.join(";", attr.getValues())).
+                orElseGet(() -> csvValue(node.get(column)));
+    }
+
+    protected static String csvValue(final JsonNode field) {
+        if (field == null || field.isNull()) {
+            return null;
+        }
+        if (field.isArray()) {
+            List<String> values = new ArrayList<>();
+            field.forEach(value -> values.add(value.isValueNode() ? value.asText() : value.toString()));
+            return String.join(";", values);
+        }
+        return field.isValueNode() ? field.asText() : field.toString();
+    }
+
+    protected static Set<String> attrs(final AnyQuery anyQuery) {
+        return CollectionUtils.isEmpty(anyQuery.getAttrs()) ? Set.of() : new HashSet<>(anyQuery.getAttrs());
+    }
+
     public AbstractAnyService(final SearchCondVisitor searchCondVisitor) {
         super(searchCondVisitor);
     }
@@ -109,7 +158,17 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
 
     @Override
     public TO read(final String key) {
-        return getAnyLogic().read(findActualKey(getAnyDAO(), key));
+        String actualKey = findActualKey(getAnyDAO(), key);
+
+        if (isConditionalGet()) {
+            OffsetDateTime lastChange = getAnyLogic().lastChange(actualKey);
+            checkNotModified(new EntityTag(String.valueOf(lastChange.toInstant().toEpochMilli())), lastChange);
+        }
+
+        List<String> attrs = uriInfo.getQueryParameters().get(PARAM_ATTRS);
+        return CollectionUtils.isEmpty(attrs)
+                ? getAnyLogic().read(actualKey)
+                : getAnyLogic().read(actualKey, new HashSet<>(attrs));
     }
 
     @Override
@@ -119,12 +178,156 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                 ? null
                 : getSearchCond(anyQuery.getFiql(), realm);
         try {
-            Page<TO> result = getAnyLogic().search(
+            Page<TO> result;
+            // If-Modified-Since is not considered here, as it cannot reveal entities deleted since then
+            if (messageContext.getHttpServletRequest().getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+                result = getAnyLogic().search(
+                        searchCond,
+                        pageable(anyQuery),
+                        realm,
+                        anyQuery.getRecursive(),
+                        anyQuery.getDetails(),
+                        attrs(anyQuery),
+                        anyQuery.getCount());
+            } else {
+                // only keys and change dates are needed to compare the page ETag: the page is built afterwards,
+                // and only if modified
+                Page<AnyVersionTO> versions = getAnyLogic().versions(
+                        searchCond,
+                        pageable(anyQuery),
+                        realm,
+                        anyQuery.getRecursive(),
+                        anyQuery.getCount());
+                if (versions.hasContent()) {
+                    checkNotModified(AddETagFilter.pageETag(
+                            versions.getTotalElements(),
+                            versions.get().map(version -> version.getKey() + ':' + version.getETagValue()).toList()),
+                            null);
+                }
+
+                result = new SyncopePage<>(
+                        getAnyLogic().searchByKeys(
+                                versions.get().map(AnyVersionTO::getKey).toList(),
+                                realm,
+                                anyQuery.getDetails(),
+                                attrs(anyQuery)),
+                        versions.getPageable(),
+                        versions.getTotalElements());
+            }
+
+            return buildPagedResult(result);
+        } catch (IllegalArgumentException e) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
+            sce.getElements().add(anyQuery.getFiql());
+            sce.getElements().add(ExceptionUtils.getRootCauseMessage(e));
+            throw sce;
+        }
+    }
+
+    @Override
+    public Response stream(final AnyQuery anyQuery, final List<String> columns) {
+        String realm = Strings.CS.prependIfMissing(anyQuery.getRealm(), SyncopeConstants.ROOT_REALM);
+        SearchCond searchCond = StringUtils.isBlank(anyQuery.getFiql())
+                ? null
+                : getSearchCond(anyQuery.getFiql(), realm);
+        boolean csv = Optional.ofNullable(messageContext.getHttpServletRequest().getHeader(HttpHeaders.ACCEPT)).
+                filter(accept -> accept.contains(RESTHeaders.TEXT_CSV)).
+                isPresent();
+        List<String> effectiveColumns = CollectionUtils.isEmpty(columns) ? List.of("key") : columns;
+
+        // the first chunk is fetched here, so that errors can still be reported as usual
+        AnySearchDAO.SearchAfterPage<TO> first;
+        try {
+            first = getAnyLogic().searchAfter(
+                    searchCond,
+                    null,
+                    AnyDAO.DEFAULT_PAGE_SIZE,
+                    realm,
+                    anyQuery.getRecursive(),
+                    anyQuery.getDetails(),
+                    attrs(anyQuery));
+        } catch (IllegalArgumentException e) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
+            sce.getElements().add(anyQuery.getFiql());
+            sce.getElements().add(ExceptionUtils.getRootCauseMessage(e));
+            throw sce;
+        }
+
+        StreamingOutput sout = os -> {
+            SequenceWriter csvWriter = null;
+            if (csv) {
+                CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+                effectiveColumns.forEach(schema::addColumn);
+                csvWriter = CSV_MAPPER.writer(schema.build()).
+                        without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).
+                        writeValues(os);
+            }
+
+            AnySearchDAO.SearchAfterPage<TO> chunk = first;
+            while (true) {
+                for (TO any : chunk.result()) {
+                    if (csvWriter == null) {
+                        os.write(JSON_MAPPER.writeValueAsBytes(any));
+                        os.write('\n');
+                    } else {
+                        JsonNode node = JSON_MAPPER.valueToTree(any);
+                        Map<String, String> row = new LinkedHashMap<>();
+                        effectiveColumns.forEach(column -> row.put(column, csvValue(any, node, column)));
+                        csvWriter.write(row);
+                    }
+                }
+                if (csvWriter != null) {
+                    csvWriter.flush();
+                }
+                os.flush();
+
+                // a chunk might be shorter than requested when some hits are no longer available: only stop once
+                // the underlying search has returned fewer hits than requested
+                if (!chunk.hasNext(AnyDAO.DEFAULT_PAGE_SIZE)) {
+                    break;
+                }
+
+                chunk = getAnyLogic().searchAfter(
+                        searchCond,
+                        chunk.lastKey(),
+                        AnyDAO.DEFAULT_PAGE_SIZE,
+                        realm,
+                        anyQuery.getRecursive(),
+                        anyQuery.getDetails(),
+                        attrs(anyQuery));
+            }
+
+            if (csvWriter != null) {
+                csvWriter.close();
+            }
+        };
+        return Response.ok(sout).
+                type(csv ? RESTHeaders.TEXT_CSV_TYPE : RESTHeaders.APPLICATION_NDJSON_TYPE).
+                build();
+    }
+
+    @Override
+    public PagedResult<AnyVersionTO> changes(final OffsetDateTime since, final AnyQuery anyQuery) {
+        String realm = Strings.CS.prependIfMissing(anyQuery.getRealm(), SyncopeConstants.ROOT_REALM);
+        SearchCond searchCond = StringUtils.isBlank(anyQuery.getFiql())
+                ? null
+                : getSearchCond(anyQuery.getFiql(), realm);
+        if (since != null) {
+            AnyCond sinceCond = new AnyCond(AttrCond.Type.GE);
+            sinceCond.setSchema("lastChangeDate");
+            sinceCond.setExpression(FormatUtils.format(since));
+
+            searchCond = searchCond == null
+                    ? SearchCond.of(sinceCond)
+                    : SearchCond.and(searchCond, SearchCond.of(sinceCond));
+        }
+        try {
+            Page<AnyVersionTO> result = getAnyLogic().versions(
                     searchCond,
-                    pageable(anyQuery),
+                    pageable(anyQuery, Sort.by(Sort.Order.asc("lastChangeDate"), Sort.Order.asc("id"))),
                     realm,
                     anyQuery.getRecursive(),
-                    anyQuery.getDetails());
+                    anyQuery.getCount());
             return buildPagedResult(result);
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
@@ -18,14 +18,21 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import jakarta.ws.rs.RedirectionException;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.ext.MessageContext;
@@ -43,6 +50,8 @@ import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.rest.cxf.AddETagFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -214,6 +223,52 @@ public abstract class AbstractService implements JAXRSService {
         }
     }
 
+    /**
+     * @return whether the current request carries any of the {@code If-None-Match} or {@code If-Modified-Since}
+     * headers
+     */
+    protected boolean isConditionalGet() {
+        return messageContext.getHttpServletRequest().getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || messageContext.getHttpServletRequest().getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Evaluates the conditional GET headers from the current request against the given values, and interrupts the
+     * request processing with {@code 304 Not Modified} if the representation was not changed.
+     *
+     * @param etag current ETag value
+     * @param lastModified current last modification date, can be null
+     */
+    protected void checkNotModified(final EntityTag etag, final OffsetDateTime lastModified) {
+        Response.ResponseBuilder builder = lastModified == null
+                ? messageContext.getRequest().evaluatePreconditions(etag)
+                : messageContext.getRequest().evaluatePreconditions(
+                        Date.from(lastModified.truncatedTo(ChronoUnit.SECONDS).toInstant()), etag);
+        if (builder != null) {
+            Response response = builder.build();
+            if (response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                throw new RedirectionException(response);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #checkNotModified(EntityTag, OffsetDateTime)}, for lists of items carrying no version
+     * information: the weak ETag is computed over the content of all the given items, and set on the response.
+     *
+     * @param items items to be returned
+     */
+    protected void checkNotModified(final List<? extends BaseBean> items) {
+        EntityTag etag = AddETagFilter.pageETag(
+                items.size(),
+                items.stream().
+                        map(item -> POJOHelper.serialize(item).getBytes(StandardCharsets.UTF_8)).
+                        map(content -> UUID.nameUUIDFromBytes(content).toString()).
+                        toList());
+        checkNotModified(etag, null);
+        messageContext.getHttpServletResponse().setHeader(HttpHeaders.ETAG, etag.toString());
+    }
+
     /**
      * Builds a paged result out of page.
      *
@@ -22,8 +22,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -62,11 +65,14 @@ import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.common.rest.api.DateParamConverterProvider;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.AnyObjectService;
 import org.apache.syncope.core.logic.AnyObjectLogic;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
@@ -119,7 +125,8 @@ public class AnyObjectServiceTest {
 
             AnyObjectLogic logic = mock(AnyObjectLogic.class);
             when(logic.search(
-                    any(SearchCond.class), any(Pageable.class), anyString(), anyBoolean(), anyBoolean())).
+                    any(SearchCond.class), any(Pageable.class), anyString(), anyBoolean(), anyBoolean(), anySet(),
+                    any(SearchCountMode.class))).
                     thenAnswer(ic -> {
                         AnyObjectTO printer1 = new AnyObjectTO();
                         printer1.setKey(UUID.randomUUID().toString());
@@ -135,6 +142,30 @@ public class AnyObjectServiceTest {
 
                         return new SyncopePage<>(List.of(printer1, printer2), ic.getArgument(1), 2);
                     });
+            // first chunk is short as some hits are no longer available, but streaming shall not stop there
+            when(logic.searchAfter(
+                    any(SearchCond.class), isNull(), anyInt(),
+                    anyString(), anyBoolean(), anyBoolean(), anySet())).
+                    thenAnswer(ic -> {
+                        AnyObjectTO printer1 = new AnyObjectTO();
+                        printer1.setKey(UUID.randomUUID().toString());
+                        printer1.setName("printer1");
+                        printer1.setType("PRINTER");
+
+                        return new AnySearchDAO.SearchAfterPage<>(
+                                List.of(printer1), AnyDAO.DEFAULT_PAGE_SIZE, "stale");
+                    });
+            when(logic.searchAfter(
+                    any(SearchCond.class), eq("stale"), anyInt(),
+                    anyString(), anyBoolean(), anyBoolean(), anySet())).
+                    thenAnswer(ic -> {
+                        AnyObjectTO printer2 = new AnyObjectTO();
+                        printer2.setKey(UUID.randomUUID().toString());
+                        printer2.setName("printer2");
+                        printer2.setType("PRINTER");
+
+                        return new AnySearchDAO.SearchAfterPage<>(List.of(printer2), 1, printer2.getKey());
+                    });
             when(logic.create(any(AnyObjectCR.class), anyBoolean())).thenAnswer(ic -> {
                 AnyObjectTO anyObjectTO = new AnyObjectTO();
                 EntityTOUtils.toAnyTO(ic.getArgument(0), anyObjectTO);
@@ -228,6 +259,23 @@ public class AnyObjectServiceTest {
         checkList(list);
     }
 
+    @Test
+    public void stream() throws IOException {
+        Response response = client(RESTHeaders.APPLICATION_NDJSON_TYPE).
+                path("search/stream").
+                query("fiql", "$type==PRINTER").
+                get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        List<String> lines = IOUtils.toString((InputStream) response.getEntity()).lines().toList();
+        assertEquals(2, lines.size());
+
+        AnyObjectTO printer1 = new SyncopeJsonMapper().readValue(lines.getFirst(), AnyObjectTO.class);
+        assertEquals("printer1", printer1.getName());
+        AnyObjectTO printer2 = new SyncopeJsonMapper().readValue(lines.getLast(), AnyObjectTO.class);
+        assertEquals("printer2", printer2.getName());
+    }
+
     @Test
     public void create() {
         AnyObjectCR newPrinter = new AnyObjectCR();
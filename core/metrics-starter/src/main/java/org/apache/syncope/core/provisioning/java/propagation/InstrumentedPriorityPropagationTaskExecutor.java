@@ -19,13 +19,18 @@
 package org.apache.syncope.core.provisioning.java.propagation;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import java.util.Collection;
+import java.util.stream.Stream;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
@@ -63,6 +68,49 @@ public class InstrumentedPriorityPropagationTaskExecutor extends PriorityPropaga
                 auditManager, taskDataBinder, anyUtilsFactory, taskUtilsFactory, outboundMatcher, validator, publisher,
                 taskExecutor);
         this.meterRegistry = meterRegistry;
+
+        FunctionCounter.builder("syncope.propagation.coalesced", this,
+                InstrumentedPriorityPropagationTaskExecutor::getCoalesced).
+                description("The total number of connector calls avoided by merging pending propagation tasks").
+                register(meterRegistry);
+    }
+
+    @Override
+    public void expireRetryTemplate(final String resource) {
+        // gauges are bound to the current bulkhead and circuit breaker, which are about to be dropped
+        Tags tags = Tags.of("resource", resource);
+        Stream.of("syncope.propagation.inflight", "syncope.propagation.waiting", "syncope.propagation.breaker.state").
+                forEach(name -> meterRegistry.find(name).tags(tags).meters().forEach(meterRegistry::remove));
+
+        super.expireRetryTemplate(resource);
+    }
+
+    @Override
+    protected ResourceBulkhead newBulkhead(final String resource, final int maxConcurrency) {
+        ResourceBulkhead bulkhead = super.newBulkhead(resource, maxConcurrency);
+
+        Gauge.builder("syncope.propagation.inflight", bulkhead, ResourceBulkhead::getInFlight).
+                description("The number of propagation tasks currently running").
+                tag("resource", resource).
+                register(meterRegistry);
+        Gauge.builder("syncope.propagation.waiting", bulkhead, ResourceBulkhead::getWaiting).
+                description("The number of propagation tasks waiting for a running task to complete").
+                tag("resource", resource).
+                register(meterRegistry);
+
+        return bulkhead;
+    }
+
+    @Override
+    protected ResourceCircuitBreaker newCircuitBreaker(final String resource, final PropagationPolicy policy) {
+        ResourceCircuitBreaker breaker = super.newCircuitBreaker(resource, policy);
+
+        Gauge.builder("syncope.propagation.breaker.state", breaker, b -> b.getState().ordinal()).
+                description("The circuit breaker state: 0 for closed, 1 for half-open, 2 for open").
+                tag("resource", resource).
+                register(meterRegistry);
+
+        return breaker;
     }
 
     @Override
@@ -82,4 +130,27 @@ public class InstrumentedPriorityPropagationTaskExecutor extends PriorityPropaga
 
         return reporter;
     }
+
+    @Override
+    protected void remoteReadSkipped(final PropagationTaskInfo taskInfo, final boolean latest) {
+        super.remoteReadSkipped(taskInfo, latest);
+
+        Counter.builder("syncope.propagation.reads.skipped").
+                description("The total number of remote object reads saved during propagation").
+                tag("resource", taskInfo.getResource().getKey()).
+                tag("when", latest ? "after" : "before").
+                register(meterRegistry).
+                increment();
+    }
+
+    @Override
+    protected void circuitOpen(final PropagationTaskInfo taskInfo) {
+        super.circuitOpen(taskInfo);
+
+        Counter.builder("syncope.propagation.rejected").
+                description("The total number of propagation attempts failed fast by the circuit breaker").
+                tag("resource", taskInfo.getResource().getKey()).
+                register(meterRegistry).
+                increment();
+    }
 }
@@ -71,6 +71,8 @@ public class InstrumentedAuthDataAccessor extends AuthDataAccessor {
     protected static final Function<String, String> DISABLED_DESC =
             type -> "The total number of disabled users attempting to perform " + type + " login";
 
+    protected static final String AUTHORITIES_CACHE = "syncope.auth.authorities.cache";
+
     protected final MeterRegistry meterRegistry;
 
     public InstrumentedAuthDataAccessor(
@@ -97,6 +99,22 @@ public class InstrumentedAuthDataAccessor extends AuthDataAccessor {
         this.meterRegistry = meterRegistry;
     }
 
+    @Override
+    protected void authoritiesCacheHit() {
+        Counter.builder(AUTHORITIES_CACHE + ".hits").
+                description("The total number of authority sets found in cache").
+                register(meterRegistry).
+                increment();
+    }
+
+    @Override
+    protected void authoritiesCacheMiss() {
+        Counter.builder(AUTHORITIES_CACHE + ".misses").
+                description("The total number of authority sets computed because not found in cache").
+                register(meterRegistry).
+                increment();
+    }
+
     @Override
     public UsernamePasswordAuthResult authenticate(final String domain, final Authentication authentication) {
         try {
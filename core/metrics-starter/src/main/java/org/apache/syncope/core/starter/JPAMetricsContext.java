@@ -19,17 +19,21 @@
 package org.apache.syncope.core.starter;
 
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.List;
 import javax.sql.DataSource;
 import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.jpa.dao.QueryPlanCache;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.actuate.metrics.data.MetricsRepositoryMethodInvocationListener;
 import org.springframework.boot.actuate.metrics.jdbc.DataSourcePoolMetrics;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.jdbc.metadata.DataSourcePoolMetadataProvidersConfiguration;
 import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
 import org.springframework.context.annotation.Bean;
@@ -60,6 +64,25 @@ public class JPAMetricsContext {
         };
     }
 
+    @ConditionalOnMissingBean(name = "queryPlanCacheMeterBinder")
+    @Bean
+    public MeterBinder queryPlanCacheMeterBinder(final ObjectProvider<QueryPlanCache> queryPlanCache) {
+        return registry -> queryPlanCache.ifAvailable(cache -> {
+            Gauge.builder("syncope.search.plan.cache.size", cache, QueryPlanCache::getSize).
+                    description("The number of native search queries currently cached").
+                    register(registry);
+            FunctionCounter.builder("syncope.search.plan.cache.hits", cache, QueryPlanCache::getHits).
+                    description("The total number of native search queries found in cache").
+                    register(registry);
+            FunctionCounter.builder("syncope.search.plan.cache.misses", cache, QueryPlanCache::getMisses).
+                    description("The total number of native search queries generated as not found in cache").
+                    register(registry);
+            FunctionCounter.builder("syncope.search.plan.cache.invalidations", cache, QueryPlanCache::getInvalidations).
+                    description("The total number of times cached native search queries were discarded").
+                    register(registry);
+        });
+    }
+
     @Bean
     public static BeanPostProcessor jpaRepositoryFactoryBeanPostProcessor(
             final ObjectProvider<MetricsRepositoryMethodInvocationListener> metricsRepositoryMethodInvocationListener) {
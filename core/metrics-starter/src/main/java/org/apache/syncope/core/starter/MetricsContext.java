@@ -18,8 +18,14 @@
  */
 package org.apache.syncope.core.starter;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.cxf.metrics.MetricsFeature;
 import org.apache.cxf.metrics.MetricsProvider;
 import org.apache.cxf.metrics.micrometer.MicrometerMetricsProperties;
@@ -30,6 +36,7 @@ import org.apache.cxf.metrics.micrometer.provider.StandardTags;
 import org.apache.cxf.metrics.micrometer.provider.StandardTagsProvider;
 import org.apache.cxf.metrics.micrometer.provider.jaxrs.JaxrsOperationTagsCustomizer;
 import org.apache.cxf.metrics.micrometer.provider.jaxrs.JaxrsTags;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
@@ -49,9 +56,15 @@ import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
+import org.apache.syncope.core.provisioning.api.jexl.JexlCache;
+import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.DefaultAuditManager;
+import org.apache.syncope.core.provisioning.java.job.StatsRegistry;
+import org.apache.syncope.core.provisioning.java.job.report.ReportStats;
 import org.apache.syncope.core.provisioning.java.propagation.InstrumentedPriorityPropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.pushpull.DispatcherStats;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.spring.security.AuthDataAccessor;
@@ -68,6 +81,32 @@ import org.springframework.core.task.AsyncTaskExecutor;
 @Configuration(proxyBeanMethods = false)
 public class MetricsContext {
 
+    protected static void bindJexlCache(final MeterRegistry registry, final String type, final JexlCache<?> cache) {
+        Gauge.builder("syncope.jexl.cache.size", cache, JexlCache::size).
+                description("The number of compiled JEXL " + type + "s currently cached").
+                tag("type", type).
+                register(registry);
+        FunctionCounter.builder("syncope.jexl.cache.hits", cache, JexlCache::getHits).
+                description("The total number of JEXL " + type + "s found in cache").
+                tag("type", type).
+                register(registry);
+        FunctionCounter.builder("syncope.jexl.cache.evictions", cache, JexlCache::getEvictions).
+                description("The total number of JEXL " + type + "s evicted from cache").
+                tag("type", type).
+                register(registry);
+        FunctionTimer.builder("syncope.jexl.cache.compile", cache,
+                JexlCache::getMisses, JexlCache::getCompileTime, TimeUnit.NANOSECONDS).
+                description("The time spent compiling JEXL " + type + "s not found in cache").
+                tag("type", type).
+                register(registry);
+    }
+
+    protected static void removeMeters(final MeterRegistry registry, final Tags tags, final String... names) {
+        for (String name : names) {
+            registry.find(name).tags(tags).meters().forEach(registry::remove);
+        }
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public MetricsFeature metricsFeature(final MeterRegistry meterRegistry) {
@@ -81,6 +120,118 @@ public class MetricsContext {
         return new MetricsFeature(metricsProvider);
     }
 
+    @ConditionalOnMissingBean(name = "jexlToolsMeterBinder")
+    @Bean
+    public MeterBinder jexlToolsMeterBinder(final JexlTools jexlTools) {
+        return registry -> {
+            bindJexlCache(registry, "expression", jexlTools.getExpressionCache());
+            bindJexlCache(registry, "template", jexlTools.getTemplateCache());
+        };
+    }
+
+    @ConditionalOnMissingBean(name = "auditManagerMeterBinder")
+    @Bean
+    public MeterBinder auditManagerMeterBinder(final AuditManager auditManager) {
+        return registry -> {
+            if (auditManager instanceof DefaultAuditManager defaultAuditManager) {
+                Gauge.builder("syncope.audit.queue", defaultAuditManager, DefaultAuditManager::getQueueDepth).
+                        description("The number of audit events waiting to be stored").
+                        register(registry);
+                FunctionCounter.builder("syncope.audit.dropped", defaultAuditManager, DefaultAuditManager::getDropped).
+                        description("The total number of audit events discarded because of the queue being full").
+                        register(registry);
+                FunctionCounter.builder("syncope.audit.spilled", defaultAuditManager, DefaultAuditManager::getSpilled).
+                        description("The total number of audit events spilled to local file because of the queue "
+                                + "being full").
+                        register(registry);
+            }
+        };
+    }
+
+    @ConditionalOnMissingBean(name = "confParamOpsMeterBinder")
+    @Bean
+    public MeterBinder confParamOpsMeterBinder(final ConfParamOps confParamOps) {
+        return registry -> {
+            if (confParamOps instanceof CachingConfParamOps cachingConfParamOps) {
+                FunctionCounter.builder("syncope.confparam.cache.hits",
+                        cachingConfParamOps, CachingConfParamOps::getHits).
+                        description("The total number of configuration parameters found in cache").
+                        register(registry);
+                FunctionCounter.builder("syncope.confparam.cache.misses",
+                        cachingConfParamOps, CachingConfParamOps::getMisses).
+                        description("The total number of configuration parameters read from Keymaster").
+                        register(registry);
+                FunctionCounter.builder("syncope.confparam.cache.invalidations",
+                        cachingConfParamOps, CachingConfParamOps::getInvalidations).
+                        description("The total number of domain snapshots discarded because of changes").
+                        register(registry);
+            }
+        };
+    }
+
+    @ConditionalOnMissingBean(name = "dispatcherMeterBinder")
+    @Bean
+    public MeterBinder dispatcherMeterBinder(final StatsRegistry<DispatcherStats> dispatcherStats) {
+        return registry -> dispatcherStats.listen(new StatsRegistry.Listener<>() {
+
+            @Override
+            public void added(final String domain, final String taskKey, final DispatcherStats stats) {
+                Gauge.builder("syncope.pushpull.queue", stats, DispatcherStats::getQueueDepth).
+                        description("The number of items waiting to be processed by push / pull handlers").
+                        tag("domain", domain).
+                        tag("task", taskKey).
+                        register(registry);
+                FunctionTimer.builder("syncope.pushpull.handled", stats,
+                        DispatcherStats::getProcessed, DispatcherStats::getProcessingTime, TimeUnit.NANOSECONDS).
+                        description("The items processed by push / pull handlers").
+                        tag("domain", domain).
+                        tag("task", taskKey).
+                        register(registry);
+            }
+
+            @Override
+            public void removed(final String domain, final String taskKey, final DispatcherStats stats) {
+                removeMeters(registry, Tags.of("domain", domain, "task", taskKey),
+                        "syncope.pushpull.queue", "syncope.pushpull.handled");
+            }
+        });
+    }
+
+    @ConditionalOnMissingBean(name = "reportMeterBinder")
+    @Bean
+    public MeterBinder reportMeterBinder(final StatsRegistry<ReportStats> reportStats) {
+        return registry -> reportStats.listen(new StatsRegistry.Listener<>() {
+
+            @Override
+            public void added(final String domain, final String reportKey, final ReportStats stats) {
+                FunctionTimer.builder("syncope.report.execution", stats,
+                        ReportStats::getExecutions, ReportStats::getExecutionTime, TimeUnit.NANOSECONDS).
+                        description("The report executions").
+                        tag("domain", domain).
+                        tag("report", reportKey).
+                        register(registry);
+                FunctionCounter.builder("syncope.report.output", stats, ReportStats::getOutputSize).
+                        description("The total size of compressed output produced by report executions").
+                        baseUnit("bytes").
+                        tag("domain", domain).
+                        tag("report", reportKey).
+                        register(registry);
+                Gauge.builder("syncope.report.output.last", stats, ReportStats::getLastOutputSize).
+                        description("The size of compressed output produced by the latest report execution").
+                        baseUnit("bytes").
+                        tag("domain", domain).
+                        tag("report", reportKey).
+                        register(registry);
+            }
+
+            @Override
+            public void removed(final String domain, final String reportKey, final ReportStats stats) {
+                removeMeters(registry, Tags.of("domain", domain, "report", reportKey),
+                        "syncope.report.execution", "syncope.report.output", "syncope.report.output.last");
+            }
+        });
+    }
+
     @ConditionalOnMissingBean(name = "instrumentedAuthDataAccessor")
     @Bean(name = { "authDataAccessor", "instrumentedAuthDataAccessor" })
     public AuthDataAccessor instrumentedAuthDataAccessor(
@@ -20,6 +20,8 @@ package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -29,6 +31,30 @@ import org.springframework.data.domain.Sort;
 
 public interface AnySearchDAO {
 
+    /**
+     * Page of results as returned by {@link #searchAfter}.
+     *
+     * @param result results found
+     * @param hits number of hits returned by the underlying search: this can be greater than the number of results,
+     * as hits referring to any objects no longer available are skipped
+     * @param lastKey key of the last hit, to be provided for fetching the next page
+     * @param <E> result type
+     */
+    record SearchAfterPage<E>(List<E> result, int hits, String lastKey) {
+
+        /**
+         * @param pageSize requested page size
+         * @return whether more pages might follow
+         */
+        public boolean hasNext(final int pageSize) {
+            return hits >= pageSize;
+        }
+
+        public <R> SearchAfterPage<R> map(final Function<E, R> mapper) {
+            return new SearchAfterPage<>(result.stream().map(mapper).toList(), hits, lastKey);
+        }
+    }
+
     /**
      * @param base Realm to start searching from
      * @param recursive whether search should recursively include results from child Realms
@@ -44,6 +70,25 @@ public interface AnySearchDAO {
             SearchCond searchCondition,
             AnyTypeKind kind);
 
+    /**
+     * Estimates the number of any objects matching the given search condition, for when an exact count is not
+     * required; depending on the underlying storage, the value returned might come from query planner statistics,
+     * from a recent exact count or be a lower bound.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param kind any object
+     * @return estimated size of search result
+     */
+    long estimate(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            AnyTypeKind kind);
+
     /**
      * @param searchCondition the search condition
      * @param kind any object
@@ -78,4 +123,56 @@ public interface AnySearchDAO {
             SearchCond searchCondition,
             Pageable pageable,
             AnyTypeKind kind);
+
+    /**
+     * Searches for the page of any objects matching the given search condition which follows the given position.
+     * Any objects are returned by key order, starting after the given last key rather than at an offset; this allows
+     * to walk through all matching any objects, possibly across several transactions, without the cost of fetching a
+     * page growing with the number of pages already walked through.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param lastKey {@link SearchAfterPage#lastKey()} of the previous page, null for first page
+     * @param pageSize maximum number of hits to return
+     * @param kind any object
+     * @param <T> any
+     * @return the page of any objects following the given position; walking through shall only stop when
+     * {@link SearchAfterPage#hasNext(int)} returns false, as any objects no longer available might make a page
+     * shorter than the requested size
+     */
+    <T extends Any> SearchAfterPage<T> searchAfter(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            String lastKey,
+            int pageSize,
+            AnyTypeKind kind);
+
+    /**
+     * Scans all any objects matching the given search condition, page by page and with no upfront count.
+     * Pages are fetched by key order, each starting after the last key of the previous one rather than at an
+     * offset, so that the cost of fetching a page does not grow with the number of pages already scanned, and
+     * changes to the matching set while scanning do not cause any object to be skipped.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param pageSize maximum number of any objects per page
+     * @param kind any object
+     * @param consumer invoked for each page, returns whether scanning shall continue
+     * @param <T> any
+     * @return whether all pages were scanned, e.g. consumer never returned false
+     */
+    <T extends Any> boolean scan(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            int pageSize,
+            AnyTypeKind kind,
+            Predicate<List<T>> consumer);
 }
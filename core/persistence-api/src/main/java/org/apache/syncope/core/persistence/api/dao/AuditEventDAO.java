@@ -29,6 +29,16 @@ public interface AuditEventDAO {
 
     AuditEvent save(AuditEvent auditEvent);
 
+    /**
+     * Stores the given audit events; implementations are expected to do so more efficiently than by invoking
+     * {@link #save(AuditEvent)} for each.
+     *
+     * @param auditEvents audit events to store
+     */
+    default void saveAll(List<AuditEvent> auditEvents) {
+        auditEvents.forEach(this::save);
+    }
+
     long count(
             String entityKey,
             OpEvent.CategoryType type,
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.policy.Policy;
@@ -35,6 +36,22 @@ public interface ExternalResourceDAO extends DAO<ExternalResource> {
                 count() > 0;
     }
 
+    /**
+     * Tells whether any resource other than the given one can be provisioned with any object of the given types or
+     * with realms, e.g. whether changes made while pulling from the given resource may be propagated elsewhere.
+     *
+     * @param resource resource to exclude
+     * @param anyTypes any types
+     * @param realms whether realms shall be considered as well
+     * @return whether any resource other than the given one provisions the given any types or realms
+     */
+    default boolean anyOtherProvisioning(ExternalResource resource, Set<String> anyTypes, boolean realms) {
+        return findAll().stream().
+                filter(other -> !other.getKey().equals(resource.getKey())).
+                anyMatch(other -> (realms && other.getOrgUnit() != null)
+                || other.getProvisions().stream().anyMatch(provision -> anyTypes.contains(provision.getAnyType())));
+    }
+
     List<ExternalResource> findByConnInstance(String connInstance);
 
     List<ExternalResource> findByProvisionSorter(Implementation provisionSorter);
@@ -26,6 +26,10 @@ public interface PropagationPolicy extends Policy {
 
     void setFetchAroundProvisioning(boolean fetchAroundProvisioning);
 
+    boolean isFetchAfterProvisioning();
+
+    void setFetchAfterProvisioning(boolean fetchAfterProvisioning);
+
     boolean isUpdateDelta();
 
     void setUpdateDelta(boolean updateDelta);
@@ -41,4 +45,24 @@ public interface PropagationPolicy extends Policy {
     int getMaxAttempts();
 
     void setMaxAttempts(int maxAttempts);
+
+    int getCoalescingWindow();
+
+    void setCoalescingWindow(int coalescingWindow);
+
+    int getMaxConcurrency();
+
+    void setMaxConcurrency(int maxConcurrency);
+
+    int getBreakerFailureThreshold();
+
+    void setBreakerFailureThreshold(int breakerFailureThreshold);
+
+    int getBreakerSlowCallThreshold();
+
+    void setBreakerSlowCallThreshold(int breakerSlowCallThreshold);
+
+    int getBreakerOpenDuration();
+
+    void setBreakerOpenDuration(int breakerOpenDuration);
 }
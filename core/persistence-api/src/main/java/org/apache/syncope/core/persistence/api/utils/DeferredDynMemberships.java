@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.core.persistence.api.entity.Any;
+
+/**
+ * Allows to defer, for the current thread, the refresh of dynamic role and realm memberships which is otherwise
+ * performed upon each save of users, groups and any objects; this is meant for callers saving many entities
+ * within the same transaction, as pull tasks processing chunks of connector objects.
+ * Dynamic group memberships are never deferred, as their changes drive propagation.
+ */
+public final class DeferredDynMemberships {
+
+    private static final ThreadLocal<Map<String, Any>> PENDING = new ThreadLocal<>();
+
+    /**
+     * Starts collecting, for the current thread, the entities whose dynamic memberships need refresh.
+     */
+    public static void begin() {
+        PENDING.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Records the given entity for later refresh, if deferral was started for the current thread.
+     *
+     * @param any entity just saved
+     * @return whether refresh was deferred, hence it shall not be performed by the caller
+     */
+    public static boolean defer(final Any any) {
+        Map<String, Any> pending = PENDING.get();
+        if (pending == null) {
+            return false;
+        }
+
+        pending.put(any.getKey(), any);
+        return true;
+    }
+
+    /**
+     * Stops deferral for the current thread.
+     *
+     * @return the entities whose dynamic memberships need refresh, in save order
+     */
+    public static List<Any> end() {
+        Map<String, Any> pending = PENDING.get();
+        PENDING.remove();
+        return pending == null ? List.of() : new ArrayList<>(pending.values());
+    }
+
+    private DeferredDynMemberships() {
+        // private constructor for static utility class
+    }
+}
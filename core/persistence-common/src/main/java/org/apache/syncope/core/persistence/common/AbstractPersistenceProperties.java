@@ -26,6 +26,12 @@ public abstract class AbstractPersistenceProperties<D extends AbstractDomainProp
 
     private String indexesXML = "classpath:META-INF/indexes.xml";
 
+    /**
+     * Seconds during which exact search counts are cached, to be returned when estimates are requested;
+     * 0 to disable caching.
+     */
+    private long searchCountCacheTtl = 60;
+
     @NestedConfigurationProperty
     private final List<D> domain = new ArrayList<>();
 
@@ -37,6 +43,14 @@ public abstract class AbstractPersistenceProperties<D extends AbstractDomainProp
         this.indexesXML = indexesXML;
     }
 
+    public long getSearchCountCacheTtl() {
+        return searchCountCacheTtl;
+    }
+
+    public void setSearchCountCacheTtl(final long searchCountCacheTtl) {
+        this.searchCountCacheTtl = searchCountCacheTtl;
+    }
+
     public List<D> getDomain() {
         return domain;
     }
@@ -26,9 +26,14 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
@@ -56,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
@@ -69,6 +75,20 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
 
     }
 
+    protected record CountCacheKey(
+            String domain,
+            AnyTypeKind kind,
+            String base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond cond) {
+
+    }
+
+    protected record CachedCount(long count, long expiresAt) {
+
+    }
+
     protected static final Logger LOG = LoggerFactory.getLogger(AnySearchDAO.class);
 
     protected static final String ALWAYS_FALSE_CLAUSE = "1=2";
@@ -79,6 +99,8 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
 
     protected static final String[] RELATIONSHIP_FIELDS = { "realm", "userOwner", "groupOwner" };
 
+    protected static final int COUNT_CACHE_MAX_SIZE = 1000;
+
     protected static SearchCond buildEffectiveCond(
             final SearchCond cond,
             final Set<String> dynRealmKeys,
@@ -166,6 +188,16 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
 
     protected final PlainAttrValidationManager validator;
 
+    /**
+     * Validity of cached counts, in nanoseconds.
+     */
+    protected final long countCacheTtl;
+
+    /**
+     * Recently computed exact counts, returned as estimates until expired.
+     */
+    protected final Map<CountCacheKey, CachedCount> countCache = new ConcurrentHashMap<>();
+
     public AbstractAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final DynRealmDAO dynRealmDAO,
@@ -175,7 +207,8 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
             final PlainSchemaDAO plainSchemaDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
-            final PlainAttrValidationManager validator) {
+            final PlainAttrValidationManager validator,
+            final long countCacheTtl) {
 
         this.realmSearchDAO = realmSearchDAO;
         this.dynRealmDAO = dynRealmDAO;
@@ -186,6 +219,7 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
         this.entityFactory = entityFactory;
         this.anyUtilsFactory = anyUtilsFactory;
         this.validator = validator;
+        this.countCacheTtl = TimeUnit.SECONDS.toNanos(countCacheTtl);
     }
 
     protected abstract long doCount(
@@ -213,6 +247,79 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
         return doCount(base, recursive, adminRealms, cond, kind);
     }
 
+    /**
+     * Returns the exact count computed for the same parameters within the configured TTL, if any; otherwise, computes
+     * and caches it. Override to take advantage of cheaper estimates provided by the underlying storage.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param kind any object
+     * @return estimated size of search result
+     */
+    protected long doEstimate(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        if (countCacheTtl <= 0) {
+            return doCount(base, recursive, adminRealms, cond, kind);
+        }
+
+        // search conditions might be altered while counting, hence the copy
+        CountCacheKey key = new CountCacheKey(
+                AuthContextUtils.getDomain(),
+                kind,
+                base.getFullPath(),
+                recursive,
+                Set.copyOf(adminRealms),
+                SerializationUtils.clone(cond));
+
+        CachedCount cached = countCache.get(key);
+        if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+            return cached.count();
+        }
+
+        long count = doCount(base, recursive, adminRealms, cond, kind);
+
+        long now = System.nanoTime();
+        if (countCache.size() >= COUNT_CACHE_MAX_SIZE) {
+            countCache.values().removeIf(c -> c.expiresAt() - now <= 0);
+            if (countCache.size() >= COUNT_CACHE_MAX_SIZE) {
+                LOG.debug("Count cache is full, clearing");
+                countCache.clear();
+            }
+        }
+        countCache.put(key, new CachedCount(count, now + countCacheTtl));
+
+        return count;
+    }
+
+    @Override
+    public long estimate(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        if (CollectionUtils.isEmpty(adminRealms)) {
+            LOG.error("No realms provided");
+            return 0;
+        }
+
+        LOG.debug("Search condition:\n{}", cond);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return 0;
+        }
+
+        return doEstimate(base, recursive, adminRealms, cond, kind);
+    }
+
     @Override
     public <T extends Any> List<T> search(final SearchCond cond, final AnyTypeKind kind) {
         return search(cond, List.of(), kind);
@@ -231,7 +338,17 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
                 kind);
     }
 
-    protected abstract <T extends Any> List<T> doSearch(
+    /**
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param pageable paging information
+     * @param kind any object
+     * @return the keys of any objects matching the given search condition (in the given page), as returned by the
+     * underlying storage
+     */
+    protected abstract List<String> doSearchKeys(
             Realm base,
             boolean recursive,
             Set<String> adminRealms,
@@ -379,11 +496,7 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
     }
 
     @SuppressWarnings("unchecked")
-    protected <T extends Any> List<T> buildResult(final List<Object> raw, final AnyTypeKind kind) {
-        List<String> keys = raw.stream().
-                map(key -> key instanceof Object[] array ? (String) (array)[0] : ((String) key)).
-                toList();
-
+    protected <T extends Any> List<T> buildResult(final List<String> keys, final AnyTypeKind kind) {
         // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual query results
         List<Any> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
                 sorted(Comparator.comparing(any -> keys.indexOf(any.getKey()))).toList();
@@ -394,8 +507,7 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
         return (List<T>) anys;
     }
 
-    @Override
-    public <T extends Any> List<T> search(
+    protected List<String> searchKeys(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -424,7 +536,7 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
                     toList();
         }
 
-        return doSearch(
+        return doSearchKeys(
                 base,
                 recursive,
                 adminRealms,
@@ -434,4 +546,68 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
                 : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
                 kind);
     }
+
+    @Override
+    public <T extends Any> List<T> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        return buildResult(searchKeys(base, recursive, adminRealms, cond, pageable, kind), kind);
+    }
+
+    @Override
+    public <T extends Any> SearchAfterPage<T> searchAfter(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String lastKey,
+            final int pageSize,
+            final AnyTypeKind kind) {
+
+        SearchCond pageCond = cond;
+        if (lastKey != null) {
+            AnyCond after = new AnyCond(AttrCond.Type.GT);
+            after.setSchema("key");
+            after.setExpression(lastKey);
+            pageCond = SearchCond.and(cond, SearchCond.of(after));
+        }
+
+        List<String> keys = searchKeys(
+                base,
+                recursive,
+                adminRealms,
+                pageCond,
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.ASC, "id")),
+                kind);
+        return new SearchAfterPage<>(buildResult(keys, kind), keys.size(), keys.isEmpty() ? lastKey : keys.getLast());
+    }
+
+    @Override
+    public <T extends Any> boolean scan(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final int pageSize,
+            final AnyTypeKind kind,
+            final Predicate<List<T>> consumer) {
+
+        String lastKey = null;
+        while (true) {
+            SearchAfterPage<T> page = searchAfter(base, recursive, adminRealms, cond, lastKey, pageSize, kind);
+            if (!page.result().isEmpty() && !consumer.test(page.result())) {
+                return false;
+            }
+            if (!page.hasNext(pageSize)) {
+                return true;
+            }
+
+            lastKey = page.lastKey();
+        }
+    }
 }
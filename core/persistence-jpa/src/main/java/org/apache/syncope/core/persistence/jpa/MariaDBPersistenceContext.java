@@ -32,6 +32,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.jpa.dao.MariaDBJPAAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.QueryPlanCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.MariaDBPlainSchemaRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PlainSchemaRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.MariaDBEntityFactory;
@@ -65,7 +66,9 @@ public class MariaDBPersistenceContext {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final PersistenceProperties props,
+            final QueryPlanCache queryPlanCache) {
 
         return new MariaDBJPAAnySearchDAO(
                 realmSearchDAO,
@@ -78,7 +81,9 @@ public class MariaDBPersistenceContext {
                 anyUtilsFactory,
                 validator,
                 entityManagerFactory,
-                entityManager);
+                entityManager,
+                props.getSearchCountCacheTtl(),
+                queryPlanCache);
     }
 
     @ConditionalOnMissingBean
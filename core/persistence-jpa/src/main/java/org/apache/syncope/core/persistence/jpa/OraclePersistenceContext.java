@@ -32,6 +32,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.jpa.dao.OracleJPAAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.QueryPlanCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.OraclePlainSchemaRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PlainSchemaRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.OracleEntityFactory;
@@ -65,7 +66,9 @@ public class OraclePersistenceContext {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final PersistenceProperties props,
+            final QueryPlanCache queryPlanCache) {
 
         return new OracleJPAAnySearchDAO(
                 realmSearchDAO,
@@ -78,7 +81,9 @@ public class OraclePersistenceContext {
                 anyUtilsFactory,
                 validator,
                 entityManagerFactory,
-                entityManager);
+                entityManager,
+                props.getSearchCountCacheTtl(),
+                queryPlanCache);
     }
 
     @ConditionalOnMissingBean
@@ -32,6 +32,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.jpa.dao.PGJPAAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.QueryPlanCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PGPlainSchemaRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PlainSchemaRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.PGEntityFactory;
@@ -66,7 +67,9 @@ public class PGPersistenceContext {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final PersistenceProperties props,
+            final QueryPlanCache queryPlanCache) {
 
         return new PGJPAAnySearchDAO(
                 realmSearchDAO,
@@ -79,7 +82,9 @@ public class PGPersistenceContext {
                 anyUtilsFactory,
                 validator,
                 entityManagerFactory,
-                entityManager);
+                entityManager,
+                props.getSearchCountCacheTtl(),
+                queryPlanCache);
     }
 
     @ConditionalOnMissingBean
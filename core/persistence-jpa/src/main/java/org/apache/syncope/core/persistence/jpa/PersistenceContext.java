@@ -100,6 +100,7 @@ import org.apache.syncope.core.persistence.jpa.dao.JPARealmDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPARealmSearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPATaskDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPATaskExecDAO;
+import org.apache.syncope.core.persistence.jpa.dao.QueryPlanCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AccessTokenRepo;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AnyObjectRepo;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AnyObjectRepoExt;
@@ -377,6 +378,12 @@ public class PersistenceContext {
         return jpaRepositoryFactory.getRepository(AccessTokenRepo.class);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public QueryPlanCache queryPlanCache(final PersistenceProperties props) {
+        return new QueryPlanCache(props.getQueryPlanCacheSize());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public AnyMatchDAO anyMatchDAO(
@@ -34,6 +34,11 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
 
     private String viewsXML = "classpath:META-INF/views.xml";
 
+    /**
+     * Maximum number of native search queries cached for each domain, 0 to disable.
+     */
+    private int queryPlanCacheSize = 1000;
+
     public String getRemoteCommitProvider() {
         return remoteCommitProvider;
     }
@@ -57,4 +62,12 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
     public void setViewsXML(final String viewsXML) {
         this.viewsXML = viewsXML;
     }
+
+    public int getQueryPlanCacheSize() {
+        return queryPlanCacheSize;
+    }
+
+    public void setQueryPlanCacheSize(final int queryPlanCacheSize) {
+        this.queryPlanCacheSize = queryPlanCacheSize;
+    }
 }
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
@@ -49,6 +50,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AbstractSearchCond;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
@@ -61,7 +63,6 @@ import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
-import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
@@ -79,7 +80,7 @@ import org.springframework.data.domain.Sort;
  */
 abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
-    protected record AdminRealmsFilter(AnySearchNode.Leaf filter, Set<String> dynRealmKeys, Set<String> groupOwners) {
+    protected record AdminRealmsFilter(Set<String> realmKeys, Set<String> dynRealmKeys, Set<String> groupOwners) {
 
     }
 
@@ -96,6 +97,16 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             + "lastChangeDate,lastModifier,status,changePwdDate,cipherAlgorithm,failedLogins,"
             + "lastLoginDate,mustChangePassword,suspended,username";
 
+    protected static final Set<Class<?>> CACHEABLE_CONDS = Set.of(
+            AnyCond.class,
+            AttrCond.class,
+            AnyTypeCond.class,
+            AuxClassCond.class,
+            DynRealmCond.class,
+            RelationshipTypeCond.class,
+            ResourceCond.class,
+            RoleCond.class);
+
     private static final Map<String, Boolean> IS_ORACLE = new ConcurrentHashMap<>();
 
     protected static int setParameter(final List<Object> parameters, final Object parameter) {
@@ -125,6 +136,8 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
     protected final EntityManager entityManager;
 
+    protected final QueryPlanCache queryPlanCache;
+
     protected AbstractJPAAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final DynRealmDAO dynRealmDAO,
@@ -136,7 +149,9 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final long countCacheTtl,
+            final QueryPlanCache queryPlanCache) {
 
         super(
                 realmSearchDAO,
@@ -147,9 +162,11 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                 plainSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
-                validator);
+                validator,
+                countCacheTtl);
         this.entityManagerFactory = entityManagerFactory;
         this.entityManager = entityManager;
+        this.queryPlanCache = queryPlanCache;
     }
 
     protected boolean isOracle() {
@@ -778,12 +795,20 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return new AnySearchNode.Leaf(defaultSV(svs), "realm_id IN (" + realmKeysArg + ")");
     }
 
+    /**
+     * Resolves the given admin realms into the keys of realms, dynamic realms and group owners to filter by; as such
+     * keys depend on the current realm hierarchy, this is invoked for each search, rather than being part of the
+     * cached query plans.
+     *
+     * @param base base realm
+     * @param recursive whether search is recursive
+     * @param adminRealms admin realms
+     * @return keys of realms, dynamic realms and group owners to filter by
+     */
     protected AdminRealmsFilter getAdminRealmsFilter(
             final Realm base,
             final boolean recursive,
-            final Set<String> adminRealms,
-            final List<Object> parameters,
-            final SearchSupport svs) {
+            final Set<String> adminRealms) {
 
         Set<String> realmKeys = new HashSet<>();
         Set<String> dynRealmKeys = new HashSet<>();
@@ -817,7 +842,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             }
         }
 
-        return new AdminRealmsFilter(buildAdminRealmsFilter(realmKeys, svs, parameters), dynRealmKeys, groupOwners);
+        return new AdminRealmsFilter(realmKeys, dynRealmKeys, groupOwners);
     }
 
     protected void visitNode(
@@ -880,7 +905,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                 collect(Collectors.joining(" " + root.getType().name() + " "));
     }
 
-    protected String buildCountQuery(
+    protected String buildFromWhere(
             final QueryInfo queryInfo,
             final AnySearchNode.Leaf filterNode,
             final List<Object> parameters,
@@ -900,15 +925,76 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         Map<SearchSupport.SearchView, Boolean> counters = new HashMap<>();
         visitNode(root, counters, from, where, svs);
 
-        StringBuilder queryString = new StringBuilder("SELECT COUNT(DISTINCT ").append(anyId(svs)).append(") ");
+        return "FROM " + buildFrom(from, queryInfo.plainSchemas(), null) + " WHERE " + buildWhere(where, root);
+    }
 
-        queryString.append("FROM ").append(buildFrom(from, queryInfo.plainSchemas(), null));
+    protected String buildCountQuery(
+            final QueryInfo queryInfo,
+            final AnySearchNode.Leaf filterNode,
+            final List<Object> parameters,
+            final SearchSupport svs) {
 
-        queryString.append(" WHERE ").append(buildWhere(where, root));
+        String queryString = "SELECT COUNT(DISTINCT " + anyId(svs) + ") "
+                + buildFromWhere(queryInfo, filterNode, parameters, svs);
 
         LOG.debug("Query: {}, parameters: {}", queryString, parameters);
 
-        return queryString.toString();
+        return queryString;
+    }
+
+    /**
+     * Tells whether the query generated for the given search condition can be cached: this is not the case when
+     * group, any object or member references are expressed by name, as their resolution depends on data, or when
+     * custom search conditions are involved.
+     *
+     * @param cond search condition
+     * @return whether the query generated for the given search condition can be cached
+     */
+    protected boolean isCacheable(final SearchCond cond) {
+        if (cond == null) {
+            return false;
+        }
+
+        return switch (cond.getType()) {
+            case AND, OR ->
+                isCacheable(cond.getLeft()) && isCacheable(cond.getRight());
+
+            case LEAF, NOT_LEAF ->
+                cond.asLeaf(AbstractSearchCond.class).map(this::isCacheableLeaf).orElse(false);
+
+            default ->
+                false;
+        };
+    }
+
+    protected boolean isCacheableLeaf(final AbstractSearchCond leaf) {
+        // realm full paths are resolved to keys while generating the query, and such keys might change meanwhile
+        if (leaf instanceof AnyCond anyCond && JAXRSService.PARAM_REALM.equals(anyCond.getSchema())) {
+            return isKey(anyCond.getExpression());
+        }
+        if (leaf instanceof MembershipCond membershipCond) {
+            return isKey(membershipCond.getGroup());
+        }
+        if (leaf instanceof RelationshipCond relationshipCond) {
+            return isKey(relationshipCond.getAnyObject());
+        }
+        if (leaf instanceof MemberCond memberCond) {
+            return isKey(memberCond.getMember());
+        }
+        return CACHEABLE_CONDS.contains(leaf.getClass());
+    }
+
+    protected static boolean isKey(final String value) {
+        return value != null && SyncopeConstants.UUID_PATTERN.matcher(value).matches();
+    }
+
+    protected QueryPlanCache.Plan getQueryPlan(
+            final QueryPlanCache.Key key,
+            final Function<List<Object>, String> generator) {
+
+        return isCacheable(key.cond())
+                ? queryPlanCache.get(key, generator)
+                : QueryPlanCache.generate(generator);
     }
 
     @Override
@@ -919,28 +1005,42 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             final SearchCond cond,
             final AnyTypeKind kind) {
 
-        List<Object> parameters = new ArrayList<>();
-
-        SearchSupport svs = new SearchViewSupport(kind);
-
         // 1. get admin realms filter
-        AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms, parameters, svs);
+        AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms);
+
+        QueryPlanCache.Plan plan = getQueryPlan(
+                new QueryPlanCache.Key(
+                        QueryPlanCache.Type.COUNT,
+                        kind,
+                        filter.realmKeys(),
+                        filter.dynRealmKeys(),
+                        filter.groupOwners(),
+                        cond,
+                        List.of()),
+                parameters -> {
+                    SearchSupport svs = new SearchViewSupport(kind);
+
+                    // 2. transform search condition
+                    QueryInfo queryInfo = getQuery(
+                            buildEffectiveCond(cond, filter.dynRealmKeys(), filter.groupOwners(), kind),
+                            parameters,
+                            svs).orElse(null);
+                    if (queryInfo == null) {
+                        return null;
+                    }
 
-        // 2. transform search condition
-        QueryInfo queryInfo = getQuery(
-                buildEffectiveCond(cond, filter.dynRealmKeys(), filter.groupOwners(), kind), parameters, svs).
-                orElse(null);
-        if (queryInfo == null) {
+                    // 3. generate the query string
+                    return buildCountQuery(
+                            queryInfo, buildAdminRealmsFilter(filter.realmKeys(), svs, parameters), parameters, svs);
+                });
+        if (plan == null) {
             LOG.error("Invalid search condition: {}", cond);
             return 0;
         }
 
-        // 3. generate the query string
-        String queryString = buildCountQuery(queryInfo, filter.filter(), parameters, svs);
-
         // 4. populate the search query with parameter values
-        Query countQuery = entityManager.createNativeQuery(queryString);
-        fillWithParameters(countQuery, parameters);
+        Query countQuery = entityManager.createNativeQuery(plan.queryString());
+        fillWithParameters(countQuery, plan.parameters());
 
         // 5. execute the query and return the result
         return ((Number) countQuery.getSingleResult()).intValue();
@@ -1102,8 +1202,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    protected <T extends Any> List<T> doSearch(
+    protected List<String> doSearchKeys(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -1111,27 +1210,47 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             final Pageable pageable,
             final AnyTypeKind kind) {
 
-        List<Object> parameters = new ArrayList<>();
-
-        SearchSupport svs = new SearchViewSupport(kind);
+        List<Sort.Order> orderBy = pageable.getSort().toList();
 
         // 1. get admin realms filter
-        AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms, parameters, svs);
+        AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms);
+
+        QueryPlanCache.Plan plan = getQueryPlan(
+                new QueryPlanCache.Key(
+                        QueryPlanCache.Type.SEARCH,
+                        kind,
+                        filter.realmKeys(),
+                        filter.dynRealmKeys(),
+                        filter.groupOwners(),
+                        cond,
+                        orderBy),
+                parameters -> {
+                    SearchSupport svs = new SearchViewSupport(kind);
+
+                    // 2. transform search condition
+                    QueryInfo queryInfo = getQuery(
+                            buildEffectiveCond(cond, filter.dynRealmKeys(), filter.groupOwners(), kind),
+                            parameters,
+                            svs).orElse(null);
+                    if (queryInfo == null) {
+                        return null;
+                    }
 
-        // 2. transform search condition
-        QueryInfo queryInfo = getQuery(
-                buildEffectiveCond(cond, filter.dynRealmKeys(), filter.groupOwners(), kind), parameters, svs).
-                orElse(null);
-        if (queryInfo == null) {
+                    // 3. generate the query string
+                    return buildSearchQuery(
+                            queryInfo,
+                            buildAdminRealmsFilter(filter.realmKeys(), svs, parameters),
+                            parameters,
+                            svs,
+                            orderBy);
+                });
+        if (plan == null) {
             LOG.error("Invalid search condition: {}", cond);
             return List.of();
         }
 
-        // 3. generate the query string
-        String queryString = buildSearchQuery(queryInfo, filter.filter(), parameters, svs, pageable.getSort().toList());
-
         // 4. prepare the search query
-        Query query = entityManager.createNativeQuery(queryString);
+        Query query = entityManager.createNativeQuery(plan.queryString());
 
         if (pageable.isPaged()) {
             query.setFirstResult(pageable.getPageSize() * pageable.getPageNumber());
@@ -1139,9 +1258,13 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         }
 
         // 5. populate the search query with parameter values
-        fillWithParameters(query, parameters);
-
-        // 6. prepare the result (avoiding duplicates)
-        return buildResult(query.getResultList(), kind);
+        fillWithParameters(query, plan.parameters());
+
+        // 6. extract the keys, as selected along with the columns to order by
+        @SuppressWarnings("unchecked")
+        List<Object> raw = query.getResultList();
+        return raw.stream().
+                map(key -> key instanceof Object[] array ? (String) array[0] : (String) key).
+                toList();
     }
 }
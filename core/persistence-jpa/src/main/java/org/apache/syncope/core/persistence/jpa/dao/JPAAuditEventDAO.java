@@ -107,6 +107,13 @@ public class JPAAuditEventDAO implements AuditEventDAO {
         return entityManager.merge(auditEvent);
     }
 
+    @Transactional
+    @Override
+    public void saveAll(final List<AuditEvent> auditEvents) {
+        // all events are inserted within the same transaction, allowing JDBC statement batching
+        auditEvents.forEach(entityManager::persist);
+    }
+
     protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
         return new AuditEventCriteriaBuilder().entityKey(entityKey);
     }
@@ -515,6 +515,7 @@ public class JPATaskDAO implements TaskDAO {
         return entityManager.merge(task);
     }
 
+    @Transactional(rollbackFor = { Throwable.class })
     @Override
     public void delete(final TaskType type, final String key) {
         findById(type, key).ifPresent(this::delete);
@@ -43,7 +43,9 @@ public class MariaDBJPAAnySearchDAO extends MySQLJPAAnySearchDAO {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final long countCacheTtl,
+            final QueryPlanCache queryPlanCache) {
 
         super(
                 realmSearchDAO,
@@ -56,6 +58,8 @@ public class MariaDBJPAAnySearchDAO extends MySQLJPAAnySearchDAO {
                 anyUtilsFactory,
                 validator,
                 entityManagerFactory,
-                entityManager);
+                entityManager,
+                countCacheTtl,
+                queryPlanCache);
     }
 }
@@ -53,7 +53,9 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final long countCacheTtl,
+            final QueryPlanCache queryPlanCache) {
 
         super(
                 realmSearchDAO,
@@ -66,7 +68,9 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 anyUtilsFactory,
                 validator,
                 entityManagerFactory,
-                entityManager);
+                entityManager,
+                countCacheTtl,
+                queryPlanCache);
     }
 
     @Override
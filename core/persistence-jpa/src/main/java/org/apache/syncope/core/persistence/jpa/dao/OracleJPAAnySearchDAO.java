@@ -70,7 +70,9 @@ public class OracleJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final long countCacheTtl,
+            final QueryPlanCache queryPlanCache) {
 
         super(
                 realmSearchDAO,
@@ -83,7 +85,9 @@ public class OracleJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 anyUtilsFactory,
                 validator,
                 entityManagerFactory,
-                entityManager);
+                entityManager,
+                countCacheTtl,
+                queryPlanCache);
     }
 
     @Override
@@ -18,15 +18,20 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -36,16 +41,37 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.springframework.data.domain.Sort;
 
 public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
     protected static final String REGEX_CHARS = "!$()*+.:<=>?[\\]^{|}-";
 
+    /**
+     * Schema types whose values can be matched for equality via JSONB containment, hence taking advantage of the
+     * GIN indexes defined on {@code plainAttrs}.
+     */
+    protected static final Set<AttrSchemaType> CONTAINMENT_TYPES = EnumSet.of(
+            AttrSchemaType.String,
+            AttrSchemaType.Enum,
+            AttrSchemaType.Long,
+            AttrSchemaType.Double,
+            AttrSchemaType.Boolean);
+
+    /**
+     * Planner estimates below this value are not trusted, and the exact count is returned instead (possibly cached):
+     * small results are cheap enough to count, while estimates are less accurate for those.
+     */
+    protected static final long PLANNER_ESTIMATE_THRESHOLD = 10000;
+
     protected static String escapeForLikeRegex(final String input) {
         String output = input;
         for (char toEscape : REGEX_CHARS.toCharArray()) {
@@ -71,7 +97,9 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final EntityManagerFactory entityManagerFactory,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final long countCacheTtl,
+            final QueryPlanCache queryPlanCache) {
 
         super(
                 realmSearchDAO,
@@ -84,7 +112,76 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 anyUtilsFactory,
                 validator,
                 entityManagerFactory,
-                entityManager);
+                entityManager,
+                countCacheTtl,
+                queryPlanCache);
+    }
+
+    @Override
+    protected long doEstimate(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        // 1. get admin realms filter
+        AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms);
+
+        QueryPlanCache.Plan plan = getQueryPlan(
+                new QueryPlanCache.Key(
+                        QueryPlanCache.Type.ESTIMATE,
+                        kind,
+                        filter.realmKeys(),
+                        filter.dynRealmKeys(),
+                        filter.groupOwners(),
+                        cond,
+                        List.of()),
+                parameters -> {
+                    SearchSupport svs = new SearchViewSupport(kind);
+
+                    // 2. transform search condition: a copy is used, as the original might be needed for exact count
+                    QueryInfo queryInfo = getQuery(
+                            buildEffectiveCond(
+                                    SerializationUtils.clone(cond), filter.dynRealmKeys(), filter.groupOwners(), kind),
+                            parameters,
+                            svs).orElse(null);
+                    if (queryInfo == null) {
+                        return null;
+                    }
+
+                    // 3. ask the planner about the rows to be counted
+                    return "EXPLAIN (FORMAT JSON) SELECT DISTINCT " + anyId(svs) + ' '
+                            + buildFromWhere(
+                                    queryInfo,
+                                    buildAdminRealmsFilter(filter.realmKeys(), svs, parameters),
+                                    parameters,
+                                    svs);
+                });
+        if (plan == null) {
+            LOG.error("Invalid search condition: {}", cond);
+            return 0;
+        }
+        LOG.debug("Query: {}, parameters: {}", plan.queryString(), plan.parameters());
+
+        Query explainQuery = entityManager.createNativeQuery(plan.queryString());
+        fillWithParameters(explainQuery, plan.parameters());
+
+        // failures while running EXPLAIN are not caught, as they abort the current transaction on PostgreSQL:
+        // falling back to exact count would then fail anyway
+        String result = String.valueOf(explainQuery.getSingleResult());
+
+        long estimate = -1;
+        try {
+            JsonNode explain = POJOHelper.deserialize(result, JsonNode.class);
+            estimate = explain.path(0).path("Plan").path("Plan Rows").asLong(-1);
+        } catch (Exception e) {
+            LOG.error("While parsing planner estimate for {}", plan.queryString(), e);
+        }
+
+        return estimate >= PLANNER_ESTIMATE_THRESHOLD
+                ? estimate
+                : super.doEstimate(base, recursive, adminRealms, cond, kind);
     }
 
     @Override
@@ -128,6 +225,31 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         item.orderBy = svs.table().alias() + '.' + fieldName + ' ' + clause.getDirection().name();
     }
 
+    /**
+     * Builds a containment predicate, i.e {@code t.plainAttrs @> '[{"schema":"Nome","values":[...]}]'::jsonb}.
+     *
+     * @param from search view
+     * @param attrValue attribute value to match
+     * @param schema plain schema
+     * @return containment predicate
+     */
+    protected String containment(
+            final SearchSupport.SearchView from,
+            final PlainAttrValue attrValue,
+            final PlainSchema schema) {
+
+        PlainAttr attr = new PlainAttr();
+        attr.setSchema(schema.getKey());
+        if (schema.isUniqueConstraint()) {
+            attr.setUniqueValue(attrValue);
+        } else {
+            attr.add(attrValue);
+        }
+
+        return from.alias() + ".plainAttrs @> '"
+                + POJOHelper.serialize(List.of(attr)).replace("'", "''") + "'::jsonb";
+    }
+
     protected AnySearchNode.Leaf filJSONAttrQuery(
             final SearchSupport.SearchView from,
             final PlainAttrValue attrValue,
@@ -171,6 +293,12 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             }
         }
 
+        if (cond.getType() == AttrCond.Type.EQ && CONTAINMENT_TYPES.contains(schema.getType())
+                && (!isStr || schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum)) {
+
+            return new AnySearchNode.Leaf(from, (not ? "NOT " : "") + containment(from, attrValue, schema));
+        }
+
         StringBuilder clause = new StringBuilder();
         switch (cond.getType()) {
             case ILIKE:
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.DynRealm;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps, per domain, the native queries generated by {@link AbstractJPAAnySearchDAO} together with their parameters,
+ * so that the same search conditions - as evaluated for dynamic memberships, push tasks, notifications and so on -
+ * are not translated into SQL over and over again.
+ * Admin realms are resolved for each search, and only the resulting keys are part of the cache key, so that changes to
+ * the realm hierarchy are reflected right away, even when performed by other nodes; for the same reason, conditions on
+ * realms given by full path rather than by key are never cached. Cached plans still depend on Realms, Dynamic Realms
+ * and Plain Schemas, hence are discarded whenever any of these changes on the same node.
+ */
+public class QueryPlanCache {
+
+    public enum Type {
+        COUNT,
+        SEARCH,
+        ESTIMATE
+
+    }
+
+    public record Key(
+            Type type,
+            AnyTypeKind kind,
+            Set<String> realmKeys,
+            Set<String> dynRealmKeys,
+            Set<String> groupOwners,
+            SearchCond cond,
+            List<Sort.Order> orderBy) {
+
+        /**
+         * Query generation might alter the given search condition, hence a detached copy is used as cache key.
+         *
+         * @return detached copy of this key
+         */
+        Key copy() {
+            return new Key(
+                    type,
+                    kind,
+                    Set.copyOf(realmKeys),
+                    Set.copyOf(dynRealmKeys),
+                    Set.copyOf(groupOwners),
+                    SerializationUtils.clone(cond),
+                    List.copyOf(orderBy));
+        }
+    }
+
+    public record Plan(String queryString, List<Object> parameters) {
+
+    }
+
+    protected static final Logger LOG = LoggerFactory.getLogger(QueryPlanCache.class);
+
+    /**
+     * Generates a plan without caching it.
+     *
+     * @param generator fills the given parameter list and returns the query string, or {@code null} if the search
+     * condition is not valid
+     * @return generated plan, or {@code null} if the search condition is not valid
+     */
+    public static Plan generate(final Function<List<Object>, String> generator) {
+        List<Object> parameters = new ArrayList<>();
+        String queryString = generator.apply(parameters);
+        return queryString == null ? null : new Plan(queryString, parameters);
+    }
+
+    protected final int maxSize;
+
+    protected final Map<String, Map<Key, Plan>> plans = new ConcurrentHashMap<>();
+
+    protected final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    protected final AtomicLong hits = new AtomicLong();
+
+    protected final AtomicLong misses = new AtomicLong();
+
+    protected final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * @param maxSize maximum number of plans to keep for each domain, 0 to disable caching
+     */
+    public QueryPlanCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached plan for the given key, generating and caching it when not found.
+     *
+     * @param key cache key
+     * @param generator fills the given parameter list and returns the query string, or {@code null} if the search
+     * condition is not valid
+     * @return plan for the given key, or {@code null} if the search condition is not valid
+     */
+    public Plan get(final Key key, final Function<List<Object>, String> generator) {
+        if (maxSize <= 0) {
+            return generate(generator);
+        }
+
+        String domain = AuthContextUtils.getDomain();
+        Map<Key, Plan> domainPlans = plans.computeIfAbsent(domain, k -> new ConcurrentHashMap<>());
+
+        Plan plan = domainPlans.get(key);
+        if (plan != null) {
+            hits.incrementAndGet();
+            return plan;
+        }
+        misses.incrementAndGet();
+
+        Key copy = key.copy();
+        AtomicLong generation = generations.computeIfAbsent(domain, k -> new AtomicLong());
+        long before = generation.get();
+
+        plan = generate(generator);
+        if (plan == null) {
+            return null;
+        }
+        plan = new Plan(plan.queryString(), Collections.unmodifiableList(plan.parameters()));
+
+        synchronized (domainPlans) {
+            // don't cache plans generated while Realms, Dynamic Realms or Plain Schemas were being changed
+            if (generation.get() == before) {
+                if (domainPlans.size() >= maxSize) {
+                    domainPlans.clear();
+                }
+                domainPlans.put(copy, plan);
+            }
+        }
+
+        return plan;
+    }
+
+    public void invalidate(final String domain) {
+        Map<Key, Plan> domainPlans = plans.computeIfAbsent(domain, k -> new ConcurrentHashMap<>());
+        synchronized (domainPlans) {
+            generations.computeIfAbsent(domain, k -> new AtomicLong()).incrementAndGet();
+            domainPlans.clear();
+        }
+        invalidations.incrementAndGet();
+
+        LOG.debug("Query plans invalidated for domain {}", domain);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    public int getSize() {
+        return plans.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Invalidates cached plans upon changes to Realms, Dynamic Realms and Plain Schemas.
+     *
+     * @param event entity lifecycle event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof Realm
+                || event.getEntity() instanceof DynRealm
+                || event.getEntity() instanceof PlainSchema) {
+
+            invalidate(event.getDomain());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Native queries shared by the dynamic membership tables of groups, roles and dynamic realms, all made of an
+ * {@code any_id} column and a column referencing the owner (group, role or dynamic realm).
+ */
+final class DynMembershipQueries {
+
+    /**
+     * @param entityManager entity manager
+     * @param table dynamic membership table
+     * @param ownerColumn column referencing the owner
+     * @param anyKey user or any object key
+     * @return keys of owners currently dynamically including the given any
+     */
+    static Set<String> findOwners(
+            final EntityManager entityManager,
+            final String table,
+            final String ownerColumn,
+            final String anyKey) {
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT " + ownerColumn + " FROM " + table + " WHERE any_id=?");
+        query.setParameter(1, anyKey);
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result.stream().
+                map(Object::toString).
+                collect(Collectors.toSet());
+    }
+
+    /**
+     * Removes in a single statement the dynamic memberships of the given any for the given owners.
+     *
+     * @param entityManager entity manager
+     * @param table dynamic membership table
+     * @param ownerColumn column referencing the owner
+     * @param anyKey user or any object key
+     * @param ownerKeys keys of owners no longer dynamically including the given any
+     */
+    static void delete(
+            final EntityManager entityManager,
+            final String table,
+            final String ownerColumn,
+            final String anyKey,
+            final Collection<String> ownerKeys) {
+
+        if (ownerKeys.isEmpty()) {
+            return;
+        }
+
+        Query delete = entityManager.createNativeQuery(
+                "DELETE FROM " + table + " WHERE any_id=? AND " + ownerColumn + " IN ("
+                + ownerKeys.stream().map(ownerKey -> "?").collect(Collectors.joining(",")) + ")");
+        delete.setParameter(1, anyKey);
+        int index = 2;
+        for (String ownerKey : ownerKeys) {
+            delete.setParameter(index++, ownerKey);
+        }
+        delete.executeUpdate();
+    }
+
+    private DynMembershipQueries() {
+        // private constructor for static utility class
+    }
+}
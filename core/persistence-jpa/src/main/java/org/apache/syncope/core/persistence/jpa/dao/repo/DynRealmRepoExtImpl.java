@@ -20,8 +20,10 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -30,9 +32,11 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
+import org.apache.syncope.core.persistence.api.entity.DynRealmMembership;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.entity.JPADynRealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPADynRealmMembership;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
@@ -146,38 +150,40 @@ public class DynRealmRepoExtImpl implements DynRealmRepoExt {
         notifyDynMembershipRemoval(clearDynMembers(dynRealm));
 
         entityManager.remove(dynRealm);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, dynRealm, AuthContextUtils.getDomain()));
     }
 
     @Transactional
     @Override
     public void refreshDynMemberships(final Any any) {
+        Set<String> existing = DynMembershipQueries.findOwners(
+                entityManager, DYNMEMB_TABLE, "dynRealm_id", any.getKey());
+
+        List<String> toDelete = new ArrayList<>();
         entityManager.createQuery(
-                "SELECT e FROM " + JPADynRealm.class.getSimpleName() + " e ", DynRealm.class).getResultStream().
-                forEach(dynRealm -> dynRealm.getDynMembership(any.getType()).ifPresent(memb -> {
-
-            boolean matches = anyMatchDAO.matches(
-                    any, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(dynRealm_id) FROM " + DYNMEMB_TABLE + " WHERE any_id=? AND dynRealm_id=?");
-            query.setParameter(1, any.getKey());
-            query.setParameter(2, dynRealm.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-
-            if (matches && !existing) {
-                Query insert = entityManager.
-                        createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, any.getKey());
-                insert.setParameter(2, dynRealm.getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=? AND any_id=?");
-                delete.setParameter(1, dynRealm.getKey());
-                delete.setParameter(2, any.getKey());
-                delete.executeUpdate();
-            }
-        }));
+                "SELECT e FROM " + JPADynRealmMembership.class.getSimpleName() + " e "
+                + "WHERE e.anyType=:anyType", DynRealmMembership.class).
+                setParameter("anyType", any.getType()).
+                getResultStream().forEach(memb -> {
+
+                    boolean matches = anyMatchDAO.matches(
+                            any, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
+                    boolean member = existing.contains(memb.getDynRealm().getKey());
+
+                    if (matches && !member) {
+                        Query insert = entityManager.
+                                createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
+                        insert.setParameter(1, any.getKey());
+                        insert.setParameter(2, memb.getDynRealm().getKey());
+                        insert.executeUpdate();
+                    } else if (!matches && member) {
+                        toDelete.add(memb.getDynRealm().getKey());
+                    }
+                });
+
+        DynMembershipQueries.delete(entityManager, DYNMEMB_TABLE, "dynRealm_id", any.getKey(), toDelete);
     }
 
     @Override
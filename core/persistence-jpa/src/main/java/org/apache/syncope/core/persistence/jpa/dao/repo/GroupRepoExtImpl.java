@@ -57,6 +57,7 @@ import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.api.utils.DeferredDynMemberships;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
@@ -70,7 +71,6 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -249,58 +249,56 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         clearUDynMembers(merged);
         if (merged.getUDynMembership() != null) {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, merged.getUDynMembership().getFIQLCond());
-            long count = anySearchDAO.count(
-                    realmDAO.getRoot(), true, Set.of(SyncopeConstants.ROOT_REALM), cond, AnyTypeKind.USER);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<User> matching = anySearchDAO.search(
-                        realmDAO.getRoot(),
-                        true,
-                        Set.of(SyncopeConstants.ROOT_REALM),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        AnyTypeKind.USER);
-
-                matching.forEach(user -> {
-                    Query insert = entityManager.createNativeQuery(
-                            "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                    insert.setParameter(1, user.getKey());
-                    insert.setParameter(2, merged.getKey());
-                    insert.executeUpdate();
-
-                    publisher.publishEvent(
-                            new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
-                });
-            }
+            anySearchDAO.<User>scan(
+                    realmDAO.getRoot(),
+                    true,
+                    Set.of(SyncopeConstants.ROOT_REALM),
+                    cond,
+                    AnyDAO.DEFAULT_PAGE_SIZE,
+                    AnyTypeKind.USER,
+                    matching -> {
+                        matching.forEach(user -> {
+                            Query insert = entityManager.createNativeQuery(
+                                    "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
+                            insert.setParameter(1, user.getKey());
+                            insert.setParameter(2, merged.getKey());
+                            insert.executeUpdate();
+
+                            publisher.publishEvent(new EntityLifecycleEvent<>(
+                                    this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
+                        });
+                        return true;
+                    });
         }
         clearADynMembers(merged);
         merged.getADynMemberships().forEach(memb -> {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond());
-            long count = anySearchDAO.count(
-                    realmDAO.getRoot(), true, Set.of(SyncopeConstants.ROOT_REALM), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<AnyObject> matching = anySearchDAO.search(
-                        realmDAO.getRoot(),
-                        true,
-                        Set.of(SyncopeConstants.ROOT_REALM),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        AnyTypeKind.ANY_OBJECT);
-
-                matching.forEach(any -> {
-                    Query insert = entityManager.createNativeQuery(
-                            "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                    insert.setParameter(1, any.getType().getKey());
-                    insert.setParameter(2, any.getKey());
-                    insert.setParameter(3, merged.getKey());
-                    insert.executeUpdate();
-
-                    publisher.publishEvent(
-                            new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
-                });
-            }
+            anySearchDAO.<AnyObject>scan(
+                    realmDAO.getRoot(),
+                    true,
+                    Set.of(SyncopeConstants.ROOT_REALM),
+                    cond,
+                    AnyDAO.DEFAULT_PAGE_SIZE,
+                    AnyTypeKind.ANY_OBJECT,
+                    matching -> {
+                        matching.forEach(any -> {
+                            Query insert = entityManager.createNativeQuery(
+                                    "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
+                            insert.setParameter(1, any.getType().getKey());
+                            insert.setParameter(2, any.getKey());
+                            insert.setParameter(3, merged.getKey());
+                            insert.executeUpdate();
+
+                            publisher.publishEvent(new EntityLifecycleEvent<>(
+                                    this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
+                        });
+                        return true;
+                    });
         });
 
-        dynRealmDAO.refreshDynMemberships(merged);
+        if (!DeferredDynMemberships.defer(merged)) {
+            dynRealmDAO.refreshDynMemberships(merged);
+        }
 
         return merged;
     }
@@ -430,46 +428,72 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         return query.getResultList();
     }
 
+    /**
+     * Reads in a single statement the keys of all groups for which the given any currently holds a dynamic
+     * membership.
+     *
+     * @param table dynamic membership table
+     * @param anyKey user or any object key
+     * @return keys of groups currently dynamically including the given any
+     */
+    protected Set<String> findDynGroupKeys(final String table, final String anyKey) {
+        return DynMembershipQueries.findOwners(entityManager, table, "group_id", anyKey);
+    }
+
+    /**
+     * Removes in a single statement the dynamic memberships of the given any for the given groups.
+     *
+     * @param table dynamic membership table
+     * @param anyKey user or any object key
+     * @param groupKeys keys of groups no longer dynamically including the given any
+     */
+    protected void deleteDynMemberships(final String table, final String anyKey, final Collection<String> groupKeys) {
+        DynMembershipQueries.delete(entityManager, table, "group_id", anyKey, groupKeys);
+    }
+
     @Transactional
     @Override
     public GroupDAO.DynMembershipInfo refreshDynMemberships(final AnyObject anyObject) {
+        Set<String> existing = findDynGroupKeys(ADYNMEMB_TABLE, anyObject.getKey());
+
         Set<String> before = new HashSet<>();
         Set<String> after = new HashSet<>();
+        List<String> toDelete = new ArrayList<>();
+        List<Group> changed = new ArrayList<>();
         findWithADynMemberships(anyObject.getType()).forEach(memb -> {
+            String groupKey = memb.getGroup().getKey();
+
             boolean matches = anyMatchDAO.matches(
                     anyObject, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
             if (matches) {
-                after.add(memb.getGroup().getKey());
+                after.add(groupKey);
             }
-
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(group_id) FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            query.setParameter(1, memb.getGroup().getKey());
-            query.setParameter(2, anyObject.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
+            boolean member = existing.contains(groupKey);
+            if (member) {
+                before.add(groupKey);
             }
 
-            if (matches && !existing) {
+            if (matches && !member) {
                 Query insert = entityManager.createNativeQuery(
                         "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
                 insert.setParameter(1, anyObject.getType().getKey());
                 insert.setParameter(2, anyObject.getKey());
-                insert.setParameter(3, memb.getGroup().getKey());
+                insert.setParameter(3, groupKey);
                 insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, anyObject.getKey());
-                delete.executeUpdate();
-            }
 
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
+                changed.add(memb.getGroup());
+            } else if (!matches && member) {
+                toDelete.add(groupKey);
+
+                changed.add(memb.getGroup());
+            }
         });
 
+        deleteDynMemberships(ADYNMEMB_TABLE, anyObject.getKey(), toDelete);
+
+        changed.forEach(group -> publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, group, AuthContextUtils.getDomain())));
+
         return new GroupDAO.DynMembershipInfo(before, after);
     }
 
@@ -503,42 +527,45 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
     @Transactional
     @Override
     public GroupDAO.DynMembershipInfo refreshDynMemberships(final User user) {
+        Set<String> existing = findDynGroupKeys(UDYNMEMB_TABLE, user.getKey());
+
         Set<String> before = new HashSet<>();
         Set<String> after = new HashSet<>();
+        List<String> toDelete = new ArrayList<>();
+        List<Group> changed = new ArrayList<>();
         findWithUDynMemberships().forEach(memb -> {
+            String groupKey = memb.getGroup().getKey();
+
             boolean matches = anyMatchDAO.matches(
                     user, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
             if (matches) {
-                after.add(memb.getGroup().getKey());
+                after.add(groupKey);
             }
-
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(group_id) FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            query.setParameter(1, memb.getGroup().getKey());
-            query.setParameter(2, user.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
+            boolean member = existing.contains(groupKey);
+            if (member) {
+                before.add(groupKey);
             }
 
-            if (matches && !existing) {
+            if (matches && !member) {
                 Query insert = entityManager.createNativeQuery(
                         "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
                 insert.setParameter(1, user.getKey());
-                insert.setParameter(2, memb.getGroup().getKey());
+                insert.setParameter(2, groupKey);
                 insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, user.getKey());
-                delete.executeUpdate();
-            }
 
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
+                changed.add(memb.getGroup());
+            } else if (!matches && member) {
+                toDelete.add(groupKey);
+
+                changed.add(memb.getGroup());
+            }
         });
 
+        deleteDynMemberships(UDYNMEMB_TABLE, user.getKey(), toDelete);
+
+        changed.forEach(group -> publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, group, AuthContextUtils.getDomain())));
+
         return new GroupDAO.DynMembershipInfo(before, after);
     }
 
@@ -21,7 +21,9 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -71,7 +73,12 @@ public class RoleRepoExtImpl implements RoleRepoExt {
     @Override
     public Role save(final Role role) {
         ((JPARole) role).list2json();
-        return entityManager.merge(role);
+        Role merged = entityManager.merge(role);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, merged, AuthContextUtils.getDomain()));
+
+        return merged;
     }
 
     @Override
@@ -116,6 +123,9 @@ public class RoleRepoExtImpl implements RoleRepoExt {
         delegationDAO.findByRoles(role).forEach(delegation -> delegation.getRoles().remove(role));
 
         entityManager.remove(role);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, role, AuthContextUtils.getDomain()));
     }
 
     @Override
@@ -144,33 +154,29 @@ public class RoleRepoExtImpl implements RoleRepoExt {
     @Transactional
     @Override
     public void refreshDynMemberships(final User user) {
+        Set<String> existing = DynMembershipQueries.findOwners(entityManager, DYNMEMB_TABLE, "role_id", user.getKey());
+
+        List<String> toDelete = new ArrayList<>();
         entityManager.createQuery(
                 "SELECT e FROM " + JPARole.class.getSimpleName() + " e "
                 + "WHERE e.dynMembershipCond IS NOT NULL", Role.class).getResultStream().forEach(role -> {
                     boolean matches = anyMatchDAO.matches(
                             user,
                             SearchCondConverter.convert(searchCondVisitor, role.getDynMembershipCond()));
+                    boolean member = existing.contains(role.getKey());
 
-                    Query query = entityManager.createNativeQuery(
-                            "SELECT COUNT(role_id) FROM " + DYNMEMB_TABLE + " WHERE any_id=? AND role_id=?");
-                    query.setParameter(1, user.getKey());
-                    query.setParameter(2, role.getKey());
-                    boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-
-                    if (matches && !existing) {
+                    if (matches && !member) {
                         Query insert = entityManager.createNativeQuery(
                                 "INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
                         insert.setParameter(1, user.getKey());
                         insert.setParameter(2, role.getKey());
                         insert.executeUpdate();
-                    } else if (!matches && existing) {
-                        Query delete = entityManager.createNativeQuery(
-                                "DELETE FROM " + DYNMEMB_TABLE + " WHERE role_id=? AND any_id=?");
-                        delete.setParameter(1, role.getKey());
-                        delete.setParameter(2, user.getKey());
-                        delete.executeUpdate();
+                    } else if (!matches && member) {
+                        toDelete.add(role.getKey());
                     }
                 });
+
+        DynMembershipQueries.delete(entityManager, DYNMEMB_TABLE, "role_id", user.getKey(), toDelete);
     }
 
     @Override
@@ -45,6 +45,7 @@ import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.utils.DeferredDynMemberships;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
@@ -189,9 +190,14 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
         // ensure that entity listeners are invoked at this point
         entityManager.flush();
 
-        roleDAO.refreshDynMemberships(merged);
+        boolean deferred = DeferredDynMemberships.defer(merged);
+        if (!deferred) {
+            roleDAO.refreshDynMemberships(merged);
+        }
         GroupDAO.DynMembershipInfo dynGroupMembs = groupDAO.refreshDynMemberships(merged);
-        dynRealmDAO.refreshDynMemberships(merged);
+        if (!deferred) {
+            dynRealmDAO.refreshDynMemberships(merged);
+        }
 
         return Pair.of(merged, dynGroupMembs);
     }
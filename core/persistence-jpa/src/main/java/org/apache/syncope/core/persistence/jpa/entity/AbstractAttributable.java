@@ -18,9 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.entity;
 
-import java.util.List;
 import org.apache.syncope.core.persistence.api.entity.Attributable;
-import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.common.validation.AttributableCheck;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 
@@ -29,15 +27,18 @@ public abstract class AbstractAttributable extends AbstractGeneratedKeyEntity im
 
     private static final long serialVersionUID = -2072949733409392882L;
 
-    public abstract List<PlainAttr> getPlainAttrsList();
+    public abstract JSONPlainAttrList getPlainAttrsList();
 
     public abstract String getPlainAttrsJSON();
 
     public abstract void setPlainAttrsJSON(String plainAttrs);
 
     public void list2json() {
-        setPlainAttrsJSON(getPlainAttrsList().isEmpty()
-                ? "[]"
-                : POJOHelper.serialize(getPlainAttrsList()));
+        // plain attributes not accessed since loaded cannot have changed
+        if (getPlainAttrsList().isDecoded()) {
+            setPlainAttrsJSON(getPlainAttrsList().isEmpty()
+                    ? "[]"
+                    : POJOHelper.serialize(getPlainAttrsList()));
+        }
     }
 }
@@ -84,7 +84,7 @@ public class JPARealm extends AbstractAttributable implements Realm {
     private String plainAttrs;
 
     @Transient
-    private final List<PlainAttr> plainAttrsList = new ArrayList<>();
+    private final JSONPlainAttrList plainAttrsList = new JSONPlainAttrList();
 
     @ManyToMany
     @JoinTable(joinColumns =
@@ -164,7 +164,7 @@ public class JPARealm extends AbstractAttributable implements Realm {
     }
 
     @Override
-    public List<PlainAttr> getPlainAttrsList() {
+    public JSONPlainAttrList getPlainAttrsList() {
         return plainAttrsList;
     }
 
@@ -18,31 +18,11 @@
  */
 package org.apache.syncope.core.persistence.jpa.entity;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import java.util.List;
-import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Attributable;
-import org.apache.syncope.core.persistence.api.entity.PlainAttr;
-import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 
 public abstract class JSONEntityListener<A extends Attributable> {
 
-    protected static final TypeReference<List<PlainAttr>> TYPEREF = new TypeReference<List<PlainAttr>>() {
-    };
-
-    protected List<PlainAttr> getAttrs(final String plainAttrsJSON) {
-        return POJOHelper.deserialize(plainAttrsJSON, TYPEREF);
-    }
-
-    protected void json2list(final AbstractAttributable entity, final boolean clearFirst) {
-        if (clearFirst) {
-            entity.getPlainAttrsList().clear();
-        }
-        if (entity.getPlainAttrsJSON() != null) {
-            getAttrs(entity.getPlainAttrsJSON()).stream().filter(PlainAttr::isValid).peek(attr -> {
-                attr.getValues().forEach(value -> value.setAttr(attr));
-                Optional.ofNullable(attr.getUniqueValue()).ifPresent(value -> value.setAttr(attr));
-            }).forEach(attr -> entity.add(attr));
-        }
+    protected void json2list(final AbstractAttributable entity) {
+        entity.getPlainAttrsList().load(entity.getPlainAttrsJSON());
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plain attributes of an entity, decoded from their JSON representation only upon first access; entities loaded
+ * without their plain attributes being ever read - as during authentication or when only keys are needed from
+ * search results - are spared the decoding cost.
+ */
+public class JSONPlainAttrList extends AbstractList<PlainAttr> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 6335587227475227853L;
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JSONPlainAttrList.class);
+
+    protected static final ObjectReader READER = POJOHelper.reader(new TypeReference<List<PlainAttr>>() {
+    });
+
+    protected static List<PlainAttr> decode(final String json) {
+        List<PlainAttr> attrs = List.of();
+        try {
+            attrs = READER.readValue(json);
+        } catch (IOException e) {
+            LOG.error("During deserialization", e);
+        }
+        return attrs;
+    }
+
+    private final List<PlainAttr> attrs = new ArrayList<>();
+
+    private volatile String json;
+
+    /**
+     * Replaces the current content with the attributes in the given JSON representation, which will be decoded
+     * upon first access.
+     *
+     * @param json JSON representation of plain attributes
+     */
+    public void load(final String json) {
+        synchronized (attrs) {
+            attrs.clear();
+            this.json = json;
+        }
+        modCount++;
+    }
+
+    /**
+     * @return whether the content was decoded, hence possibly changed since loaded
+     */
+    public boolean isDecoded() {
+        return json == null;
+    }
+
+    protected List<PlainAttr> attrs() {
+        if (json != null) {
+            synchronized (attrs) {
+                if (json != null) {
+                    decode(json).stream().filter(PlainAttr::isValid).forEach(attr -> {
+                        attr.getValues().forEach(value -> value.setAttr(attr));
+                        Optional.ofNullable(attr.getUniqueValue()).ifPresent(value -> value.setAttr(attr));
+                        attrs.add(attr);
+                    });
+                    json = null;
+                }
+            }
+        }
+        return attrs;
+    }
+
+    @Override
+    public PlainAttr get(final int index) {
+        return attrs().get(index);
+    }
+
+    @Override
+    public int size() {
+        return attrs().size();
+    }
+
+    @Override
+    public PlainAttr set(final int index, final PlainAttr element) {
+        return attrs().set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final PlainAttr element) {
+        attrs().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public PlainAttr remove(final int index) {
+        PlainAttr removed = attrs().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (attrs) {
+            attrs.clear();
+            json = null;
+        }
+        modCount++;
+    }
+}
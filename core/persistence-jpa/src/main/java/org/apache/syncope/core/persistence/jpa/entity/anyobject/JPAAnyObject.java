@@ -49,6 +49,7 @@ import org.apache.syncope.core.persistence.jpa.entity.AbstractGroupableRelatable
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.apache.syncope.core.persistence.jpa.entity.JSONPlainAttrList;
 
 @Entity
 @Table(name = JPAAnyObject.TABLE, uniqueConstraints =
@@ -73,7 +74,7 @@ public class JPAAnyObject
     private String plainAttrs;
 
     @Transient
-    private final List<PlainAttr> plainAttrsList = new ArrayList<>();
+    private final JSONPlainAttrList plainAttrsList = new JSONPlainAttrList();
 
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(joinColumns =
@@ -134,7 +135,7 @@ public class JPAAnyObject
     }
 
     @Override
-    public List<PlainAttr> getPlainAttrsList() {
+    public JSONPlainAttrList getPlainAttrsList() {
         return plainAttrsList;
     }
 
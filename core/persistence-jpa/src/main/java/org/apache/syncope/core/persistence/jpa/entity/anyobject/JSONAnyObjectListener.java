@@ -30,7 +30,7 @@ public class JSONAnyObjectListener extends JSONEntityListener<AnyObject> {
 
     @PostLoad
     public void read(final JPAAnyObject anyObject) {
-        super.json2list(anyObject, false);
+        super.json2list(anyObject);
     }
 
     @PrePersist
@@ -42,6 +42,6 @@ public class JSONAnyObjectListener extends JSONEntityListener<AnyObject> {
     @PostPersist
     @PostUpdate
     public void readAfterSave(final JPAAnyObject anyObject) {
-        super.json2list(anyObject, true);
+        super.json2list(anyObject);
     }
 }
@@ -56,6 +56,7 @@ import org.apache.syncope.core.persistence.common.validation.GroupCheck;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractRelatable;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.apache.syncope.core.persistence.jpa.entity.JSONPlainAttrList;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
@@ -86,7 +87,7 @@ public class JPAGroup
     private String plainAttrs;
 
     @Transient
-    private final List<PlainAttr> plainAttrsList = new ArrayList<>();
+    private final JSONPlainAttrList plainAttrsList = new JSONPlainAttrList();
 
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(joinColumns =
@@ -174,7 +175,7 @@ public class JPAGroup
     }
 
     @Override
-    public List<PlainAttr> getPlainAttrsList() {
+    public JSONPlainAttrList getPlainAttrsList() {
         return plainAttrsList;
     }
 
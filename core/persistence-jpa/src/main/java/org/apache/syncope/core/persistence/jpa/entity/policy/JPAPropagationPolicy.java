@@ -39,6 +39,9 @@ public class JPAPropagationPolicy extends AbstractPolicy implements PropagationP
     @NotNull
     private Boolean fetchAroundProvisioning = true;
 
+    @NotNull
+    private Boolean fetchAfterProvisioning = true;
+
     @NotNull
     private Boolean updateDelta = false;
 
@@ -52,6 +55,26 @@ public class JPAPropagationPolicy extends AbstractPolicy implements PropagationP
     @NotNull
     private Integer maxAttempts = 3;
 
+    @Min(0)
+    @NotNull
+    private Integer coalescingWindow = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer maxConcurrency = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer breakerFailureThreshold = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer breakerSlowCallThreshold = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer breakerOpenDuration = 60;
+
     @Override
     public boolean isFetchAroundProvisioning() {
         return fetchAroundProvisioning;
@@ -62,6 +85,16 @@ public class JPAPropagationPolicy extends AbstractPolicy implements PropagationP
         this.fetchAroundProvisioning = fetchAroundProvisioning;
     }
 
+    @Override
+    public boolean isFetchAfterProvisioning() {
+        return fetchAfterProvisioning;
+    }
+
+    @Override
+    public void setFetchAfterProvisioning(final boolean fetchAfterProvisioning) {
+        this.fetchAfterProvisioning = fetchAfterProvisioning;
+    }
+
     @Override
     public boolean isUpdateDelta() {
         return updateDelta;
@@ -101,4 +134,54 @@ public class JPAPropagationPolicy extends AbstractPolicy implements PropagationP
     public void setMaxAttempts(final int maxAttempts) {
         this.maxAttempts = maxAttempts;
     }
+
+    @Override
+    public int getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    @Override
+    public void setCoalescingWindow(final int coalescingWindow) {
+        this.coalescingWindow = coalescingWindow;
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void setMaxConcurrency(final int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    @Override
+    public void setBreakerFailureThreshold(final int breakerFailureThreshold) {
+        this.breakerFailureThreshold = breakerFailureThreshold;
+    }
+
+    @Override
+    public int getBreakerSlowCallThreshold() {
+        return breakerSlowCallThreshold;
+    }
+
+    @Override
+    public void setBreakerSlowCallThreshold(final int breakerSlowCallThreshold) {
+        this.breakerSlowCallThreshold = breakerSlowCallThreshold;
+    }
+
+    @Override
+    public int getBreakerOpenDuration() {
+        return breakerOpenDuration;
+    }
+
+    @Override
+    public void setBreakerOpenDuration(final int breakerOpenDuration) {
+        this.breakerOpenDuration = breakerOpenDuration;
+    }
 }
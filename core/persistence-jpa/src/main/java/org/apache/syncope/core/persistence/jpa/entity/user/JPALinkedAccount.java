@@ -29,7 +29,6 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
@@ -42,6 +41,7 @@ import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractAttributable;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.apache.syncope.core.persistence.jpa.entity.JSONPlainAttrList;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 
 @Entity
@@ -76,7 +76,7 @@ public class JPALinkedAccount extends AbstractAttributable implements LinkedAcco
     private String plainAttrs;
 
     @Transient
-    private final List<PlainAttr> plainAttrsList = new ArrayList<>();
+    private final JSONPlainAttrList plainAttrsList = new JSONPlainAttrList();
 
     @Override
     public String getConnObjectKeyValue() {
@@ -183,7 +183,7 @@ public class JPALinkedAccount extends AbstractAttributable implements LinkedAcco
     }
 
     @Override
-    public List<PlainAttr> getPlainAttrsList() {
+    public JSONPlainAttrList getPlainAttrsList() {
         return plainAttrsList;
     }
 
@@ -63,6 +63,7 @@ import org.apache.syncope.core.persistence.jpa.entity.AbstractGroupableRelatable
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
 import org.apache.syncope.core.persistence.jpa.entity.JPARole;
+import org.apache.syncope.core.persistence.jpa.entity.JSONPlainAttrList;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
@@ -97,7 +98,7 @@ public class JPAUser
     private String plainAttrs;
 
     @Transient
-    private final List<PlainAttr> plainAttrsList = new ArrayList<>();
+    private final JSONPlainAttrList plainAttrsList = new JSONPlainAttrList();
 
     @Lob
     protected String token;
@@ -264,7 +265,7 @@ public class JPAUser
     }
 
     @Override
-    public List<PlainAttr> getPlainAttrsList() {
+    public JSONPlainAttrList getPlainAttrsList() {
         return plainAttrsList;
     }
 
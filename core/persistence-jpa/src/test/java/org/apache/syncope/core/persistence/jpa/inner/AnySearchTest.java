@@ -36,10 +36,12 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -58,9 +60,11 @@ import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
@@ -68,6 +72,7 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.QueryPlanCache;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
@@ -101,6 +106,9 @@ public class AnySearchTest extends AbstractTest {
     @Autowired
     private AnyTypeDAO anyTypeDAO;
 
+    @Autowired
+    private AnyTypeClassDAO anyTypeClassDAO;
+
     @Autowired
     private RealmDAO realmDAO;
 
@@ -116,6 +124,9 @@ public class AnySearchTest extends AbstractTest {
     @Autowired
     private PlainAttrValidationManager validator;
 
+    @Autowired
+    private QueryPlanCache queryPlanCache;
+
     @BeforeEach
     public void adjustLoginDateForLocalSystem() throws ParseException {
         User rossini = userDAO.findByUsername("rossini").orElseThrow();
@@ -303,6 +314,54 @@ public class AnySearchTest extends AbstractTest {
         assertEquals("c9b2dec2-00a7-4855-97c0-d854842b4b24", users.getFirst().getKey());
     }
 
+    @Test
+    public void searchByContainment() {
+        AnyTypeClass other = anyTypeClassDAO.findById("other").orElseThrow();
+
+        PlainSchema aDouble = entityFactory.newEntity(PlainSchema.class);
+        aDouble.setKey("aDouble");
+        aDouble.setType(AttrSchemaType.Double);
+        aDouble.setAnyTypeClass(other);
+        aDouble = plainSchemaDAO.save(aDouble);
+        other.add(aDouble);
+
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(AnyTypeKind.USER);
+        String bellini = userDAO.findKey("bellini").orElseThrow();
+        anyUtils.addAttr(validator, bellini, plainSchemaDAO.findById("aLong").orElseThrow(), "42");
+        anyUtils.addAttr(validator, bellini, aDouble, "4.2");
+
+        entityManager.flush();
+
+        // on PostgreSQL, EQ conditions on String, Long, Double, Boolean and Enum schemas use JSONB containment
+        Map<String, String> conds = Map.of(
+                "firstname", "Vincenzo",
+                "aLong", "42",
+                "aDouble", "4.2",
+                "cool", "true",
+                "gender", "M");
+        conds.forEach((schema, expression) -> {
+            AttrCond cond = new AttrCond(AttrCond.Type.EQ);
+            cond.setSchema(schema);
+            cond.setExpression(expression);
+
+            List<User> users = searchDAO.search(SearchCond.of(cond), AnyTypeKind.USER);
+            assertEquals(List.of(bellini), users.stream().map(User::getKey).toList(), schema);
+
+            assertFalse(searchDAO.search(SearchCond.negate(cond), AnyTypeKind.USER).stream().
+                    anyMatch(user -> bellini.equals(user.getKey())), schema);
+        });
+
+        // different numeric values shall not match
+        AttrCond cond = new AttrCond(AttrCond.Type.EQ);
+        cond.setSchema("aLong");
+        cond.setExpression("43");
+        assertTrue(searchDAO.search(SearchCond.of(cond), AnyTypeKind.USER).isEmpty());
+
+        cond.setSchema("aDouble");
+        cond.setExpression("4.3");
+        assertTrue(searchDAO.search(SearchCond.of(cond), AnyTypeKind.USER).isEmpty());
+    }
+
     @Test
     public void searchByRealm() {
         AnyCond anyCond = new AnyCond(AttrCond.Type.EQ);
@@ -360,6 +419,118 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void scan() {
+        SearchCond cond = userDAO.getAllMatchingCond();
+
+        List<String> scanned = new ArrayList<>();
+        assertTrue(searchDAO.<User>scan(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, 2, AnyTypeKind.USER,
+                page -> {
+                    assertTrue(page.size() <= 2);
+                    page.forEach(user -> scanned.add(user.getKey()));
+                    return true;
+                }));
+        assertEquals(scanned.size(), new HashSet<>(scanned).size());
+        assertEquals(
+                searchDAO.<User>search(cond, AnyTypeKind.USER).stream().map(User::getKey).collect(Collectors.toSet()),
+                new HashSet<>(scanned));
+
+        List<String> interrupted = new ArrayList<>();
+        assertFalse(searchDAO.<User>scan(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, 2, AnyTypeKind.USER,
+                page -> {
+                    page.forEach(user -> interrupted.add(user.getKey()));
+                    return false;
+                }));
+        assertEquals(scanned.subList(0, 2), interrupted);
+    }
+
+    @Test
+    public void estimate() {
+        SearchCond cond = userDAO.getAllMatchingCond();
+
+        long count = searchDAO.count(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER);
+        assertEquals(count, searchDAO.estimate(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER));
+
+        // served from cache
+        assertEquals(count, searchDAO.estimate(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, userDAO.getAllMatchingCond(),
+                AnyTypeKind.USER));
+    }
+
+    @Test
+    public void queryPlanCache() {
+        AnyCond usernameCond = new AnyCond(AttrCond.Type.LIKE);
+        usernameCond.setSchema("username");
+        usernameCond.setExpression("%ini");
+        List<Sort.Order> orderBy = List.of(Sort.Order.asc("username"));
+
+        long hits = queryPlanCache.getHits();
+        long misses = queryPlanCache.getMisses();
+
+        List<User> users = searchDAO.search(SearchCond.of(usernameCond), orderBy, AnyTypeKind.USER);
+        assertFalse(users.isEmpty());
+        assertEquals(misses + 1, queryPlanCache.getMisses());
+
+        // same condition, built from scratch: served from cache
+        AnyCond sameCond = new AnyCond(AttrCond.Type.LIKE);
+        sameCond.setSchema("username");
+        sameCond.setExpression("%ini");
+        assertEquals(users, searchDAO.search(SearchCond.of(sameCond), orderBy, AnyTypeKind.USER));
+        assertEquals(hits + 1, queryPlanCache.getHits());
+        assertEquals(misses + 1, queryPlanCache.getMisses());
+
+        // group referenced by name: not cached
+        MembershipCond groupCond = new MembershipCond();
+        groupCond.setGroup("root");
+        searchDAO.search(SearchCond.of(groupCond), AnyTypeKind.USER);
+        searchDAO.search(SearchCond.of(groupCond), AnyTypeKind.USER);
+        assertEquals(hits + 1, queryPlanCache.getHits());
+        assertEquals(misses + 1, queryPlanCache.getMisses());
+
+        // realm referenced by full path: not cached
+        for (int i = 0; i < 2; i++) {
+            AnyCond realmCond = new AnyCond(AttrCond.Type.EQ);
+            realmCond.setSchema("realm");
+            realmCond.setExpression("/even");
+            assertFalse(searchDAO.search(SearchCond.of(realmCond), AnyTypeKind.USER).isEmpty());
+        }
+        assertEquals(hits + 1, queryPlanCache.getHits());
+        assertEquals(misses + 1, queryPlanCache.getMisses());
+
+        // invalidated
+        queryPlanCache.invalidate(AuthContextUtils.getDomain());
+        assertEquals(users, searchDAO.search(SearchCond.of(sameCond), orderBy, AnyTypeKind.USER));
+        assertEquals(hits + 1, queryPlanCache.getHits());
+        assertEquals(misses + 2, queryPlanCache.getMisses());
+
+        // admin realms are resolved for each search: realm hierarchy changes are reflected even without invalidation
+        AnyCond belliniCond = new AnyCond(AttrCond.Type.EQ);
+        belliniCond.setSchema("username");
+        belliniCond.setExpression("bellini");
+        assertTrue(searchDAO.<User>search(
+                realmDAO.getRoot(), true, Set.of("/even"), SearchCond.of(belliniCond), Pageable.unpaged(),
+                AnyTypeKind.USER).isEmpty());
+
+        Realm realm = entityFactory.newEntity(Realm.class);
+        realm.setName("cached");
+        realm.setParent(realmSearchDAO.findByFullPath("/even").orElseThrow());
+        realm = realmDAO.save(realm);
+
+        User bellini = userDAO.findByUsername("bellini").orElseThrow();
+        bellini.setRealm(realm);
+        userDAO.save(bellini);
+        entityManager.flush();
+
+        List<User> result = searchDAO.search(
+                realmDAO.getRoot(), true, Set.of("/even"), SearchCond.of(belliniCond), Pageable.unpaged(),
+                AnyTypeKind.USER);
+        assertEquals(List.of(bellini), result);
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
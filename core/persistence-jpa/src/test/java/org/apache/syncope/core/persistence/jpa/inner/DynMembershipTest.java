@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.DynRealm;
+import org.apache.syncope.core.persistence.api.entity.DynRealmMembership;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.UDynGroupMembership;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.repo.DynRealmRepoExt;
+import org.apache.syncope.core.persistence.jpa.dao.repo.GroupRepoExt;
+import org.apache.syncope.core.persistence.jpa.dao.repo.RoleRepoExt;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+@RecordApplicationEvents
+@Transactional
+public class DynMembershipTest extends AbstractTest {
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private RoleDAO roleDAO;
+
+    @Autowired
+    private DynRealmDAO dynRealmDAO;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @Autowired
+    private RealmSearchDAO realmSearchDAO;
+
+    @Autowired
+    private AnyTypeDAO anyTypeDAO;
+
+    @Autowired
+    private AnyTypeClassDAO anyTypeClassDAO;
+
+    @Autowired
+    private PlainAttrValidationManager validator;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private User newUser() {
+        User user = entityFactory.newEntity(User.class);
+        user.setUsername("dynmemb");
+        user.setRealm(realmSearchDAO.findByFullPath("/even/two").orElseThrow());
+        user.add(anyTypeClassDAO.findById("other").orElseThrow());
+
+        PlainAttr attr = new PlainAttr();
+        attr.setSchema("cool");
+        attr.add(validator, "true");
+        user.add(attr);
+
+        return user;
+    }
+
+    /**
+     * Same as the {@code findDyn*} methods of {@link UserDAO}, but within the current transaction.
+     */
+    private Set<String> findOwners(final String table, final String ownerColumn, final User user) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT " + ownerColumn + " FROM " + table + " WHERE any_id=?");
+        query.setParameter(1, user.getKey());
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result.stream().map(Object::toString).collect(Collectors.toSet());
+    }
+
+    /**
+     * Restricts the given keys to the owners created by the test, as fixture owners may match as well.
+     */
+    private static Set<String> filter(final Set<String> keys, final Entity... owners) {
+        return Stream.of(owners).map(Entity::getKey).filter(keys::contains).collect(Collectors.toSet());
+    }
+
+    private Group dynGroup(final String name, final String fiql) {
+        Group group = entityFactory.newEntity(Group.class);
+        group.setName(name);
+        group.setRealm(realmDAO.getRoot());
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond(fiql);
+        dynMembership.setGroup(group);
+        group.setUDynMembership(dynMembership);
+
+        return groupDAO.save(group);
+    }
+
+    private Set<String> updatedGroups() {
+        return events.stream(EntityLifecycleEvent.class).
+                filter(event -> event.getType() == SyncDeltaType.UPDATE && event.getEntity() instanceof Group).
+                map(event -> event.getEntity().getKey()).
+                collect(Collectors.toSet());
+    }
+
+    @Test
+    public void groupMembershipsAddedKeptAndRemoved() {
+        Group kept = dynGroup("dynKept", "cool==true");
+        Group removed = dynGroup("dynRemoved", "username==dynmemb");
+        Group added = dynGroup("dynAdded", "username==dynmemb2");
+
+        User user = userDAO.save(newUser());
+        assertEquals(
+                Set.of(kept.getKey(), removed.getKey()),
+                filter(findOwners(GroupRepoExt.UDYNMEMB_TABLE, "group_id", user), kept, removed, added));
+
+        // saving again without changes does not touch any group
+        events.clear();
+        GroupDAO.DynMembershipInfo info = userDAO.saveAndGetDynGroupMembs(user);
+        assertEquals(info.before(), info.after());
+        assertTrue(updatedGroups().isEmpty());
+
+        // a single save adds, keeps and removes memberships
+        user.setUsername("dynmemb2");
+
+        events.clear();
+        info = userDAO.saveAndGetDynGroupMembs(user);
+
+        assertEquals(Set.of(kept.getKey(), removed.getKey()), filter(info.before(), kept, removed, added));
+        assertEquals(Set.of(kept.getKey(), added.getKey()), filter(info.after(), kept, removed, added));
+        assertEquals(info.after(), findOwners(GroupRepoExt.UDYNMEMB_TABLE, "group_id", user));
+
+        // only groups whose dynamic membership changed are notified
+        assertEquals(Set.of(added.getKey(), removed.getKey()), updatedGroups());
+    }
+
+    @Test
+    public void roleMemberships() {
+        Role kept = entityFactory.newEntity(Role.class);
+        kept.setKey("dynKept");
+        kept.add(realmDAO.getRoot());
+        kept.getEntitlements().add(IdRepoEntitlement.AUDIT_LIST);
+        kept.setDynMembershipCond("cool==true");
+        kept = roleDAO.save(kept);
+
+        Role removed = entityFactory.newEntity(Role.class);
+        removed.setKey("dynRemoved");
+        removed.add(realmDAO.getRoot());
+        removed.getEntitlements().add(IdRepoEntitlement.AUDIT_LIST);
+        removed.setDynMembershipCond("username==dynmemb");
+        removed = roleDAO.save(removed);
+
+        Role added = entityFactory.newEntity(Role.class);
+        added.setKey("dynAdded");
+        added.add(realmDAO.getRoot());
+        added.getEntitlements().add(IdRepoEntitlement.AUDIT_LIST);
+        added.setDynMembershipCond("username==dynmemb2");
+        added = roleDAO.save(added);
+
+        User user = userDAO.save(newUser());
+        assertEquals(
+                Set.of(kept.getKey(), removed.getKey()),
+                filter(findOwners(RoleRepoExt.DYNMEMB_TABLE, "role_id", user), kept, removed, added));
+
+        user.setUsername("dynmemb2");
+        user = userDAO.save(user);
+        assertEquals(
+                Set.of(kept.getKey(), added.getKey()),
+                filter(findOwners(RoleRepoExt.DYNMEMB_TABLE, "role_id", user), kept, removed, added));
+    }
+
+    private DynRealm dynRealm(final String key, final String fiql) {
+        DynRealm dynRealm = entityFactory.newEntity(DynRealm.class);
+        dynRealm.setKey(key);
+
+        DynRealmMembership memb = entityFactory.newEntity(DynRealmMembership.class);
+        memb.setDynRealm(dynRealm);
+        memb.setAnyType(anyTypeDAO.getUser());
+        memb.setFIQLCond(fiql);
+        dynRealm.add(memb);
+
+        return dynRealmDAO.save(dynRealm);
+    }
+
+    @Test
+    public void dynRealmMemberships() {
+        DynRealm kept = dynRealm("dynKept", "cool==true");
+        DynRealm removed = dynRealm("dynRemoved", "username==dynmemb");
+        DynRealm added = dynRealm("dynAdded", "username==dynmemb2");
+
+        User user = userDAO.save(newUser());
+        assertEquals(
+                Set.of(kept.getKey(), removed.getKey()),
+                filter(findOwners(DynRealmRepoExt.DYNMEMB_TABLE, "dynRealm_id", user), kept, removed, added));
+
+        user.setUsername("dynmemb2");
+        user = userDAO.save(user);
+        assertEquals(
+                Set.of(kept.getKey(), added.getKey()),
+                filter(findOwners(DynRealmRepoExt.DYNMEMB_TABLE, "dynRealm_id", user), kept, removed, added));
+    }
+}
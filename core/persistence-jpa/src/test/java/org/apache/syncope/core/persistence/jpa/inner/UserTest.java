@@ -38,6 +38,7 @@ import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.spring.security.PasswordGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -86,6 +87,15 @@ public class UserTest extends AbstractTest {
         assertEquals("Puccini", user.getPlainAttr("surname").orElseThrow().getValuesAsStrings().getFirst());
     }
 
+    @Test
+    public void plainAttrsDecodedUponAccess() {
+        JPAUser user = (JPAUser) userDAO.findByUsername("puccini").orElseThrow();
+        assertFalse(user.getPlainAttrsList().isDecoded());
+
+        assertEquals("Giacomo", user.getPlainAttr("firstname").orElseThrow().getValuesAsStrings().getFirst());
+        assertTrue(user.getPlainAttrsList().isDecoded());
+    }
+
     @Test
     public void findUsername() {
         assertEquals("puccini", userDAO.findUsername("823074dc-d280-436d-a7dd-07399fae48ec").orElseThrow());
@@ -540,7 +540,8 @@ public class PersistenceContext {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final Neo4jTemplate neo4jTemplate,
-            final Neo4jClient neo4jClient) {
+            final Neo4jClient neo4jClient,
+            final PersistenceProperties persistenceProperties) {
 
         return new Neo4jAnySearchDAO(
                 realmSearchDAO,
@@ -553,7 +554,8 @@ public class PersistenceContext {
                 anyUtilsFactory,
                 validator,
                 neo4jTemplate,
-                neo4jClient);
+                neo4jClient,
+                persistenceProperties.getSearchCountCacheTtl());
     }
 
     @ConditionalOnMissingBean
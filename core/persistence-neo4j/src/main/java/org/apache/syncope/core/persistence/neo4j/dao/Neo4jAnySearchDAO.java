@@ -57,7 +57,6 @@ import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
-import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
@@ -152,7 +151,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final Neo4jTemplate neo4jTemplate,
-            final Neo4jClient neo4jClient) {
+            final Neo4jClient neo4jClient,
+            final long countCacheTtl) {
 
         super(
                 realmSearchDAO,
@@ -163,7 +163,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                 plainSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
-                validator);
+                validator,
+                countCacheTtl);
         this.neo4jTemplate = neo4jTemplate;
         this.neo4jClient = neo4jClient;
     }
@@ -1011,7 +1012,7 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
     }
 
     @Override
-    protected <T extends Any> List<T> doSearch(
+    protected List<String> doSearchKeys(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -1048,8 +1049,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
         LOG.debug("Query with auth and order by statements: {}, parameters: {}", query, parameters);
 
-        // 5. Prepare the result (avoiding duplicates)
-        return buildResult(neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
-                map(found -> found.get("id")).toList(), kind);
+        // 5. Extract the keys
+        return neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
+                map(found -> found.get("id").toString()).toList();
     }
 }
@@ -526,6 +526,7 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
         return saved;
     }
 
+    @Transactional(rollbackFor = { Throwable.class })
     @Override
     public void delete(final TaskType type, final String key) {
         findById(type, key).ifPresent(this::delete);
@@ -165,6 +165,9 @@ public class DynRealmRepoExtImpl extends AbstractDAO implements DynRealmRepoExt
             notifyDynMembershipRemoval(clearDynMembers(dynRealm));
 
             neo4jTemplate.deleteById(key, Neo4jDynRealm.class);
+
+            publisher.publishEvent(
+                    new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, dynRealm, AuthContextUtils.getDomain()));
         });
     }
 
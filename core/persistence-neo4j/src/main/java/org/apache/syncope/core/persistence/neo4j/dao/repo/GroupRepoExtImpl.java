@@ -60,6 +60,7 @@ import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.api.utils.DeferredDynMemberships;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
@@ -81,7 +82,6 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
@@ -350,55 +350,55 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
         clearUDynMembers(merged);
         if (merged.getUDynMembership() != null) {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, merged.getUDynMembership().getFIQLCond());
-            long count = anySearchDAO.count(
-                    realmDAO.getRoot(), true, Set.of(SyncopeConstants.ROOT_REALM), cond, AnyTypeKind.USER);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<User> matching = anySearchDAO.search(
-                        realmDAO.getRoot(),
-                        true,
-                        Set.of(SyncopeConstants.ROOT_REALM),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        AnyTypeKind.USER);
-
-                matching.forEach(user -> {
-                    neo4jClient.query(
-                            "MATCH (a:" + Neo4jUser.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
-                            + "CREATE (a)-[:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]->(b)").
-                            bindAll(Map.of("aid", user.getKey(), "gid", merged.getKey())).run();
-
-                    publisher.publishEvent(
-                            new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
-                });
-            }
+            anySearchDAO.<User>scan(
+                    realmDAO.getRoot(),
+                    true,
+                    Set.of(SyncopeConstants.ROOT_REALM),
+                    cond,
+                    AnyDAO.DEFAULT_PAGE_SIZE,
+                    AnyTypeKind.USER,
+                    matching -> {
+                        matching.forEach(user -> {
+                            neo4jClient.query(
+                                    "MATCH (a:" + Neo4jUser.NODE + " {id: $aid}), "
+                                    + "(b:" + Neo4jGroup.NODE + "{id: $gid}) "
+                                    + "CREATE (a)-[:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]->(b)").
+                                    bindAll(Map.of("aid", user.getKey(), "gid", merged.getKey())).run();
+
+                            publisher.publishEvent(new EntityLifecycleEvent<>(
+                                    this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
+                        });
+                        return true;
+                    });
         }
         clearADynMembers(merged);
         merged.getADynMemberships().forEach(memb -> {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond());
-            long count = anySearchDAO.count(
-                    realmDAO.getRoot(), true, Set.of(SyncopeConstants.ROOT_REALM), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<AnyObject> matching = anySearchDAO.search(
-                        realmDAO.getRoot(),
-                        true,
-                        Set.of(SyncopeConstants.ROOT_REALM),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        AnyTypeKind.ANY_OBJECT);
-
-                matching.forEach(any -> {
-                    neo4jClient.query(
-                            "MATCH (a:" + Neo4jAnyObject.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
-                            + "CREATE (a)-[:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]->(b)").
-                            bindAll(Map.of("aid", any.getKey(), "gid", merged.getKey())).run();
-
-                    publisher.publishEvent(
-                            new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
-                });
-            }
+            anySearchDAO.<AnyObject>scan(
+                    realmDAO.getRoot(),
+                    true,
+                    Set.of(SyncopeConstants.ROOT_REALM),
+                    cond,
+                    AnyDAO.DEFAULT_PAGE_SIZE,
+                    AnyTypeKind.ANY_OBJECT,
+                    matching -> {
+                        matching.forEach(any -> {
+                            neo4jClient.query(
+                                    "MATCH (a:" + Neo4jAnyObject.NODE + " {id: $aid}), "
+                                    + "(b:" + Neo4jGroup.NODE + "{id: $gid}) "
+                                    + "CREATE (a)-[:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]->(b)").
+                                    bindAll(Map.of("aid", any.getKey(), "gid", merged.getKey())).run();
+
+                            publisher.publishEvent(new EntityLifecycleEvent<>(
+                                    this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
+                        });
+                        return true;
+                    });
         });
 
-        dynRealmDAO.refreshDynMemberships(merged);
+        if (!DeferredDynMemberships.defer(merged)) {
+            dynRealmDAO.refreshDynMemberships(merged);
+        }
 
         return merged;
     }
@@ -98,6 +98,10 @@ public class RoleRepoExtImpl extends AbstractDAO implements RoleRepoExt {
         Role saved = neo4jTemplate.save(nodeValidator.validate(role));
         ((Neo4jRole) saved).postSave();
         cache.put(EntityCacheKey.of(saved.getKey()), (Neo4jRole) saved);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, saved, AuthContextUtils.getDomain()));
+
         return saved;
     }
 
@@ -150,6 +154,9 @@ public class RoleRepoExtImpl extends AbstractDAO implements RoleRepoExt {
         cache.remove(EntityCacheKey.of(role.getKey()));
 
         neo4jTemplate.deleteById(role.getKey(), Neo4jRole.class);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, role, AuthContextUtils.getDomain()));
     }
 
     @Override
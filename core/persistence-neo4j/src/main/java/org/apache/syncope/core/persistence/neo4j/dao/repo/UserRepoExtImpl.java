@@ -51,6 +51,7 @@ import org.apache.syncope.core.persistence.api.entity.user.SecurityQuestion;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.utils.DeferredDynMemberships;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AnyFinder;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
@@ -288,9 +289,14 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
 
         userCache.put(EntityCacheKey.of(merged.getKey()), (Neo4jUser) merged);
 
-        roleDAO.refreshDynMemberships(merged);
+        boolean deferred = DeferredDynMemberships.defer(merged);
+        if (!deferred) {
+            roleDAO.refreshDynMemberships(merged);
+        }
         GroupDAO.DynMembershipInfo dynGroupMembs = groupDAO.refreshDynMemberships(merged);
-        dynRealmDAO.refreshDynMemberships(merged);
+        if (!deferred) {
+            dynRealmDAO.refreshDynMemberships(merged);
+        }
 
         return Pair.of(merged, dynGroupMembs);
     }
@@ -35,6 +35,9 @@ public class Neo4jPropagationPolicy extends Neo4jPolicy implements PropagationPo
     @NotNull
     private Boolean fetchAroundProvisioning = true;
 
+    @NotNull
+    private Boolean fetchAfterProvisioning = true;
+
     @NotNull
     private Boolean updateDelta = false;
 
@@ -47,6 +50,26 @@ public class Neo4jPropagationPolicy extends Neo4jPolicy implements PropagationPo
     @NotNull
     private Integer maxAttempts = 3;
 
+    @Min(0)
+    @NotNull
+    private Integer coalescingWindow = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer maxConcurrency = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer breakerFailureThreshold = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer breakerSlowCallThreshold = 0;
+
+    @Min(0)
+    @NotNull
+    private Integer breakerOpenDuration = 60;
+
     @Override
     public boolean isFetchAroundProvisioning() {
         return fetchAroundProvisioning;
@@ -57,6 +80,16 @@ public class Neo4jPropagationPolicy extends Neo4jPolicy implements PropagationPo
         this.fetchAroundProvisioning = fetchAroundProvisioning;
     }
 
+    @Override
+    public boolean isFetchAfterProvisioning() {
+        return fetchAfterProvisioning;
+    }
+
+    @Override
+    public void setFetchAfterProvisioning(final boolean fetchAfterProvisioning) {
+        this.fetchAfterProvisioning = fetchAfterProvisioning;
+    }
+
     @Override
     public boolean isUpdateDelta() {
         return updateDelta;
@@ -96,4 +129,54 @@ public class Neo4jPropagationPolicy extends Neo4jPolicy implements PropagationPo
     public void setMaxAttempts(final int maxAttempts) {
         this.maxAttempts = maxAttempts;
     }
+
+    @Override
+    public int getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    @Override
+    public void setCoalescingWindow(final int coalescingWindow) {
+        this.coalescingWindow = coalescingWindow;
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void setMaxConcurrency(final int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    @Override
+    public void setBreakerFailureThreshold(final int breakerFailureThreshold) {
+        this.breakerFailureThreshold = breakerFailureThreshold;
+    }
+
+    @Override
+    public int getBreakerSlowCallThreshold() {
+        return breakerSlowCallThreshold;
+    }
+
+    @Override
+    public void setBreakerSlowCallThreshold(final int breakerSlowCallThreshold) {
+        this.breakerSlowCallThreshold = breakerSlowCallThreshold;
+    }
+
+    @Override
+    public int getBreakerOpenDuration() {
+        return breakerOpenDuration;
+    }
+
+    @Override
+    public void setBreakerOpenDuration(final int breakerOpenDuration) {
+        this.breakerOpenDuration = breakerOpenDuration;
+    }
 }
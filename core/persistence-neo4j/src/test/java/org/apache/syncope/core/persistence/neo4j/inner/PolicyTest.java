@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.neo4j.inner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -95,6 +96,7 @@ public class PolicyTest extends AbstractTest {
         assertEquals(BackOffStrategy.FIXED, propagationPolicy.getBackOffStrategy());
         assertEquals("10000", propagationPolicy.getBackOffParams());
         assertEquals(5, propagationPolicy.getMaxAttempts());
+        assertTrue(propagationPolicy.isFetchAfterProvisioning());
 
         InboundPolicy inboundPolicy = policyDAO.findById("880f8553-069b-4aed-9930-2cd53873f544", InboundPolicy.class).
                 orElseThrow();
@@ -136,12 +138,14 @@ public class PolicyTest extends AbstractTest {
 
         PropagationPolicy propagationPolicy = entityFactory.newEntity(PropagationPolicy.class);
         propagationPolicy.setName("Propagation policy");
+        propagationPolicy.setFetchAfterProvisioning(false);
         propagationPolicy.setMaxAttempts(5);
         propagationPolicy.setBackOffStrategy(BackOffStrategy.EXPONENTIAL);
         propagationPolicy.setBackOffParams(propagationPolicy.getBackOffStrategy().getDefaultBackOffParams());
 
         propagationPolicy = policyDAO.save(propagationPolicy);
         assertNotNull(propagationPolicy);
+        assertFalse(propagationPolicy.isFetchAfterProvisioning());
         assertEquals(5, propagationPolicy.getMaxAttempts());
         assertEquals(BackOffStrategy.EXPONENTIAL, propagationPolicy.getBackOffStrategy());
         assertEquals(BackOffStrategy.EXPONENTIAL.getDefaultBackOffParams(), propagationPolicy.getBackOffParams());
@@ -42,6 +42,16 @@ public interface AuditManager {
             String subcategory,
             String op);
 
+    /**
+     * Notifies that audit configurations were changed for the given domain, so that any cached information
+     * can be discarded.
+     *
+     * @param domain domain
+     */
+    default void auditConfsChanged(String domain) {
+        // nothing to do
+    }
+
     /**
      * Create audit entries according to the provided event.
      *
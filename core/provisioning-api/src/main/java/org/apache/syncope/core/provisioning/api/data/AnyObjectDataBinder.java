@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.Set;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
@@ -30,6 +31,16 @@ public interface AnyObjectDataBinder {
 
     AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details);
 
+    /**
+     * Same as {@link #getAnyObjectTO(AnyObject, boolean)}, but only including the given plain and derived attributes.
+     *
+     * @param anyObject anyObject
+     * @param details whether to include all details or not
+     * @param attrs plain or derived schema keys of the attributes to include, all if empty
+     * @return transfer object for the given anyObject
+     */
+    AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details, Set<String> attrs);
+
     void create(AnyObject anyObject, AnyObjectCR anyObjectCR);
 
     PropagationByResource<String> update(AnyObject toBeUpdated, AnyObjectUR anyObjectUR);
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.api.data;
 
 import java.util.Map;
+import java.util.Set;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
 import org.apache.syncope.common.lib.to.GroupTO;
@@ -35,6 +36,16 @@ public interface GroupDataBinder {
 
     GroupTO getGroupTO(Group group, boolean details);
 
+    /**
+     * Same as {@link #getGroupTO(Group, boolean)}, but only including the given plain and derived attributes.
+     *
+     * @param group group
+     * @param details whether to include all details or not
+     * @param attrs plain or derived schema keys of the attributes to include, all if empty
+     * @return transfer object for the given group
+     */
+    GroupTO getGroupTO(Group group, boolean details, Set<String> attrs);
+
     void create(Group group, GroupCR groupCR);
 
     PropagationByResource<String> update(Group group, GroupUR groupUR);
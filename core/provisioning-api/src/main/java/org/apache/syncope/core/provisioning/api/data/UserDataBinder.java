@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.Set;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
 import org.apache.syncope.common.lib.to.LinkedAccountTO;
@@ -34,6 +35,16 @@ public interface UserDataBinder {
 
     UserTO getUserTO(User user, boolean details);
 
+    /**
+     * Same as {@link #getUserTO(User, boolean)}, but only including the given plain and derived attributes.
+     *
+     * @param user user
+     * @param details whether to include all details or not
+     * @param attrs plain or derived schema keys of the attributes to include, all if empty
+     * @return transfer object for the given user
+     */
+    UserTO getUserTO(User user, boolean details, Set<String> attrs);
+
     LinkedAccountTO getLinkedAccountTO(LinkedAccount account);
 
     void create(User user, UserCR userCR);
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.jexl;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, concurrent cache of compiled JEXL artifacts, keyed by source text.
+ * When full, the oldest inserted entries are evicted first.
+ *
+ * @param <V> compiled artifact type
+ */
+public class JexlCache<V> {
+
+    protected final int maxSize;
+
+    protected final Map<String, V> entries = new ConcurrentHashMap<>();
+
+    protected final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    protected final LongAdder hits = new LongAdder();
+
+    protected final LongAdder misses = new LongAdder();
+
+    protected final LongAdder evictions = new LongAdder();
+
+    protected final LongAdder compileTime = new LongAdder();
+
+    public JexlCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached artifact for the given source, compiling and caching it if not found.
+     * Compilation errors are not cached and are propagated to the caller.
+     *
+     * @param source source text
+     * @param compiler function compiling the source text
+     * @return compiled artifact
+     */
+    public V get(final String source, final Function<String, V> compiler) {
+        V compiled = entries.get(source);
+        if (compiled != null) {
+            hits.increment();
+            return compiled;
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        compiled = compiler.apply(source);
+        compileTime.add(System.nanoTime() - start);
+
+        if (maxSize > 0 && entries.putIfAbsent(source, compiled) == null) {
+            insertionOrder.offer(source);
+            while (entries.size() > maxSize) {
+                String eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                if (entries.remove(eldest) != null) {
+                    evictions.increment();
+                }
+            }
+        }
+
+        return compiled;
+    }
+
+    public void clear() {
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return total time spent compiling sources on cache misses, in nanoseconds
+     */
+    public long getCompileTime() {
+        return compileTime.sum();
+    }
+}
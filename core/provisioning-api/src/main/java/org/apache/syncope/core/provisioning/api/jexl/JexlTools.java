@@ -39,24 +39,51 @@ public class JexlTools {
 
     protected static final Logger LOG = LoggerFactory.getLogger(JexlTools.class);
 
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
     protected final JexlEngine jexlEngine;
 
     protected final JxltEngine jxltEngine;
 
+    protected final JexlCache<JexlExpression> expressionCache;
+
+    protected final JexlCache<JxltEngine.Template> templateCache;
+
     public JexlTools(final JexlEngine jexlEngine) {
-        this.jexlEngine = jexlEngine;
-        this.jxltEngine = jexlEngine.createJxltEngine(false);
+        this(jexlEngine, jexlEngine.createJxltEngine(false));
     }
 
     public JexlTools(final JexlEngine jexlEngine, final JxltEngine jxltEngine) {
+        this(jexlEngine, jxltEngine, DEFAULT_CACHE_SIZE);
+    }
+
+    public JexlTools(final JexlEngine jexlEngine, final JxltEngine jxltEngine, final int cacheSize) {
         this.jexlEngine = jexlEngine;
         this.jxltEngine = jxltEngine;
+        this.expressionCache = new JexlCache<>(cacheSize);
+        this.templateCache = new JexlCache<>(cacheSize);
+    }
+
+    public JexlCache<JexlExpression> getExpressionCache() {
+        return expressionCache;
+    }
+
+    public JexlCache<JxltEngine.Template> getTemplateCache() {
+        return templateCache;
+    }
+
+    protected JexlExpression createExpression(final String expression) {
+        return expressionCache.get(expression, jexlEngine::createExpression);
+    }
+
+    protected JxltEngine.Template createTemplate(final String template) {
+        return templateCache.get(template, jxltEngine::createTemplate);
     }
 
     public boolean isExpressionValid(final String expression) {
         boolean result;
         try {
-            jexlEngine.createExpression(expression);
+            createExpression(expression);
             result = true;
         } catch (JexlException e) {
             LOG.error("Invalid JEXL expression: {}", expression, e);
@@ -71,7 +98,7 @@ public class JexlTools {
 
         if (StringUtils.isNotBlank(expression) && jexlContext != null) {
             try {
-                JexlExpression jexlExpression = jexlEngine.createExpression(expression);
+                JexlExpression jexlExpression = createExpression(expression);
                 result = jexlExpression.evaluate(jexlContext);
             } catch (Exception e) {
                 LOG.error("Error while evaluating JEXL expression: {}", expression, e);
@@ -89,7 +116,7 @@ public class JexlTools {
         if (StringUtils.isNotBlank(template) && jexlContext != null) {
             try {
                 StringWriter writer = new StringWriter();
-                jxltEngine.createTemplate(template).evaluate(jexlContext, writer);
+                createTemplate(template).evaluate(jexlContext, writer);
                 result = writer.toString();
             } catch (Exception e) {
                 LOG.error("Error while evaluating JEXL template: {}", template, e);
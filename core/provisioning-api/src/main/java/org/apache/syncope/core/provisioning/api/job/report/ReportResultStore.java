@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.job.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+
+/**
+ * Storage for the (compressed) output of report executions, which is streamed rather than held in memory.
+ */
+public interface ReportResultStore {
+
+    /**
+     * Opens a stream where the output of the given report execution can be written; such output is made available
+     * once the returned stream is closed.
+     *
+     * @param execution report execution
+     * @return stream where to write the report execution output
+     * @throws IOException if the output cannot be stored
+     */
+    OutputStream create(ReportExec execution) throws IOException;
+
+    /**
+     * Opens a stream for reading the output of the given report execution.
+     *
+     * @param execution report execution
+     * @return stream for reading the report execution output, if available
+     * @throws IOException if the output cannot be read
+     */
+    Optional<InputStream> open(ReportExec execution) throws IOException;
+
+    /**
+     * Removes the output of the given report execution, if any.
+     *
+     * @param execution report execution
+     */
+    void delete(ReportExec execution);
+}
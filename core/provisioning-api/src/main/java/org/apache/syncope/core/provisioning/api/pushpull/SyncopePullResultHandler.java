@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.Iterator;
+import java.util.List;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
@@ -26,4 +28,18 @@ public interface SyncopePullResultHandler extends SyncopeResultHandler<PullTask,
 
     @Override
     boolean handle(SyncDelta delta);
+
+    /**
+     * Handles the given deltas as a single unit of work.
+     *
+     * @param deltas deltas to handle, in order
+     * @return whether all deltas were handled and processing shall continue
+     */
+    default boolean handle(List<SyncDelta> deltas) {
+        boolean result = true;
+        for (Iterator<SyncDelta> itor = deltas.iterator(); itor.hasNext() && result;) {
+            result = handle(itor.next());
+        }
+        return result;
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.api.serialization;
 
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -112,6 +113,16 @@ public final class POJOHelper {
         return result;
     }
 
+    /**
+     * Builds a reader for the given type, to be kept and reused when deserializing the same type repeatedly.
+     *
+     * @param reference type reference
+     * @return reader for the given type
+     */
+    public static ObjectReader reader(final TypeReference<?> reference) {
+        return MAPPER.readerFor(reference);
+    }
+
     public static <T extends Object> T convertValue(final Object value, final Class<T> reference) {
         T result = null;
 
@@ -42,7 +42,6 @@ public class AbstractTest {
                 loader(new EmptyClassLoader()).
                 permissions(JexlPermissions.RESTRICTED.compose("java.time.*", "org.apache.syncope.*")).
                 namespaces(Map.of("syncope", new SyncopeJexlFunctions())).
-                cache(512).
                 silent(false).
                 strict(false).
                 create();
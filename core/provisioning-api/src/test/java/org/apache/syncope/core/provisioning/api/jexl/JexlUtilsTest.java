@@ -73,6 +73,30 @@ public class JexlUtilsTest extends AbstractTest {
         assertEquals(result, jexlTools().evaluateExpression(expression, context));
     }
 
+    @Test
+    void expressionCache() {
+        JexlTools jexlTools = jexlTools();
+        String expression = "6 * 12 + 5 / 2.6";
+
+        assertEquals(73.92307692307692, jexlTools.evaluateExpression(expression, context));
+        assertEquals(73.92307692307692, jexlTools.evaluateExpression(expression, context));
+        assertEquals(1, jexlTools.getExpressionCache().size());
+        assertEquals(1, jexlTools.getExpressionCache().getMisses());
+        assertEquals(1, jexlTools.getExpressionCache().getHits());
+
+        // invalid expressions are not cached
+        assertFalse(jexlTools.isExpressionValid("@inv4lid expression!"));
+        assertEquals(1, jexlTools.getExpressionCache().size());
+
+        JexlCache<String> cache = new JexlCache<>(2);
+        cache.get("a", String::toUpperCase);
+        cache.get("b", String::toUpperCase);
+        cache.get("c", String::toUpperCase);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals("C", cache.get("c", String::toLowerCase));
+    }
+
     @Test
     void builderFields(
             final @Mock Any any,
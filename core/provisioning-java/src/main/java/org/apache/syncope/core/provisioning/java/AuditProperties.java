@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.nio.file.Path;
+
+public class AuditProperties {
+
+    /**
+     * Maximum number of audit events stored within the same transaction.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum number of audit events waiting to be stored.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * What to do when the queue of audit events waiting to be stored is full.
+     */
+    private DefaultAuditManager.OverflowPolicy overflowPolicy = DefaultAuditManager.OverflowPolicy.BLOCK;
+
+    /**
+     * How long (in seconds) active audit configurations are cached before being reloaded.
+     */
+    private long confCacheTtl = 60;
+
+    /**
+     * Directory where audit events are spilled when the queue is full and the overflow policy is SPILL.
+     */
+    private String spillDirectory = Path.of(System.getProperty("java.io.tmpdir"), "syncope-audit").toString();
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public DefaultAuditManager.OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(final DefaultAuditManager.OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public long getConfCacheTtl() {
+        return confCacheTtl;
+    }
+
+    public void setConfCacheTtl(final long confCacheTtl) {
+        this.confCacheTtl = confCacheTtl;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(final String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+}
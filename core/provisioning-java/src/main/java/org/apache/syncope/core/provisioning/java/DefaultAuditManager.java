@@ -18,11 +18,32 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
 import org.apache.syncope.common.lib.to.UserTO;
@@ -41,7 +62,6 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.task.AsyncTaskExecutor;
-import org.springframework.transaction.annotation.Transactional;
 
 public class DefaultAuditManager implements AuditManager {
 
@@ -78,6 +98,58 @@ public class DefaultAuditManager implements AuditManager {
         return masked;
     }
 
+    /**
+     * What to do when the queue of audit events waiting to be stored is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until space becomes available.
+         */
+        BLOCK,
+        /**
+         * Discard the audit event, logging it.
+         */
+        DROP,
+        /**
+         * Append the audit event to a local file, whose content is stored once the queue has been drained.
+         */
+        SPILL
+    }
+
+    protected record PendingAuditEvent(
+            String domain,
+            String who,
+            OpEvent opEvent,
+            OffsetDateTime when,
+            Object before,
+            Object output,
+            Object[] input) {
+
+    }
+
+    protected record ActiveAuditConfs(Set<String> keys, long loadedAt) {
+
+    }
+
+    /**
+     * Audit event as appended to the spill file, one JSON object per line.
+     */
+    protected record SpilledAuditEvent(
+            String domain,
+            String opEvent,
+            String who,
+            OffsetDateTime when,
+            String before,
+            List<String> inputs,
+            String output,
+            String throwable) {
+
+    }
+
+    protected static final String SPILL_FILE = "audit-spill.jsonl";
+
+    protected static final String REPLAY_SUFFIX = ".replay";
+
     protected final AuditConfDAO auditConfDAO;
 
     protected final AuditEventDAO auditEventDAO;
@@ -88,6 +160,26 @@ public class DefaultAuditManager implements AuditManager {
 
     protected final AsyncTaskExecutor taskExecutor;
 
+    protected final int batchSize;
+
+    protected final OverflowPolicy overflowPolicy;
+
+    protected final long confCacheTtl;
+
+    protected final BlockingQueue<PendingAuditEvent> queue;
+
+    protected final AtomicBoolean draining = new AtomicBoolean(false);
+
+    protected final LongAdder dropped = new LongAdder();
+
+    protected final Path spillDirectory;
+
+    protected final Object spillLock = new Object();
+
+    protected final LongAdder spilled = new LongAdder();
+
+    protected final Map<String, ActiveAuditConfs> activeConfs = new ConcurrentHashMap<>();
+
     public DefaultAuditManager(
             final AuditConfDAO auditConfDAO,
             final AuditEventDAO auditEventDAO,
@@ -95,11 +187,47 @@ public class DefaultAuditManager implements AuditManager {
             final List<AuditEventProcessor> auditEventProcessors,
             final AsyncTaskExecutor taskExecutor) {
 
+        this(auditConfDAO, auditEventDAO, entityFactory, auditEventProcessors, taskExecutor,
+                new AuditProperties());
+    }
+
+    public DefaultAuditManager(
+            final AuditConfDAO auditConfDAO,
+            final AuditEventDAO auditEventDAO,
+            final EntityFactory entityFactory,
+            final List<AuditEventProcessor> auditEventProcessors,
+            final AsyncTaskExecutor taskExecutor,
+            final AuditProperties props) {
+
         this.auditConfDAO = auditConfDAO;
         this.auditEventDAO = auditEventDAO;
         this.entityFactory = entityFactory;
         this.auditEventProcessors = auditEventProcessors;
         this.taskExecutor = taskExecutor;
+        this.batchSize = props.getBatchSize();
+        this.overflowPolicy = props.getOverflowPolicy();
+        this.confCacheTtl = TimeUnit.SECONDS.toMillis(props.getConfCacheTtl());
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+        this.spillDirectory = Path.of(props.getSpillDirectory());
+    }
+
+    protected Set<String> getActiveConfs(final String domain) {
+        ActiveAuditConfs confs = activeConfs.get(domain);
+        if (confs == null || System.currentTimeMillis() - confs.loadedAt() > confCacheTtl) {
+            confs = new ActiveAuditConfs(
+                    AuthContextUtils.callAsAdmin(domain, () -> auditConfDAO.findAll().stream().
+                            filter(AuditConf::isActive).
+                            map(AuditConf::getKey).
+                            collect(Collectors.toSet())),
+                    System.currentTimeMillis());
+            activeConfs.put(domain, confs);
+        }
+        return confs.keys();
+    }
+
+    @Override
+    public void auditConfsChanged(final String domain) {
+        activeConfs.remove(domain);
     }
 
     @Override
@@ -111,15 +239,9 @@ public class DefaultAuditManager implements AuditManager {
             final String subcategory,
             final String op) {
 
-        return AuthContextUtils.callAsAdmin(domain, () -> {
-            OpEvent opEvent = new OpEvent(type, category, subcategory, op, OpEvent.Outcome.SUCCESS);
-            if (auditConfDAO.findById(opEvent.toString()).map(AuditConf::isActive).orElse(false)) {
-                return true;
-            }
-
-            opEvent = new OpEvent(type, category, subcategory, op, OpEvent.Outcome.FAILURE);
-            return auditConfDAO.findById(opEvent.toString()).map(AuditConf::isActive).orElse(false);
-        });
+        Set<String> confs = getActiveConfs(domain);
+        return confs.contains(new OpEvent(type, category, subcategory, op, OpEvent.Outcome.SUCCESS).toString())
+                || confs.contains(new OpEvent(type, category, subcategory, op, OpEvent.Outcome.FAILURE).toString());
     }
 
     @Override
@@ -150,51 +272,264 @@ public class DefaultAuditManager implements AuditManager {
             final Object output,
             final Object... input) {
 
-        taskExecutor.submit(() -> AuthContextUtils.runAsAdmin(domain, new Runnable() {
+        OpEvent opEvent = new OpEvent(type, category, subcategory, op, outcome);
+        if (!getActiveConfs(domain).contains(opEvent.toString())) {
+            LOG.debug("No active audit conf found for {}, skipping", opEvent);
+            return;
+        }
+
+        PendingAuditEvent pending = new PendingAuditEvent(
+                domain, who, opEvent, OffsetDateTime.now(), before, output, input);
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(pending)) {
+                dropped.increment();
+                LOG.warn("Audit queue is full, dropping {} by {} on domain {}", opEvent, who, domain);
+                return;
+            }
+        } else if (overflowPolicy == OverflowPolicy.SPILL) {
+            if (!queue.offer(pending) && !spill(pending)) {
+                dropped.increment();
+                LOG.warn("Audit queue is full and spill failed, dropping {} by {} on domain {}", opEvent, who, domain);
+                return;
+            }
+        } else {
+            try {
+                queue.put(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.error("Interrupted while enqueuing {}", opEvent, e);
+                return;
+            }
+        }
+
+        scheduleDrain();
+    }
+
+    protected void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            taskExecutor.submit(this::drain);
+        }
+    }
+
+    /**
+     * Appends the given audit event to the spill file.
+     *
+     * @param pending audit event
+     * @return whether the audit event was spilled
+     */
+    protected boolean spill(final PendingAuditEvent pending) {
+        AuditEvent auditEvent;
+        try {
+            auditEvent = build(pending);
+        } catch (Exception e) {
+            LOG.error("While processing audit event for conf {}", pending.opEvent(), e);
+            return false;
+        }
 
-            @Transactional
-            @Override
-            public void run() {
-                OpEvent opEvent = new OpEvent(type, category, subcategory, op, outcome);
+        String line = POJOHelper.serialize(new SpilledAuditEvent(
+                pending.domain(),
+                auditEvent.getOpEvent(),
+                auditEvent.getWho(),
+                auditEvent.getWhen(),
+                auditEvent.getBefore(),
+                auditEvent.getInputs(),
+                auditEvent.getOutput(),
+                auditEvent.getThrowable()));
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillDirectory);
+                try (BufferedWriter writer = Files.newBufferedWriter(
+                        spillDirectory.resolve(SPILL_FILE), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
 
-                Optional<? extends AuditConf> auditConf = auditConfDAO.findById(opEvent.toString());
-                if (auditConf.isEmpty()) {
-                    LOG.debug("No audit conf found for {}, skipping", opEvent);
-                    return;
+                    writer.write(line);
+                    writer.newLine();
                 }
-                if (!auditConf.get().isActive()) {
-                    LOG.debug("Audit conf found for {} is not active, skipping", opEvent);
-                    LOG.debug("Audit conf found for {} is not active, skippping", opEvent);
-                    return;
+            } catch (IOException e) {
+                LOG.error("While spilling audit event for conf {}", pending.opEvent(), e);
+                return false;
+            }
+        }
+
+        spilled.increment();
+        return true;
+    }
+
+    /**
+     * Stores the audit events found in spill files, if any; the current spill file is renamed first, so that
+     * further spilling goes to a new file.
+     */
+    protected void replaySpilled() {
+        synchronized (spillLock) {
+            Path spillFile = spillDirectory.resolve(SPILL_FILE);
+            if (Files.exists(spillFile)) {
+                try {
+                    Files.move(spillFile, spillDirectory.resolve(SPILL_FILE + '.' + System.nanoTime() + REPLAY_SUFFIX),
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    LOG.error("While preparing {} for replay", spillFile, e);
                 }
+            }
+        }
 
+        if (!Files.isDirectory(spillDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> replays =
+                Files.newDirectoryStream(spillDirectory, SPILL_FILE + ".*" + REPLAY_SUFFIX)) {
+            for (Path replay : replays) {
+                replay(replay);
+            }
+        } catch (IOException e) {
+            LOG.error("While looking for spilled audit events in {}", spillDirectory, e);
+        }
+    }
+
+    protected void replay(final Path replay) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(replay, StandardCharsets.UTF_8)) {
+            List<SpilledAuditEvent> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    Optional.ofNullable(POJOHelper.deserialize(line, SpilledAuditEvent.class)).ifPresent(batch::add);
+                }
+                if (batch.size() >= batchSize) {
+                    storeSpilled(batch);
+                    batch.clear();
+                }
+            }
+            storeSpilled(batch);
+        }
+
+        Files.delete(replay);
+        LOG.info("Stored spilled audit events from {}", replay);
+    }
+
+    protected void storeSpilled(final List<SpilledAuditEvent> spilledEvents) {
+        spilledEvents.stream().collect(Collectors.groupingBy(
+                SpilledAuditEvent::domain, LinkedHashMap::new, Collectors.toList())).
+                forEach((domain, events) -> AuthContextUtils.runAsAdmin(domain, () -> save(domain, events.stream().
+                        map(event -> {
+                            AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
+                            auditEvent.setOpEvent(event.opEvent());
+                            auditEvent.setWho(event.who());
+                            auditEvent.setWhen(event.when());
+                            auditEvent.setBefore(event.before());
+                            auditEvent.setInputs(event.inputs());
+                            auditEvent.setOutput(event.output());
+                            auditEvent.setThrowable(event.throwable());
+                            return Pair.of(OpEvent.fromString(event.opEvent()), auditEvent);
+                        }).collect(Collectors.toCollection(ArrayList::new)))));
+    }
+
+    protected void drain() {
+        try {
+            List<PendingAuditEvent> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                batch.stream().collect(Collectors.groupingBy(
+                        PendingAuditEvent::domain, LinkedHashMap::new, Collectors.toList())).
+                        forEach((domain, events) -> AuthContextUtils.runAsAdmin(domain, () -> store(domain, events)));
+                batch.clear();
+            }
+
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                replaySpilled();
+            }
+        } catch (Exception e) {
+            LOG.error("While storing audit events", e);
+        } finally {
+            draining.set(false);
+            // events might have been enqueued after the last drain
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    protected AuditEvent build(final PendingAuditEvent pending) {
+        AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
+        auditEvent.setOpEvent(pending.opEvent().toString());
+        auditEvent.setWho(pending.who());
+        auditEvent.setWhen(pending.when());
+        auditEvent.setBefore(POJOHelper.serialize((maskSensitive(pending.before()))));
+
+        Optional.ofNullable(pending.input()).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
+                map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
+                toList()));
+
+        if (pending.output() instanceof Throwable throwable) {
+            auditEvent.setOutput(throwable.getMessage());
+            auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
+        } else {
+            auditEvent.setOutput(POJOHelper.serialize((maskSensitive(pending.output()))));
+        }
+
+        return auditEvent;
+    }
+
+    protected void process(final String domain, final OpEvent opEvent, final AuditEvent auditEvent) {
+        auditEventProcessors.stream().
+                filter(p -> p.getEvents(domain).contains(opEvent)).
+                forEach(p -> p.process(domain, auditEvent));
+    }
+
+    protected void store(final String domain, final List<PendingAuditEvent> pendings) {
+        List<Pair<OpEvent, AuditEvent>> built = new ArrayList<>(pendings.size());
+        pendings.forEach(pending -> {
+            try {
+                built.add(Pair.of(pending.opEvent(), build(pending)));
+            } catch (Exception e) {
+                LOG.error("While processing audit event for conf {}", pending.opEvent(), e);
+            }
+        });
+
+        save(domain, built);
+    }
+
+    protected void save(final String domain, final List<Pair<OpEvent, AuditEvent>> built) {
+        try {
+            auditEventDAO.saveAll(built.stream().map(Pair::getRight).toList());
+        } catch (Exception e) {
+            LOG.error("While storing {} audit events, now storing one by one", built.size(), e);
+
+            built.removeIf(pair -> {
                 try {
-                    AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
-                    auditEvent.setOpEvent(opEvent.toString());
-                    auditEvent.setWho(who);
-                    auditEvent.setWhen(OffsetDateTime.now());
-                    auditEvent.setBefore(POJOHelper.serialize((maskSensitive(before))));
-
-                    Optional.ofNullable(input).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
-                            map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
-                            toList()));
-
-                    if (output instanceof Throwable throwable) {
-                        auditEvent.setOutput(throwable.getMessage());
-                        auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
-                    } else {
-                        auditEvent.setOutput(POJOHelper.serialize((maskSensitive(output))));
-                    }
-
-                    auditEventDAO.save(auditEvent);
-
-                    auditEventProcessors.stream().
-                            filter(p -> p.getEvents(domain).contains(opEvent)).
-                            forEach(p -> p.process(domain, auditEvent));
-                } catch (Exception e) {
-                    LOG.error("While processing audit event for conf {}", opEvent, e);
+                    auditEventDAO.save(pair.getRight());
+                    return false;
+                } catch (Exception ex) {
+                    LOG.error("While storing audit event for conf {}", pair.getLeft(), ex);
+                    return true;
                 }
+            });
+        }
+
+        built.forEach(pair -> {
+            try {
+                process(domain, pair.getLeft(), pair.getRight());
+            } catch (Exception e) {
+                LOG.error("While processing audit event for conf {}", pair.getLeft(), e);
             }
-        }));
+        });
+    }
+
+    /**
+     * @return number of audit events waiting to be stored
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return number of audit events discarded because of the queue being full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return number of audit events spilled to local file because of the queue being full
+     */
+    public long getSpilled() {
+        return spilled.sum();
     }
 }
@@ -119,6 +119,15 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
                 anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, DerSchema.class).self());
     }
 
+    @Override
+    public Map<DerSchema, String> getValues(final Any any, final Set<String> schemas) {
+        return getValues(
+                any,
+                anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, DerSchema.class).self().stream().
+                        filter(schema -> schemas.contains(schema.getKey())).
+                        collect(Collectors.toSet()));
+    }
+
     @Override
     public Map<DerSchema, String> getValues(final Groupable<?, ?, ?> any, final Membership<?> membership) {
         Set<DerSchema> schemas = anyUtilsFactory.getInstance(any).dao().
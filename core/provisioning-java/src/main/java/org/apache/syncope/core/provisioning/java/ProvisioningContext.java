@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.introspection.JexlPermissions;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
@@ -115,6 +117,7 @@ import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
 import org.apache.syncope.core.provisioning.api.jexl.SyncopeJexlFunctions;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.api.job.report.ReportResultStore;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
@@ -154,13 +157,18 @@ import org.apache.syncope.core.provisioning.java.data.WAConfigDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.data.wa.WAClientAppDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.job.DefaultJobManager;
 import org.apache.syncope.core.provisioning.java.job.JobStatusUpdater;
+import org.apache.syncope.core.provisioning.java.job.StatsRegistry;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.provisioning.java.job.SystemLoadReporterJob;
 import org.apache.syncope.core.provisioning.java.job.notification.MailNotificationJobDelegate;
 import org.apache.syncope.core.provisioning.java.job.notification.NotificationJob;
+import org.apache.syncope.core.provisioning.java.job.report.EntityReportResultStore;
+import org.apache.syncope.core.provisioning.java.job.report.FileSystemReportResultStore;
+import org.apache.syncope.core.provisioning.java.job.report.ReportStats;
 import org.apache.syncope.core.provisioning.java.notification.DefaultNotificationManager;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationManager;
 import org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.pushpull.DispatcherStats;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.LiveSyncTaskSaver;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
@@ -200,17 +208,16 @@ public class ProvisioningContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public JexlTools jexlTools(final List<JexlFunctions> jexlFunctions) {
+    public JexlTools jexlTools(final ProvisioningProperties props, final List<JexlFunctions> jexlFunctions) {
         JexlEngine jexlEngine = new JexlBuilder().
                 loader(new EmptyClassLoader()).
                 permissions(JexlPermissions.RESTRICTED.compose("java.time.*", "org.apache.syncope.*")).
                 namespaces(jexlFunctions.stream().
                         collect(Collectors.toMap(JexlFunctions::getNamespace, Function.identity()))).
-                cache(512).
                 silent(false).
                 strict(false).
                 create();
-        return new JexlTools(jexlEngine);
+        return new JexlTools(jexlEngine, jexlEngine.createJxltEngine(false), props.getJexlCacheSize());
     }
 
     @ConditionalOnMissingBean
@@ -321,6 +328,26 @@ public class ProvisioningContext {
         return executor;
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ReportResultStore reportResultStore(final ProvisioningProperties props) {
+        return StringUtils.isBlank(props.getReportResultDirectory())
+                ? new EntityReportResultStore()
+                : new FileSystemReportResultStore(Path.of(props.getReportResultDirectory()));
+    }
+
+    @ConditionalOnMissingBean(name = "dispatcherStats")
+    @Bean
+    public StatsRegistry<DispatcherStats> dispatcherStats() {
+        return new StatsRegistry<>(DispatcherStats::new);
+    }
+
+    @ConditionalOnMissingBean(name = "reportStats")
+    @Bean
+    public StatsRegistry<ReportStats> reportStats() {
+        return new StatsRegistry<>(ReportStats::new);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public JobStatusUpdater jobStatusUpdater(final JobStatusDAO jobStatusDAO) {
@@ -631,6 +658,7 @@ public class ProvisioningContext {
     @ConditionalOnMissingBean
     @Bean
     public AuditManager auditManager(
+            final ProvisioningProperties props,
             final AuditConfDAO auditConfDAO,
             final AuditEventDAO auditEventDAO,
             final EntityFactory entityFactory,
@@ -638,7 +666,13 @@ public class ProvisioningContext {
             @Qualifier("auditManagerThreadExecutor")
             final AsyncTaskExecutor taskExecutor) {
 
-        return new DefaultAuditManager(auditConfDAO, auditEventDAO, entityFactory, auditEventProcessors, taskExecutor);
+        return new DefaultAuditManager(
+                auditConfDAO,
+                auditEventDAO,
+                entityFactory,
+                auditEventProcessors,
+                taskExecutor,
+                props.getAudit());
     }
 
     @ConditionalOnMissingBean
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.java;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties("provisioning")
@@ -31,8 +32,24 @@ public class ProvisioningProperties {
 
     private final ExecutorProperties scheduling = new ExecutorProperties();
 
+    private final AuditProperties audit = new AuditProperties();
+
     private final List<String> connIdLocation = new ArrayList<>();
 
+    private int jexlCacheSize = JexlTools.DEFAULT_CACHE_SIZE;
+
+    /**
+     * When greater than 1, pull tasks without concurrent settings handle connector objects in chunks of the given
+     * size, each within a single transaction; ignored when resources other than the pulling one provision any of the
+     * pulled any types (or realms), since propagations would be repeated upon chunk failure.
+     */
+    private int pullChunkSize;
+
+    /**
+     * Directory where report execution results are stored; when blank, results are stored in the database.
+     */
+    private String reportResultDirectory;
+
     public ExecutorProperties getAsyncConnectorFacadeExecutor() {
         return asyncConnectorFacadeExecutor;
     }
@@ -45,7 +62,35 @@ public class ProvisioningProperties {
         return scheduling;
     }
 
+    public AuditProperties getAudit() {
+        return audit;
+    }
+
     public List<String> getConnIdLocation() {
         return connIdLocation;
     }
+
+    public int getJexlCacheSize() {
+        return jexlCacheSize;
+    }
+
+    public void setJexlCacheSize(final int jexlCacheSize) {
+        this.jexlCacheSize = jexlCacheSize;
+    }
+
+    public int getPullChunkSize() {
+        return pullChunkSize;
+    }
+
+    public void setPullChunkSize(final int pullChunkSize) {
+        this.pullChunkSize = pullChunkSize;
+    }
+
+    public String getReportResultDirectory() {
+        return reportResultDirectory;
+    }
+
+    public void setReportResultDirectory(final String reportResultDirectory) {
+        this.reportResultDirectory = reportResultDirectory;
+    }
 }
@@ -116,6 +116,16 @@ abstract class AnyDataBinder extends AttributableDataBinder {
         anyTO.getResources().addAll(resources.stream().map(ExternalResource::getKey).collect(Collectors.toSet()));
     }
 
+    protected static Collection<PlainAttr> plainAttrs(final Collection<PlainAttr> plainAttrs, final Set<String> attrs) {
+        return attrs.isEmpty()
+                ? plainAttrs
+                : plainAttrs.stream().filter(plainAttr -> attrs.contains(plainAttr.getSchema())).toList();
+    }
+
+    protected Map<DerSchema, String> derAttrs(final Any any, final Set<String> attrs) {
+        return attrs.isEmpty() ? derAttrHandler.getValues(any) : derAttrHandler.getValues(any, attrs);
+    }
+
     protected static RelationshipTO getRelationshipTO(
             final Collection<PlainAttr> plainAttrs,
             final Map<DerSchema, String> derAttrs,
@@ -109,6 +109,12 @@ public class AnyObjectDataBinderImpl extends AnyDataBinder implements AnyObjectD
     @Transactional(readOnly = true)
     @Override
     public AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final boolean details) {
+        return getAnyObjectTO(anyObject, details, Set.of());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final boolean details, final Set<String> attrs) {
         AnyObjectTO anyObjectTO = new AnyObjectTO();
         anyObjectTO.setType(anyObject.getType().getKey());
 
@@ -126,8 +132,8 @@ public class AnyObjectDataBinderImpl extends AnyDataBinder implements AnyObjectD
         fillTO(anyObjectTO,
                 anyObject.getRealm().getFullPath(),
                 anyObject.getAuxClasses(),
-                anyObject.getPlainAttrs(),
-                derAttrHandler.getValues(anyObject),
+                plainAttrs(anyObject.getPlainAttrs(), attrs),
+                derAttrs(anyObject, attrs),
                 anyObjectDAO.findAllResources(anyObject));
 
         // dynamic realms
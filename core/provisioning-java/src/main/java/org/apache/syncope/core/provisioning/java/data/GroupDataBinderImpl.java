@@ -382,6 +382,12 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
     @Transactional(readOnly = true)
     @Override
     public GroupTO getGroupTO(final Group group, final boolean details) {
+        return getGroupTO(group, details, Set.of());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public GroupTO getGroupTO(final Group group, final boolean details, final Set<String> attrs) {
         GroupTO groupTO = new GroupTO();
 
         groupTO.setKey(group.getKey());
@@ -401,8 +407,8 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
         fillTO(groupTO,
                 group.getRealm().getFullPath(),
                 group.getAuxClasses(),
-                group.getPlainAttrs(),
-                derAttrHandler.getValues(group),
+                plainAttrs(group.getPlainAttrs(), attrs),
+                derAttrs(group, attrs),
                 group.getResources());
 
         // dynamic realms
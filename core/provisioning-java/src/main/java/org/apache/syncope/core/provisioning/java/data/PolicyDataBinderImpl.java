@@ -125,10 +125,16 @@ public class PolicyDataBinderImpl implements PolicyDataBinder {
             PropagationPolicy propagationPolicy = PropagationPolicy.class.cast(result);
 
             propagationPolicy.setFetchAroundProvisioning(propagationPolicyTO.isFetchAroundProvisioning());
+            propagationPolicy.setFetchAfterProvisioning(propagationPolicyTO.isFetchAfterProvisioning());
             propagationPolicy.setUpdateDelta(propagationPolicyTO.isUpdateDelta());
             propagationPolicy.setBackOffStrategy(propagationPolicyTO.getBackOffStrategy());
             propagationPolicy.setBackOffParams(propagationPolicyTO.getBackOffParams());
             propagationPolicy.setMaxAttempts(propagationPolicyTO.getMaxAttempts());
+            propagationPolicy.setCoalescingWindow(propagationPolicyTO.getCoalescingWindow());
+            propagationPolicy.setMaxConcurrency(propagationPolicyTO.getMaxConcurrency());
+            propagationPolicy.setBreakerFailureThreshold(propagationPolicyTO.getBreakerFailureThreshold());
+            propagationPolicy.setBreakerSlowCallThreshold(propagationPolicyTO.getBreakerSlowCallThreshold());
+            propagationPolicy.setBreakerOpenDuration(propagationPolicyTO.getBreakerOpenDuration());
         } else if (policyTO instanceof InboundPolicyTO inboundPolicyTO) {
             if (result == null) {
                 result = (T) entityFactory.newEntity(InboundPolicy.class);
@@ -276,10 +282,16 @@ public class PolicyDataBinderImpl implements PolicyDataBinder {
             policyTO = (T) propagationPolicyTO;
 
             propagationPolicyTO.setFetchAroundProvisioning(propagationPolicy.isFetchAroundProvisioning());
+            propagationPolicyTO.setFetchAfterProvisioning(propagationPolicy.isFetchAfterProvisioning());
             propagationPolicyTO.setUpdateDelta(propagationPolicy.isUpdateDelta());
             propagationPolicyTO.setBackOffStrategy(propagationPolicy.getBackOffStrategy());
             propagationPolicyTO.setBackOffParams(propagationPolicy.getBackOffParams());
             propagationPolicyTO.setMaxAttempts(propagationPolicy.getMaxAttempts());
+            propagationPolicyTO.setCoalescingWindow(propagationPolicy.getCoalescingWindow());
+            propagationPolicyTO.setMaxConcurrency(propagationPolicy.getMaxConcurrency());
+            propagationPolicyTO.setBreakerFailureThreshold(propagationPolicy.getBreakerFailureThreshold());
+            propagationPolicyTO.setBreakerSlowCallThreshold(propagationPolicy.getBreakerSlowCallThreshold());
+            propagationPolicyTO.setBreakerOpenDuration(propagationPolicy.getBreakerOpenDuration());
         } else if (policy instanceof InboundPolicy inboundPolicy) {
             InboundPolicyTO inboundPolicyTO = new InboundPolicyTO();
             policyTO = (T) inboundPolicyTO;
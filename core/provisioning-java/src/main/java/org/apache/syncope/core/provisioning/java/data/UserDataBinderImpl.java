@@ -538,6 +538,12 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final User user, final boolean details) {
+        return getUserTO(user, details, Set.of());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public UserTO getUserTO(final User user, final boolean details, final Set<String> attrs) {
         Boolean returnPasswordValue = confParamOps.get(AuthContextUtils.getDomain(),
                 "return.password.value", Boolean.FALSE, Boolean.class);
 
@@ -573,8 +579,8 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
         fillTO(userTO,
                 user.getRealm().getFullPath(),
                 user.getAuxClasses(),
-                user.getPlainAttrs(),
-                derAttrHandler.getValues(user),
+                plainAttrs(user.getPlainAttrs(), attrs),
+                derAttrs(user, attrs),
                 userDAO.findAllResources(user));
 
         // dynamic realms
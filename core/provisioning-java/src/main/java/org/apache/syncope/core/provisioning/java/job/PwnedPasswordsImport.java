@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.spring.policy.HaveIBeenPwnedPasswordRule;
+import org.apache.syncope.core.spring.policy.PwnedPasswordCorpus;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Imports the breached password dump found at the path configured via {@code password.pwned.source} - as downloaded
+ * from "Have I Been Pwned?" in SHA-1 format - into the corpus used for offline checks, configured via
+ * {@code password.pwned.corpus}.
+ */
+public class PwnedPasswordsImport extends AbstractSchedTaskJobDelegate<SchedTask> {
+
+    public static final String SOURCE_CONF_PARAM = "password.pwned.source";
+
+    @Autowired
+    private ConfParamOps confParamOps;
+
+    @Override
+    protected String doExecute(final JobExecutionContext context) throws JobExecutionException {
+        String source = confParamOps.get(context.getDomain(), SOURCE_CONF_PARAM, null, String.class);
+        String corpus = confParamOps.get(
+                context.getDomain(), HaveIBeenPwnedPasswordRule.CORPUS_CONF_PARAM, null, String.class);
+        if (StringUtils.isBlank(source) || StringUtils.isBlank(corpus)) {
+            throw new JobExecutionException("Both " + SOURCE_CONF_PARAM + " and "
+                    + HaveIBeenPwnedPasswordRule.CORPUS_CONF_PARAM + " must be configured");
+        }
+
+        if (context.isDryRun()) {
+            return "Would import " + source + " into " + corpus;
+        }
+
+        try (BufferedReader dump = Files.newBufferedReader(Path.of(source), StandardCharsets.US_ASCII)) {
+            long imported = PwnedPasswordCorpus.importFrom(dump, Path.of(corpus));
+            return "Imported " + imported + " breached password digests from " + source + " into " + corpus;
+        } catch (IOException e) {
+            throw new JobExecutionException("While importing " + source + " into " + corpus, e);
+        }
+    }
+}
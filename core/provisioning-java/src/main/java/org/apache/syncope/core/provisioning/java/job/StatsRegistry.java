@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Statistics about the executions of tasks or reports, per domain and key.
+ * Instances are kept across executions of the same task or report, so that they can be safely bound to metrics,
+ * until removed upon deletion of the related task or report.
+ *
+ * @param <S> statistics type
+ */
+public class StatsRegistry<S> {
+
+    /**
+     * Notified about statistics being created or removed.
+     *
+     * @param <S> statistics type
+     */
+    public interface Listener<S> {
+
+        void added(String domain, String key, S stats);
+
+        void removed(String domain, String key, S stats);
+    }
+
+    protected record Key(String domain, String key) {
+
+    }
+
+    protected final Supplier<S> factory;
+
+    protected final Map<Key, S> stats = new ConcurrentHashMap<>();
+
+    protected final List<Listener<S>> listeners = new CopyOnWriteArrayList<>();
+
+    public StatsRegistry(final Supplier<S> factory) {
+        this.factory = factory;
+    }
+
+    public S of(final String domain, final String key) {
+        return stats.computeIfAbsent(new Key(domain, key), k -> {
+            S created = factory.get();
+            listeners.forEach(listener -> listener.added(k.domain(), k.key(), created));
+            return created;
+        });
+    }
+
+    public void remove(final String domain, final String key) {
+        Optional.ofNullable(stats.remove(new Key(domain, key))).
+                ifPresent(removed -> listeners.forEach(listener -> listener.removed(domain, key, removed)));
+    }
+
+    /**
+     * Registers a listener to be notified for each statistics, either already available or created afterwards.
+     *
+     * @param listener listener
+     */
+    public void listen(final Listener<S> listener) {
+        listeners.add(listener);
+        stats.forEach((k, s) -> listener.added(k.domain(), k.key(), s));
+    }
+}
@@ -18,7 +18,6 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.OffsetDateTime;
@@ -39,7 +38,9 @@ import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
 import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.job.report.ReportJobDelegate;
+import org.apache.syncope.core.provisioning.api.job.report.ReportResultStore;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.job.StatsRegistry;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
@@ -71,6 +72,12 @@ public abstract class AbstractReportJobDelegate implements ReportJobDelegate {
     @Autowired
     protected EntityFactory entityFactory;
 
+    /**
+     * Where report execution output is streamed.
+     */
+    @Autowired
+    protected ReportResultStore resultStore;
+
     /**
      * Notification manager.
      */
@@ -86,6 +93,9 @@ public abstract class AbstractReportJobDelegate implements ReportJobDelegate {
     @Autowired
     protected ApplicationEventPublisher publisher;
 
+    @Autowired
+    protected StatsRegistry<ReportStats> reportStats;
+
     @Override
     public void setConf(final ReportConf conf) {
         this.conf = conf;
@@ -120,43 +130,69 @@ public abstract class AbstractReportJobDelegate implements ReportJobDelegate {
 
         OpEvent.Outcome result;
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zos = new ZipOutputStream(baos);
-        zos.setLevel(Deflater.BEST_COMPRESSION);
+        long start = System.nanoTime();
+        CountingOutputStream output;
         try {
-            // a single ZipEntry in the ZipOutputStream
-            zos.putNextEntry(new ZipEntry(report.getName()));
+            output = new CountingOutputStream(resultStore.create(execution));
         } catch (IOException e) {
             throw new JobExecutionException("While configuring for output", e);
         }
+        ZipOutputStream zos = new ZipOutputStream(output);
+        zos.setLevel(Deflater.BEST_COMPRESSION);
 
         setStatus("Starting");
         try {
+            // a single ZipEntry in the ZipOutputStream
+            zos.putNextEntry(new ZipEntry(report.getName()));
+
             execution.setMessage(doExecute(zos, context));
             execution.setStatus(ReportJob.Status.SUCCESS.name());
 
             result = OpEvent.Outcome.SUCCESS;
-        } catch (JobExecutionException e) {
+        } catch (IOException | JobExecutionException e) {
             LOG.error("While executing report {}", reportKey, e);
             result = OpEvent.Outcome.FAILURE;
 
             execution.setMessage(ExceptionUtils2.getFullStackTrace(e));
             execution.setStatus(ReportJob.Status.FAILURE.name());
-        } finally {
+        } catch (RuntimeException e) {
             try {
-                zos.closeEntry();
                 zos.close();
-            } catch (IOException e) {
-                LOG.error("While closing output", e);
+            } catch (IOException ioe) {
+                LOG.error("While closing output", ioe);
+            }
+            resultStore.delete(execution);
+            throw e;
+        }
+        try {
+            zos.closeEntry();
+            zos.close();
+        } catch (IOException e) {
+            LOG.error("While closing output", e);
+            if (result == OpEvent.Outcome.SUCCESS) {
+                result = OpEvent.Outcome.FAILURE;
+
+                execution.setMessage(ExceptionUtils2.getFullStackTrace(e));
+                execution.setStatus(ReportJob.Status.FAILURE.name());
             }
         }
-        if (result == OpEvent.Outcome.SUCCESS) {
-            execution.setExecResult(baos.toByteArray());
+        if (result == OpEvent.Outcome.FAILURE) {
+            resultStore.delete(execution);
         }
         execution.setEnd(OffsetDateTime.now());
 
+        long elapsed = System.nanoTime() - start;
+        reportStats.of(AuthContextUtils.getDomain(), reportKey).executed(elapsed, output.getCount());
+        LOG.debug("Report {} executed in {} ms, output size {} bytes",
+                reportKey, elapsed / 1_000_000, output.getCount());
+
         report.add(execution);
-        report = reportDAO.save(report);
+        try {
+            report = reportDAO.save(report);
+        } catch (RuntimeException e) {
+            resultStore.delete(execution);
+            throw e;
+        }
 
         notificationManager.createTasks(
                 executor,
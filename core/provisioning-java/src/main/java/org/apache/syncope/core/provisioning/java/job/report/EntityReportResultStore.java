@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.provisioning.api.job.report.ReportResultStore;
+
+/**
+ * Stores report execution output as part of the {@link ReportExec} entity: output is buffered on a temporary file
+ * while being generated, and only read in memory once completed.
+ */
+public class EntityReportResultStore implements ReportResultStore {
+
+    @Override
+    public OutputStream create(final ReportExec execution) throws IOException {
+        return new TempFileOutputStream(
+                Files.createTempFile(execution.getKey(), ".zip"),
+                tmp -> execution.setExecResult(Files.readAllBytes(tmp)));
+    }
+
+    @Override
+    public Optional<InputStream> open(final ReportExec execution) throws IOException {
+        return Optional.ofNullable(execution.getExecResult()).map(ByteArrayInputStream::new);
+    }
+
+    @Override
+    public void delete(final ReportExec execution) {
+        execution.setExecResult(null);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores report execution output as files under the given directory, one sub-directory per domain; output stored
+ * as part of the {@link ReportExec} entity - as for executions performed before switching to this store - is still
+ * available for reading.
+ */
+public class FileSystemReportResultStore extends EntityReportResultStore {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(FileSystemReportResultStore.class);
+
+    protected final Path directory;
+
+    public FileSystemReportResultStore(final Path directory) {
+        this.directory = directory;
+    }
+
+    protected Path path(final ReportExec execution) {
+        return directory.resolve(AuthContextUtils.getDomain()).resolve(execution.getKey() + ".zip");
+    }
+
+    @Override
+    public OutputStream create(final ReportExec execution) throws IOException {
+        Path target = path(execution);
+        Files.createDirectories(target.getParent());
+
+        return new TempFileOutputStream(
+                Files.createTempFile(target.getParent(), execution.getKey(), ".tmp"),
+                tmp -> Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE));
+    }
+
+    @Override
+    public Optional<InputStream> open(final ReportExec execution) throws IOException {
+        Path path = path(execution);
+        if (Files.isRegularFile(path)) {
+            return Optional.of(Files.newInputStream(path));
+        }
+        return super.open(execution);
+    }
+
+    @Override
+    public void delete(final ReportExec execution) {
+        try {
+            Files.deleteIfExists(path(execution));
+        } catch (IOException e) {
+            LOG.error("Could not delete output of report execution {}", execution.getKey(), e);
+        }
+        super.delete(execution);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution time and output size of {@link AbstractReportJobDelegate} instances, per report; instances are obtained
+ * from the related {@link org.apache.syncope.core.provisioning.java.job.StatsRegistry}.
+ */
+public class ReportStats {
+
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder executionTime = new LongAdder();
+
+    private final LongAdder outputSize = new LongAdder();
+
+    private final AtomicLong lastOutputSize = new AtomicLong();
+
+    void executed(final long nanos, final long size) {
+        executions.increment();
+        executionTime.add(nanos);
+        outputSize.add(size);
+        lastOutputSize.set(size);
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getExecutionTime() {
+        return executionTime.sum();
+    }
+
+    public long getOutputSize() {
+        return outputSize.sum();
+    }
+
+    public long getLastOutputSize() {
+        return lastOutputSize.get();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Buffers written data into a temporary file, handed over to the given callback when closed; the temporary file is
+ * removed afterwards.
+ */
+class TempFileOutputStream extends FilterOutputStream {
+
+    @FunctionalInterface
+    interface OnClose {
+
+        void accept(Path tmp) throws IOException;
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path tmp;
+
+    private final OnClose onClose;
+
+    private boolean closed;
+
+    TempFileOutputStream(final Path tmp, final OnClose onClose) throws IOException {
+        super(new BufferedOutputStream(Files.newOutputStream(tmp), BUFFER_SIZE));
+        this.tmp = tmp;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            super.close();
+            onClose.accept(tmp);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
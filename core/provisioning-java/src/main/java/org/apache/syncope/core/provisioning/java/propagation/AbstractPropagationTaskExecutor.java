@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +37,7 @@ import org.apache.syncope.common.lib.to.ExecTO;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.common.lib.types.ResourceOperation;
@@ -322,7 +324,8 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             final PropagationTaskInfo taskInfo,
             final Set<AttributeDelta> modifications,
             final Connector connector,
-            final Mutable<Boolean> propagationAttempted) {
+            final Mutable<Boolean> propagationAttempted,
+            final Mutable<Set<AttributeDelta>> sideEffects) {
 
         Uid uid = new Uid(taskInfo.getConnObjectKey());
 
@@ -331,12 +334,12 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         } else {
             LOG.debug("Update Delta {} for {} on {}", modifications, uid, taskInfo.getResource().getKey());
 
-            connector.updateDelta(
+            sideEffects.setValue(connector.updateDelta(
                     taskInfo.getObjectClass(),
                     uid,
                     modifications,
                     null,
-                    propagationAttempted);
+                    propagationAttempted));
         }
 
         return uid;
@@ -347,7 +350,8 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             final boolean fetchRemoteObj,
             final ConnectorObject beforeObj,
             final Connector connector,
-            final Mutable<Boolean> propagationAttempted) {
+            final Mutable<Boolean> propagationAttempted,
+            final Mutable<Set<AttributeDelta>> sideEffects) {
 
         PropagationData propagationData = taskInfo.getPropagationData();
 
@@ -363,7 +367,8 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             return doUpdate(taskInfo, connector, beforeObj, propagationAttempted);
         }
 
-        return doUpdateDelta(taskInfo, propagationData.getAttributeDeltas(), connector, propagationAttempted);
+        return doUpdateDelta(
+                taskInfo, propagationData.getAttributeDeltas(), connector, propagationAttempted, sideEffects);
     }
 
     protected Uid delete(
@@ -527,6 +532,94 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 orElse(true);
     }
 
+    protected boolean isFetchAfterProvisioning(final PropagationTaskInfo taskInfo) {
+        return Optional.ofNullable(taskInfo.getResource().getPropagationPolicy()).
+                map(PropagationPolicy::isFetchAfterProvisioning).
+                orElse(true);
+    }
+
+    protected boolean canRead(final Connector connector) {
+        return Optional.ofNullable(connector.getConnInstance()).
+                map(connInstance -> connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)).
+                orElse(true);
+    }
+
+    /**
+     * Invoked whenever reading the remote object was not performed, as not needed or not possible; this means one
+     * round trip less towards the connector.
+     *
+     * @param taskInfo current propagation task
+     * @param latest 'FALSE' if skipping the read before the actual operation, 'TRUE' after.
+     */
+    protected void remoteReadSkipped(final PropagationTaskInfo taskInfo, final boolean latest) {
+        LOG.debug("Skipped reading {} object {} on {}",
+                latest ? "after" : "before", taskInfo.getConnObjectKey(), taskInfo.getResource().getKey());
+    }
+
+    protected static void apply(final Map<String, Attribute> attrs, final Set<AttributeDelta> deltas) {
+        deltas.forEach(delta -> {
+            String key = delta.getName().toUpperCase();
+            if (delta.getValuesToReplace() == null) {
+                List<Object> values = new ArrayList<>(Optional.ofNullable(attrs.get(key)).
+                        map(Attribute::getValue).orElseGet(List::of));
+                Optional.ofNullable(delta.getValuesToAdd()).ifPresent(values::addAll);
+                Optional.ofNullable(delta.getValuesToRemove()).ifPresent(values::removeAll);
+                attrs.put(key, AttributeBuilder.build(delta.getName(), values));
+            } else {
+                attrs.put(key, AttributeBuilder.build(delta.getName(), delta.getValuesToReplace()));
+            }
+        });
+    }
+
+    /**
+     * Builds the remote object as expected after the actual operation, rather than reading it again: starting from
+     * the object read before, if any, either the attributes or the attribute deltas propagated are applied, followed
+     * by the side effects reported by the connector, if any.
+     *
+     * @param taskInfo current propagation task
+     * @param beforeObj remote object read before the actual operation, if any
+     * @param uid remote object identifier as returned by the actual operation
+     * @param sideEffects attribute deltas reported by the connector as side effects of the actual operation
+     * @return expected remote object
+     */
+    protected ConnectorObject buildAfterObj(
+            final PropagationTaskInfo taskInfo,
+            final ConnectorObject beforeObj,
+            final Uid uid,
+            final Set<AttributeDelta> sideEffects) {
+
+        Map<String, Attribute> attrs = new LinkedHashMap<>();
+        Optional.ofNullable(beforeObj).ifPresent(obj -> obj.getAttributes().
+                forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr)));
+
+        PropagationData propagationData = taskInfo.getPropagationData();
+        if (propagationData.getAttributeDeltas() == null) {
+            propagationData.getAttributes().stream().
+                    filter(attr -> !OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
+                    && !OperationalAttributes.CURRENT_PASSWORD_NAME.equals(attr.getName())).
+                    forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr));
+        } else {
+            apply(attrs, propagationData.getAttributeDeltas().stream().
+                    filter(delta -> !OperationalAttributes.PASSWORD_NAME.equals(delta.getName())).
+                    collect(Collectors.toSet()));
+        }
+        Optional.ofNullable(sideEffects).ifPresent(deltas -> apply(attrs, deltas));
+
+        attrs.remove(Uid.NAME);
+        Name name = Optional.ofNullable(attrs.remove(Name.NAME)).
+                map(attr -> new Name(AttributeUtil.getStringValue(attr))).
+                orElseGet(() -> new Name(taskInfo.getConnObjectKey()));
+
+        return new ConnectorObjectBuilder().
+                setObjectClass(Optional.ofNullable(beforeObj).
+                        map(ConnectorObject::getObjectClass).
+                        orElseGet(taskInfo::getObjectClass)).
+                setUid(uid).
+                setName(name).
+                addAttributes(attrs.values()).
+                build();
+    }
+
     protected TaskExec<PropagationTask> doExecute(
             final PropagationTaskInfo taskInfo,
             final PropagationReporter reporter,
@@ -552,6 +645,8 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
         boolean fetchRemoteObj = isFetchRemoteObj(taskInfo);
 
+        Mutable<Set<AttributeDelta>> sideEffects = new MutableObject<>();
+
         ConnectorObject beforeObj = null;
         ConnectorObject afterObj = null;
 
@@ -565,7 +660,9 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             orgUnit = taskInfo.getResource().getOrgUnit();
 
             if (taskInfo.getBeforeObj().isEmpty()) {
-                if (fetchRemoteObj) {
+                if (fetchRemoteObj && !canRead(connector)) {
+                    remoteReadSkipped(taskInfo, false);
+                } else if (fetchRemoteObj) {
                     // Try to read remote object BEFORE any actual operation
                     beforeObj = provision == null && orgUnit == null
                             ? null
@@ -583,7 +680,8 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             switch (taskInfo.getOperation()) {
                 case CREATE:
                 case UPDATE:
-                    uid = createOrUpdate(taskInfo, fetchRemoteObj, beforeObj, connector, propagationAttempted);
+                    uid = createOrUpdate(
+                            taskInfo, fetchRemoteObj, beforeObj, connector, propagationAttempted, sideEffects);
                     break;
 
                 case DELETE:
@@ -631,7 +729,16 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             if (uid != null) {
                 taskInfo.setConnObjectKey(uid.getUidValue());
             }
-            if (fetchRemoteObj) {
+            if (fetchRemoteObj
+                    && !isFetchAfterProvisioning(taskInfo) && !ExecStatus.FAILURE.name().equals(exec.getStatus())) {
+
+                remoteReadSkipped(taskInfo, true);
+                if (uid != null && taskInfo.getOperation() != ResourceOperation.DELETE) {
+                    afterObj = buildAfterObj(taskInfo, beforeObj, uid, sideEffects.getValue());
+                }
+            } else if (fetchRemoteObj && !canRead(connector)) {
+                remoteReadSkipped(taskInfo, true);
+            } else if (fetchRemoteObj) {
                 try {
                     afterObj = provision == null && orgUnit == null
                             ? null
@@ -738,8 +845,18 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             final PropagationReporter reporter,
             final String executor) {
 
+        return rejected(taskInfo, ExecStatus.NOT_ATTEMPTED, rejectReason, reporter, executor);
+    }
+
+    protected TaskExec<PropagationTask> rejected(
+            final PropagationTaskInfo taskInfo,
+            final ExecStatus status,
+            final String rejectReason,
+            final PropagationReporter reporter,
+            final String executor) {
+
         TaskExec<PropagationTask> execution = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTaskExec();
-        execution.setStatus(ExecStatus.NOT_ATTEMPTED.name());
+        execution.setStatus(status.name());
         execution.setExecutor(executor);
         execution.setStart(OffsetDateTime.now());
         execution.setMessage(rejectReason);
@@ -804,24 +921,26 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         PropagationTask task = Optional.ofNullable(taskInfo.getKey()).
                 flatMap(key -> taskDAO.findById(TaskType.PROPAGATION, key)).
                 map(PropagationTask.class::cast).
-                orElseGet(() -> {
-                    PropagationTask t = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTask();
-                    t.setResource(resourceDAO.findById(resource.getKey()).
-                            orElseThrow(() -> new NotFoundException("Resource " + resource.getKey())));
-                    t.setObjectClassName(taskInfo.getObjectClass().getObjectClassValue());
-                    t.setAnyTypeKind(taskInfo.getAnyTypeKind());
-                    t.setAnyType(taskInfo.getAnyType());
-                    t.setEntityKey(taskInfo.getEntityKey());
-                    t.setOperation(taskInfo.getOperation());
-                    t.setConnObjectKey(taskInfo.getConnObjectKey());
-                    t.setOldConnObjectKey(taskInfo.getOldConnObjectKey());
-                    return t;
-                });
+                orElseGet(() -> newPropagationTask(taskInfo));
         task.setPropagationData(taskInfo.getPropagationData());
 
         return Optional.of(task);
     }
 
+    protected PropagationTask newPropagationTask(final PropagationTaskInfo taskInfo) {
+        PropagationTask task = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTask();
+        task.setResource(resourceDAO.findById(taskInfo.getResource().getKey()).
+                orElseThrow(() -> new NotFoundException("Resource " + taskInfo.getResource().getKey())));
+        task.setObjectClassName(taskInfo.getObjectClass().getObjectClassValue());
+        task.setAnyTypeKind(taskInfo.getAnyTypeKind());
+        task.setAnyType(taskInfo.getAnyType());
+        task.setEntityKey(taskInfo.getEntityKey());
+        task.setOperation(taskInfo.getOperation());
+        task.setConnObjectKey(taskInfo.getConnObjectKey());
+        task.setOldConnObjectKey(taskInfo.getOldConnObjectKey());
+        return task;
+    }
+
     /**
      * Get remote object for given task.
      *
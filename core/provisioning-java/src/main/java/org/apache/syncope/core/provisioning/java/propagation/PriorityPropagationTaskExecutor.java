@@ -18,24 +18,39 @@
  */
 package org.apache.syncope.core.provisioning.java.propagation;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.Exec;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
@@ -49,10 +64,13 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.Attribute;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Sorts the tasks to be executed according to related
@@ -60,11 +78,62 @@ import org.springframework.security.core.context.SecurityContextHolder;
  * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
+ * <p>
+ * When asynchronously executing, tasks related to resources with NULL priority and whose propagation policy defines a
+ * coalescing window are held for such window: further updates for the same entity on the same resource received in
+ * the meantime are merged into the pending task, thus requiring a single connector call. Pending tasks are stored
+ * as propagation tasks upon commit, so that they are not lost if the process is stopped before they are executed.
+ * <p>
+ * The propagation policy of each resource can also limit the number of tasks concurrently executed for such resource,
+ * so that a slow resource does not exhaust the threads available for all the others, and define a circuit breaker
+ * which makes attempts fail fast - thus going through the configured retries - when the resource keeps failing or
+ * responding slowly.
  */
 public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExecutor {
 
+    protected record CoalescingKey(String resource, String entityKey) {
+
+    }
+
+    protected static class CoalescingItem {
+
+        protected PropagationTaskInfo taskInfo;
+
+        protected final List<String> taskKeys = new ArrayList<>();
+
+        protected final PropagationReporter reporter;
+
+        protected final String executor;
+
+        protected final String domain;
+
+        protected final Set<String> authorities;
+
+        protected CoalescingItem(
+                final PropagationTaskInfo taskInfo,
+                final PropagationReporter reporter,
+                final String executor) {
+
+            this.taskInfo = taskInfo;
+            this.taskKeys.add(taskInfo.getKey());
+            this.reporter = reporter;
+            this.executor = executor;
+            this.domain = AuthContextUtils.getDomain();
+            this.authorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream().
+                    map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+        }
+    }
+
     protected final AsyncTaskExecutor taskExecutor;
 
+    protected final Map<CoalescingKey, Deque<CoalescingItem>> coalescing = new HashMap<>();
+
+    protected final LongAdder coalesced = new LongAdder();
+
+    protected final Map<String, ResourceBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    protected final Map<String, ResourceCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
     public PriorityPropagationTaskExecutor(
             final ConnectorManager connectorManager,
             final ConnObjectUtils connObjectUtils,
@@ -123,6 +192,245 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
         });
     }
 
+    @Override
+    public void expireRetryTemplate(final String resource) {
+        super.expireRetryTemplate(resource);
+        bulkheads.remove(resource);
+        circuitBreakers.remove(resource);
+    }
+
+    /**
+     * Returns the executor for tasks related to the given resource: when the propagation policy limits the maximum
+     * concurrency, tasks are submitted via the resource's own bulkhead.
+     *
+     * @param resource External Resource
+     * @return executor for tasks related to the given resource
+     */
+    protected Executor executor(final ExternalResource resource) {
+        int maxConcurrency = Optional.ofNullable(resource.getPropagationPolicy()).
+                map(PropagationPolicy::getMaxConcurrency).
+                orElse(0);
+        if (maxConcurrency <= 0) {
+            return taskExecutor;
+        }
+
+        return bulkheads.computeIfAbsent(resource.getKey(), key -> newBulkhead(key, maxConcurrency));
+    }
+
+    /**
+     * Creates the bulkhead for the given resource; invoked once, until the resource is updated or removed.
+     *
+     * @param resource External Resource key
+     * @param maxConcurrency maximum number of tasks concurrently running towards the given resource
+     * @return bulkhead for the given resource
+     */
+    protected ResourceBulkhead newBulkhead(final String resource, final int maxConcurrency) {
+        return new ResourceBulkhead(resource, maxConcurrency, taskExecutor);
+    }
+
+    protected Optional<ResourceCircuitBreaker> circuitBreaker(final ExternalResource resource) {
+        return Optional.ofNullable(resource.getPropagationPolicy()).
+                filter(policy -> policy.getBreakerFailureThreshold() > 0).
+                map(policy -> circuitBreakers.computeIfAbsent(
+                resource.getKey(), key -> newCircuitBreaker(key, policy)));
+    }
+
+    /**
+     * Creates the circuit breaker for the given resource; invoked once, until the resource is updated or removed.
+     *
+     * @param resource External Resource key
+     * @param policy propagation policy of the given resource
+     * @return circuit breaker for the given resource
+     */
+    protected ResourceCircuitBreaker newCircuitBreaker(final String resource, final PropagationPolicy policy) {
+        return new ResourceCircuitBreaker(
+                resource,
+                policy.getBreakerFailureThreshold(),
+                policy.getBreakerSlowCallThreshold(),
+                policy.getBreakerOpenDuration());
+    }
+
+    public Optional<ResourceBulkhead> getBulkhead(final String resource) {
+        return Optional.ofNullable(bulkheads.get(resource));
+    }
+
+    public Optional<ResourceCircuitBreaker> getCircuitBreaker(final String resource) {
+        return Optional.ofNullable(circuitBreakers.get(resource));
+    }
+
+    /**
+     * Invoked whenever an attempt is not performed because the circuit breaker of the related resource is open.
+     *
+     * @param taskInfo current propagation task
+     */
+    protected void circuitOpen(final PropagationTaskInfo taskInfo) {
+        LOG.debug("Circuit breaker open for {}, failing {}", taskInfo.getResource().getKey(), taskInfo);
+    }
+
+    @Override
+    protected TaskExec<PropagationTask> doExecute(
+            final PropagationTaskInfo taskInfo,
+            final PropagationReporter reporter,
+            final String executor) {
+
+        ResourceCircuitBreaker breaker = circuitBreaker(taskInfo.getResource()).orElse(null);
+        if (breaker == null) {
+            return super.doExecute(taskInfo, reporter, executor);
+        }
+
+        ResourceCircuitBreaker.Permit permit = breaker.tryAcquire().orElse(null);
+        if (permit == null) {
+            circuitOpen(taskInfo);
+            return rejected(
+                    taskInfo,
+                    ExecStatus.FAILURE,
+                    "Circuit breaker open for " + taskInfo.getResource().getKey(),
+                    reporter,
+                    executor);
+        }
+
+        long start = System.currentTimeMillis();
+        TaskExec<PropagationTask> exec = null;
+        try {
+            exec = super.doExecute(taskInfo, reporter, executor);
+            return exec;
+        } finally {
+            if (exec == null || ExecStatus.FAILURE.name().equals(exec.getStatus())) {
+                breaker.onResult(permit, true, System.currentTimeMillis() - start);
+            } else if (ExecStatus.SUCCESS.name().equals(exec.getStatus())) {
+                breaker.onResult(permit, false, System.currentTimeMillis() - start);
+            } else {
+                breaker.onIgnored(permit);
+            }
+        }
+    }
+
+    protected int coalescingWindow(final PropagationTaskInfo taskInfo) {
+        return Optional.ofNullable(taskInfo.getResource().getPropagationPolicy()).
+                map(PropagationPolicy::getCoalescingWindow).
+                orElse(0);
+    }
+
+    /**
+     * Whether the given task can be merged into the pending one: only updates propagating the full set of attributes
+     * can be merged into pending creates or updates, so that the relative ordering of creates and deletes is preserved.
+     *
+     * @param pending pending task
+     * @param taskInfo incoming task
+     * @return whether the incoming task can be merged into the pending one
+     */
+    protected boolean canCoalesce(final PropagationTaskInfo pending, final PropagationTaskInfo taskInfo) {
+        return taskInfo.getOperation() == ResourceOperation.UPDATE
+                && (pending.getOperation() == ResourceOperation.CREATE
+                || pending.getOperation() == ResourceOperation.UPDATE)
+                && pending.getPropagationData().getAttributeDeltas() == null
+                && taskInfo.getPropagationData().getAttributeDeltas() == null;
+    }
+
+    protected PropagationTaskInfo coalesce(final PropagationTaskInfo pending, final PropagationTaskInfo taskInfo) {
+        Map<String, Attribute> attrs = new LinkedHashMap<>();
+        pending.getPropagationData().getAttributes().forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr));
+        taskInfo.getPropagationData().getAttributes().forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr));
+
+        PropagationTaskInfo merged = new PropagationTaskInfo(
+                pending.getResource(),
+                pending.getOperation(),
+                pending.getObjectClass(),
+                pending.getAnyTypeKind(),
+                pending.getAnyType(),
+                pending.getEntityKey(),
+                taskInfo.getConnObjectKey(),
+                new PropagationData(new HashSet<>(attrs.values())));
+        merged.setKey(pending.getKey());
+        if (pending.getOperation() == ResourceOperation.UPDATE) {
+            merged.setOldConnObjectKey(Optional.ofNullable(pending.getOldConnObjectKey()).
+                    orElseGet(taskInfo::getOldConnObjectKey));
+        }
+        merged.setConnector(pending.getConnector());
+        merged.setBeforeObj(pending.getBeforeObj());
+        return merged;
+    }
+
+    protected void enqueue(
+            final PropagationTaskInfo taskInfo,
+            final PropagationReporter reporter,
+            final String executor) {
+
+        CoalescingKey key = new CoalescingKey(taskInfo.getResource().getKey(), taskInfo.getEntityKey());
+        CoalescingItem item = new CoalescingItem(taskInfo, reporter, executor);
+
+        boolean schedule = false;
+        synchronized (coalescing) {
+            Deque<CoalescingItem> items = coalescing.get(key);
+            if (items == null) {
+                items = new ArrayDeque<>();
+                coalescing.put(key, items);
+                schedule = true;
+            }
+
+            CoalescingItem last = items.peekLast();
+            if (last != null && canCoalesce(last.taskInfo, taskInfo)) {
+                LOG.debug("Merging {} into pending {}", taskInfo, last.taskInfo);
+                last.taskInfo = coalesce(last.taskInfo, taskInfo);
+                last.taskKeys.add(taskInfo.getKey());
+            } else {
+                items.add(item);
+            }
+        }
+
+        if (schedule) {
+            CompletableFuture.delayedExecutor(
+                    coalescingWindow(taskInfo), TimeUnit.SECONDS, executor(taskInfo.getResource())).
+                    execute(() -> flush(key));
+        }
+    }
+
+    protected void flush(final CoalescingKey key) {
+        while (true) {
+            CoalescingItem item;
+            synchronized (coalescing) {
+                item = coalescing.get(key).poll();
+                if (item == null) {
+                    coalescing.remove(key);
+                    return;
+                }
+            }
+
+            try {
+                TaskExec<PropagationTask> exec = AuthContextUtils.callAs(
+                        item.domain,
+                        item.executor,
+                        item.authorities,
+                        () -> {
+                            TaskExec<PropagationTask> result =
+                                    this.execute(item.taskInfo, item.reporter, item.executor);
+
+                            // pending tasks not meant to be kept according to trace levels are removed,
+                            // as well as those which were merged into others
+                            item.taskKeys.stream().
+                                    filter(taskKey -> result.getTask() == null
+                                    || !taskKey.equals(item.taskInfo.getKey())).
+                                    forEach(taskKey -> taskDAO.delete(TaskType.PROPAGATION, taskKey));
+                            return result;
+                        });
+                LOG.debug("Execution completed for {} with results {}", item.taskInfo, exec);
+
+                coalesced.add(item.taskKeys.size() - 1);
+            } catch (Exception e) {
+                LOG.error("While executing {}", item.taskInfo, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of connector calls avoided by merging pending tasks.
+     *
+     * @return the total number of connector calls avoided by merging pending tasks
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
     protected boolean failed(
             final PropagationTaskInfo taskInfpo,
             final TaskExec<PropagationTask> exec,
@@ -172,13 +480,32 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
             // then process non-priority resources concurrently...
             if (!concurrentTasks.isEmpty()) {
-                CompletionService<TaskExec<PropagationTask>> completionService =
-                        new ExecutorCompletionService<>(taskExecutor);
                 List<Future<TaskExec<PropagationTask>>> futures = new ArrayList<>();
 
                 concurrentTasks.forEach(taskInfo -> {
                     try {
-                        futures.add(completionService.submit(newPropagationTaskCallable(taskInfo, reporter, executor)));
+                        if (nullPriorityAsync && coalescingWindow(taskInfo) > 0) {
+                            PropagationTask task = newPropagationTask(taskInfo);
+                            task.setPropagationData(taskInfo.getPropagationData());
+                            taskInfo.setKey(taskDAO.save(task).getKey());
+                            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                                TransactionSynchronizationManager.registerSynchronization(
+                                        new TransactionSynchronization() {
+
+                                    @Override
+                                    public void afterCommit() {
+                                        enqueue(taskInfo, reporter, executor);
+                                    }
+                                });
+                            } else {
+                                enqueue(taskInfo, reporter, executor);
+                            }
+                        } else {
+                            FutureTask<TaskExec<PropagationTask>> future =
+                                    new FutureTask<>(newPropagationTaskCallable(taskInfo, reporter, executor));
+                            executor(taskInfo.getResource()).execute(future);
+                            futures.add(future);
+                        }
 
                         if (nullPriorityAsync) {
                             reporter.onSuccessOrNonPriorityResourceFailures(
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of propagation tasks concurrently running towards a given External Resource: commands exceeding
+ * the configured limit are kept aside, without occupying any thread of the underlying executor, and run as soon as
+ * one of the running commands completes, on the same thread.
+ */
+public class ResourceBulkhead implements Executor {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ResourceBulkhead.class);
+
+    protected final String resource;
+
+    protected final int maxConcurrency;
+
+    protected final Executor delegate;
+
+    protected final Deque<Runnable> waiting = new ArrayDeque<>();
+
+    protected int inFlight;
+
+    public ResourceBulkhead(final String resource, final int maxConcurrency, final Executor delegate) {
+        this.resource = resource;
+        this.maxConcurrency = maxConcurrency;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        synchronized (this) {
+            if (inFlight >= maxConcurrency) {
+                LOG.debug("{} tasks already running on {}, waiting", inFlight, resource);
+                waiting.add(command);
+                return;
+            }
+            inFlight++;
+        }
+
+        try {
+            dispatch(command);
+        } catch (RuntimeException e) {
+            abandon();
+            throw e;
+        }
+    }
+
+    protected void dispatch(final Runnable command) {
+        delegate.execute(() -> drain(command));
+    }
+
+    /**
+     * Runs the given command, then any waiting one on the same thread: waiting commands are never submitted to the
+     * underlying executor from a running one, as that might block when the underlying executor is saturated.
+     *
+     * @param command first command to run
+     */
+    protected void drain(final Runnable command) {
+        for (Runnable next = command; next != null; next = next()) {
+            try {
+                next.run();
+            } catch (RuntimeException e) {
+                LOG.error("While running task for {}", resource, e);
+            }
+        }
+    }
+
+    /**
+     * Takes the next waiting command, if any, or releases the running slot otherwise.
+     *
+     * @return next waiting command, or {@code null} if none
+     */
+    protected synchronized Runnable next() {
+        Runnable next = waiting.poll();
+        if (next == null) {
+            inFlight--;
+        }
+        return next;
+    }
+
+    /**
+     * Invoked when the underlying executor could not accept a command: the running slot is given to the next waiting
+     * command, if any, in order not to leave it behind.
+     */
+    protected void abandon() {
+        for (Runnable next = next(); next != null; next = next()) {
+            try {
+                dispatch(next);
+                return;
+            } catch (RuntimeException e) {
+                LOG.error("Could not submit waiting task for {}", resource, e);
+                if (next instanceof Future<?> future) {
+                    future.cancel(false);
+                }
+            }
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getWaiting() {
+        return waiting.size();
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of consecutive failed or slow propagation attempts towards a given External Resource.
+ * Once the configured threshold is reached, the breaker opens and further attempts are not permitted for the configured
+ * duration; afterwards, a single trial attempt is permitted: the breaker closes if such attempt succeeds, or opens
+ * again otherwise.
+ */
+public class ResourceCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+
+    }
+
+    /**
+     * Granted for each permitted attempt, to be given back when reporting its outcome.
+     *
+     * @param generation breaker generation when the attempt was permitted
+     * @param trial whether this is the single trial attempt permitted while half-open
+     */
+    public record Permit(long generation, boolean trial) {
+
+    }
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ResourceCircuitBreaker.class);
+
+    protected final String resource;
+
+    protected final int failureThreshold;
+
+    protected final long slowCallThreshold;
+
+    protected final long openDuration;
+
+    protected State state = State.CLOSED;
+
+    /**
+     * Incremented upon each state change, so that outcomes of attempts permitted before can be told apart.
+     */
+    protected long generation;
+
+    protected int failures;
+
+    protected long openedAt;
+
+    protected boolean trialInFlight;
+
+    /**
+     * @param resource External Resource key
+     * @param failureThreshold consecutive failed or slow attempts opening the breaker
+     * @param slowCallThreshold milliseconds after which an attempt is considered slow, 0 to disable
+     * @param openDuration seconds during which attempts are not permitted once the breaker is open
+     */
+    public ResourceCircuitBreaker(
+            final String resource,
+            final int failureThreshold,
+            final long slowCallThreshold,
+            final long openDuration) {
+
+        this.resource = resource;
+        this.failureThreshold = failureThreshold;
+        this.slowCallThreshold = slowCallThreshold;
+        this.openDuration = TimeUnit.SECONDS.toNanos(openDuration);
+    }
+
+    /**
+     * Checks whether an attempt is currently permitted; when a permit is returned, the outcome of the attempt must be
+     * reported via either {@link #onResult(Permit, boolean, long)} or {@link #onIgnored(Permit)}.
+     *
+     * @return permit for the attempt, if currently permitted
+     */
+    public synchronized Optional<Permit> tryAcquire() {
+        switch (state) {
+            case OPEN:
+                if (System.nanoTime() - openedAt < openDuration) {
+                    return Optional.empty();
+                }
+                LOG.debug("Circuit breaker for {} is now half-open", resource);
+                state = State.HALF_OPEN;
+                generation++;
+                trialInFlight = true;
+                return Optional.of(new Permit(generation, true));
+
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return Optional.empty();
+                }
+                trialInFlight = true;
+                return Optional.of(new Permit(generation, true));
+
+            case CLOSED:
+            default:
+                return Optional.of(new Permit(generation, false));
+        }
+    }
+
+    /**
+     * Whether the outcome of the attempt granted the given permit is still relevant: attempts permitted before the
+     * latest state change, as slow attempts started while closed and completing once half-open, are not considered.
+     *
+     * @param permit permit granted to the attempt
+     * @return whether the outcome of the attempt shall be considered
+     */
+    protected boolean isCurrent(final Permit permit) {
+        return permit.generation() == generation
+                && (permit.trial() ? state == State.HALF_OPEN : state == State.CLOSED);
+    }
+
+    /**
+     * Reports the outcome of a permitted attempt.
+     *
+     * @param permit permit granted to the attempt
+     * @param failed whether the attempt failed
+     * @param duration attempt duration, in milliseconds
+     */
+    public synchronized void onResult(final Permit permit, final boolean failed, final long duration) {
+        if (!isCurrent(permit)) {
+            LOG.debug("Ignoring outcome of attempt permitted before the latest state change for {}", resource);
+            return;
+        }
+
+        boolean bad = failed || (slowCallThreshold > 0 && duration > slowCallThreshold);
+
+        if (permit.trial()) {
+            trialInFlight = false;
+            if (bad) {
+                open();
+            } else {
+                LOG.info("Circuit breaker for {} is now closed", resource);
+                state = State.CLOSED;
+                generation++;
+                failures = 0;
+            }
+        } else if (bad) {
+            failures++;
+            if (failures >= failureThreshold) {
+                open();
+            }
+        } else {
+            failures = 0;
+        }
+    }
+
+    /**
+     * Reports that a permitted attempt did not reach the External Resource.
+     *
+     * @param permit permit granted to the attempt
+     */
+    public synchronized void onIgnored(final Permit permit) {
+        if (permit.trial() && isCurrent(permit)) {
+            trialInFlight = false;
+        }
+    }
+
+    protected void open() {
+        LOG.warn("Circuit breaker for {} is now open", resource);
+        state = State.OPEN;
+        generation++;
+        openedAt = System.nanoTime();
+        failures = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -43,8 +43,10 @@ import org.apache.syncope.core.provisioning.api.ProvisionSorter;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
 import org.apache.syncope.core.provisioning.java.job.AbstractSchedTaskJobDelegate;
+import org.apache.syncope.core.provisioning.java.job.StatsRegistry;
 import org.apache.syncope.core.provisioning.java.job.TaskJob;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask<T>>
@@ -74,6 +76,9 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     @Autowired
     protected PolicyDAO policyDAO;
 
+    @Autowired
+    protected StatsRegistry<DispatcherStats> dispatcherStats;
+
     protected Optional<ProvisionSorter> perContextProvisionSorter = Optional.empty();
 
     protected Connector connector;
@@ -105,6 +110,13 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
         connector = connectorManager.getConnector(task.getResource());
     }
 
+    /**
+     * @return dispatcher statistics for the current task, kept across executions
+     */
+    protected DispatcherStats dispatcherStats() {
+        return dispatcherStats.of(AuthContextUtils.getDomain(), task.getKey());
+    }
+
     @Override
     protected boolean hasToBeRegistered(final TaskExec<?> execution) {
         // True if either failed and failures have to be registered, or if ALL has to be registered.
@@ -48,6 +48,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.RealmPullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPullResultHandler;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.SyncToken;
@@ -69,6 +70,9 @@ abstract class AbstractPullExecutor<T extends ProvisioningTask<T>>
     @Autowired
     protected PlainAttrValidationManager validator;
 
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
     protected final Map<String, SyncToken> latestSyncTokens = Collections.synchronizedMap(new HashMap<>());
 
     private final Map<String, MutablePair<Integer, String>> handled = new HashMap<>();
@@ -40,13 +40,18 @@ import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
+import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Remediation;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.utils.DeferredDynMemberships;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.core.provisioning.api.ProvisioningManager;
@@ -90,6 +95,12 @@ public abstract class AbstractPullResultHandler
     @Autowired
     protected UserDAO userDAO;
 
+    @Autowired
+    protected RoleDAO roleDAO;
+
+    @Autowired
+    protected DynRealmDAO dynRealmDAO;
+
     @Autowired
     protected AnyTypeDAO anyTypeDAO;
 
@@ -164,6 +175,45 @@ public abstract class AbstractPullResultHandler
         }
     }
 
+    /**
+     * Handles the given deltas within a single transaction, refreshing dynamic role and realm memberships of the
+     * entities saved meanwhile only once, before commit.
+     * Should any delta report failure, the whole transaction is rolled back, so that the caller can handle
+     * each delta on its own.
+     *
+     * @param deltas deltas to handle, in order
+     * @return whether all deltas were handled and processing shall continue
+     */
+    @Transactional(rollbackFor = Throwable.class, propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public boolean handle(final List<SyncDelta> deltas) {
+        int before = profile.getResults().size();
+
+        boolean result;
+        List<Any> deferred;
+        DeferredDynMemberships.begin();
+        try {
+            result = SyncopePullResultHandler.super.handle(deltas);
+        } finally {
+            deferred = DeferredDynMemberships.end();
+        }
+
+        if (profile.getResults().subList(before, profile.getResults().size()).stream().
+                anyMatch(report -> report.getStatus() == ProvisioningReport.Status.FAILURE)) {
+
+            throw new IllegalStateException("Failure while handling chunk of " + deltas.size() + " deltas");
+        }
+
+        deferred.forEach(any -> {
+            if (any instanceof final User user) {
+                roleDAO.refreshDynMemberships(user);
+            }
+            dynRealmDAO.refreshDynMemberships(any);
+        });
+
+        return result;
+    }
+
     protected void throwIgnoreProvisionException(final SyncDelta delta, final Exception exception) {
 
         if (exception instanceof IgnoreProvisionException) {
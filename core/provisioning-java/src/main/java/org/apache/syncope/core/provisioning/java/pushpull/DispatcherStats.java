@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and queue depth of {@link SyncopeResultHandlerDispatcher} instances, per provisioning task; instances
+ * for stored tasks are obtained from the related
+ * {@link org.apache.syncope.core.provisioning.java.job.StatsRegistry}.
+ */
+public class DispatcherStats {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final LongAdder processed = new LongAdder();
+
+    private final LongAdder processingTime = new LongAdder();
+
+    void enqueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    void dequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    void processed(final long nanos, final int items) {
+        processed.add(items);
+        processingTime.add(nanos);
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    public long getProcessingTime() {
+        return processingTime.sum();
+    }
+}
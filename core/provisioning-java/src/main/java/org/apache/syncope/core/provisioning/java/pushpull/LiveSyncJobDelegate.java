@@ -150,7 +150,7 @@ public class LiveSyncJobDelegate
             }
         };
 
-        dispatcher = new PullResultHandlerDispatcher(profile, this);
+        dispatcher = new PullResultHandlerDispatcher(profile, this, dispatcherStats());
 
         infos = new ArrayList<>();
 
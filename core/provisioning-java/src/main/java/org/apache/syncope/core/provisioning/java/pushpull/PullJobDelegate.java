@@ -21,6 +21,7 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
@@ -78,7 +79,33 @@ public class PullJobDelegate
                 executor,
                 context.isDryRun());
 
-        dispatcher = new PullResultHandlerDispatcher(profile, this);
+        dispatcher = new PullResultHandlerDispatcher(profile, this, dispatcherStats(), pullChunkSize(task));
+    }
+
+    /**
+     * Chunks are rolled back and replayed one by one as a whole upon failure: since propagations cannot be rolled
+     * back, chunks are only enabled when no resource other than the pulling one provisions any of the pulled any
+     * types or, when pulling realms, realms.
+     *
+     * @param task pull task
+     * @return chunk size to be used for the given pull task
+     */
+    protected int pullChunkSize(final PullTask task) {
+        if (provisioningProperties.getPullChunkSize() <= 1) {
+            return 0;
+        }
+
+        Set<String> anyTypes = task.getResource().getProvisions().stream().
+                filter(provision -> provision.getMapping() != null).
+                map(Provision::getAnyType).
+                collect(Collectors.toSet());
+        if (resourceDAO.anyOtherProvisioning(task.getResource(), anyTypes, task.getResource().getOrgUnit() != null)) {
+            LOG.debug("Pulled any types {} may be propagated to resources other than {}, pulling one by one",
+                    anyTypes, task.getResource().getKey());
+            return 0;
+        }
+
+        return provisioningProperties.getPullChunkSize();
     }
 
     @Override
@@ -96,6 +123,9 @@ public class PullJobDelegate
             }
         }
 
+        // whether pulling shall continue, as reported by handlers when flushing deltas buffered for each object class
+        boolean proceed = true;
+
         // First realms...
         if (task.getResource().getOrgUnit() != null) {
             setStatus("Pulling " + task.getResource().getOrgUnit().getObjectClass());
@@ -126,6 +156,7 @@ public class PullJobDelegate
                                 ConnObjectUtils.toSyncToken(orgUnit.getSyncToken()),
                                 dispatcher,
                                 options);
+                        proceed = dispatcher.flush();
 
                         if (!context.isDryRun()) {
                             orgUnit.setSyncToken(
@@ -149,6 +180,7 @@ public class PullJobDelegate
                                 options);
                         break;
                 }
+                proceed &= dispatcher.flush();
             } catch (Throwable t) {
                 throw new JobExecutionException("While pulling from connector", t);
             }
@@ -160,6 +192,12 @@ public class PullJobDelegate
                 filter(provision -> provision.getMapping() != null).sorted(provisionSorter).
                 toList()) {
 
+            if (!proceed) {
+                LOG.debug("Pull from {} was stopped, skipping {}",
+                        task.getResource().getKey(), provision.getObjectClass());
+                break;
+            }
+
             setStatus("Pulling " + provision.getObjectClass());
 
             AnyType anyType = anyTypeDAO.findById(provision.getAnyType()).
@@ -225,6 +263,7 @@ public class PullJobDelegate
                                 dispatcher,
                                 options);
                 }
+                proceed = dispatcher.flush();
             } catch (Throwable t) {
                 throw new JobExecutionException("While pulling from connector", t);
             } finally {
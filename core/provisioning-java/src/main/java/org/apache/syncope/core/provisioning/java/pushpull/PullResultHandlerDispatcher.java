@@ -18,6 +18,9 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
@@ -27,35 +30,119 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandle
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 
+/**
+ * Dispatches pull deltas to result handlers.
+ * When no concurrent settings are defined for the task and a chunk size greater than 1 is given, deltas are
+ * handled in chunks, each within a single transaction; should a chunk fail, its deltas are handled again one by
+ * one, each within its own transaction, so that only actually failing deltas are reported as such.
+ * Since propagations cannot be rolled back, chunks are meant for bulk imports with nothing to propagate: callers
+ * shall not give a chunk size greater than 1 otherwise.
+ */
 public class PullResultHandlerDispatcher
         extends SyncopeResultHandlerDispatcher<PullTask, InboundActions, SyncopePullResultHandler>
         implements SyncResultsHandler {
 
+    protected final ProvisioningProfile<PullTask, InboundActions> profile;
+
     protected final SyncopePullExecutor executor;
 
+    protected final int chunkSize;
+
+    protected final List<SyncDelta> chunk = new ArrayList<>();
+
     public PullResultHandlerDispatcher(
             final ProvisioningProfile<PullTask, InboundActions> profile,
-            final SyncopePullExecutor executor) {
+            final SyncopePullExecutor executor,
+            final DispatcherStats stats) {
+
+        this(profile, executor, stats, 0);
+    }
 
-        super(profile);
+    public PullResultHandlerDispatcher(
+            final ProvisioningProfile<PullTask, InboundActions> profile,
+            final SyncopePullExecutor executor,
+            final DispatcherStats stats,
+            final int chunkSize) {
+
+        super(profile, stats);
+        this.profile = profile;
         this.executor = executor;
+        this.chunkSize = tpte.isEmpty() ? chunkSize : 0;
+    }
+
+    protected boolean handleOne(final SyncDelta delta) {
+        boolean result = process(
+                () -> nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta));
+
+        executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+        if (result) {
+            executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
+        }
+
+        return result;
+    }
+
+    /**
+     * Handles the deltas buffered so far, if any.
+     *
+     * @return whether processing shall continue
+     */
+    public boolean flush() {
+        if (chunk.isEmpty()) {
+            return true;
+        }
+
+        List<SyncDelta> deltas = List.copyOf(chunk);
+        chunk.clear();
+        String objectClass = deltas.getFirst().getObjectClass().getObjectClassValue();
+
+        int before = profile.getResults().size();
+        boolean result;
+        try {
+            result = process(() -> nonConcurrentHandler(objectClass).handle(deltas), deltas.size());
+        } catch (Exception e) {
+            LOG.warn("Could not handle chunk of {} {} deltas, now handling one by one",
+                    deltas.size(), objectClass, e);
+
+            profile.getResults().subList(before, profile.getResults().size()).clear();
+
+            result = true;
+            for (Iterator<SyncDelta> itor = deltas.iterator(); itor.hasNext() && result;) {
+                result = handleOne(itor.next());
+            }
+            return result;
+        }
+
+        deltas.forEach(delta -> executor.reportHandled(objectClass, delta.getObject().getName()));
+        if (result) {
+            executor.setLatestSyncToken(objectClass, deltas.getLast().getToken());
+        }
+
+        return result;
     }
 
     @Override
     public boolean handle(final SyncDelta delta) {
-        if (tpte.isEmpty()) {
-            boolean result = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta);
-
-            executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+        if (chunkSize > 1) {
+            boolean result = true;
+            if (!chunk.isEmpty() && !chunk.getFirst().getObjectClass().equals(delta.getObjectClass())) {
+                result = flush();
+            }
             if (result) {
-                executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
+                chunk.add(delta);
+                if (chunk.size() >= chunkSize) {
+                    result = flush();
+                }
             }
-
             return result;
         }
 
+        if (tpte.isEmpty()) {
+            return handleOne(delta);
+        }
+
         try {
-            submit(() -> {
+            submit(delta.getObjectClass().getObjectClassValue() + '/' + delta.getUid().getUidValue(), () -> {
                 executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
 
                 suppliers.get(delta.getObjectClass().getObjectClassValue()).get().handle(delta);
@@ -69,4 +156,11 @@ public class PullResultHandlerDispatcher
             return false;
         }
     }
+
+    @Override
+    protected void shutdown() {
+        flush();
+
+        super.shutdown();
+    }
 }
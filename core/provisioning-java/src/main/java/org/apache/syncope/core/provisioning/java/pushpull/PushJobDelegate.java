@@ -25,6 +25,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.mutable.Mutable;
+import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.Provision;
@@ -59,7 +61,6 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandle
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 public class PushJobDelegate
@@ -183,7 +184,7 @@ public class PushJobDelegate
     protected String doExecute(final JobExecutionContext context) throws JobExecutionException {
         LOG.debug("Executing push on {}", task.getResource());
 
-        dispatcher = new PushResultHandlerDispatcher(profile, this);
+        dispatcher = new PushResultHandlerDispatcher(profile, this, dispatcherStats());
 
         if (!profile.isDryRun()) {
             for (PushActions action : profile.getActions()) {
@@ -256,22 +257,24 @@ public class PushJobDelegate
             SearchCond cond = StringUtils.isBlank(filter)
                     ? anyDAO.getAllMatchingCond()
                     : SearchCondConverter.convert(searchCondVisitor, filter);
-            long count = searchDAO.count(
+            Mutable<JobExecutionException> failure = new MutableObject<>();
+            searchDAO.<Any>scan(
                     profile.getTask().getSourceRealm(),
                     true,
                     Set.of(profile.getTask().getSourceRealm().getFullPath()),
                     cond,
-                    anyType.getKind());
-            boolean result = true;
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) && result; page++) {
-                List<? extends Any> anys = searchDAO.search(
-                        profile.getTask().getSourceRealm(),
-                        true,
-                        Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        anyType.getKind());
-                result = doHandle(anys, dispatcher, task.getResource());
+                    AnyDAO.DEFAULT_PAGE_SIZE,
+                    anyType.getKind(),
+                    anys -> {
+                        try {
+                            return doHandle(anys, dispatcher, task.getResource());
+                        } catch (JobExecutionException e) {
+                            failure.setValue(e);
+                            return false;
+                        }
+                    });
+            if (failure.getValue() != null) {
+                throw failure.getValue();
             }
         }
 
@@ -32,15 +32,16 @@ public class PushResultHandlerDispatcher
 
     public PushResultHandlerDispatcher(
             final ProvisioningProfile<PushTask, PushActions> profile,
-            final SyncopePushExecutor executor) {
+            final SyncopePushExecutor executor,
+            final DispatcherStats stats) {
 
-        super(profile);
+        super(profile, stats);
         this.executor = executor;
     }
 
     public boolean handle(final String anyType, final String anyKey) {
         if (tpte.isEmpty()) {
-            boolean result = nonConcurrentHandler(anyType).handle(anyKey);
+            boolean result = process(() -> nonConcurrentHandler(anyType).handle(anyKey));
 
             executor.reportHandled(anyType, anyKey);
 
@@ -48,7 +49,7 @@ public class PushResultHandlerDispatcher
         }
 
         try {
-            submit(() -> {
+            submit(anyType + '/' + anyKey, () -> {
                 suppliers.get(anyType).get().handle(anyKey);
 
                 executor.reportHandled(anyType, anyKey);
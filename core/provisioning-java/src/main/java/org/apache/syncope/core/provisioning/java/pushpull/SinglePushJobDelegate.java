@@ -96,7 +96,7 @@ public class SinglePushJobDelegate extends PushJobDelegate implements SyncopeSin
 
         try {
             before(resource, connector, pushTaskTO, executor);
-            dispatcher = new PushResultHandlerDispatcher(profile, this);
+            dispatcher = new PushResultHandlerDispatcher(profile, this, new DispatcherStats());
 
             AnyType anyType = anyTypeDAO.findById(provision.getAnyType()).
                     orElseThrow(() -> new NotFoundException("AnyType" + provision.getAnyType()));
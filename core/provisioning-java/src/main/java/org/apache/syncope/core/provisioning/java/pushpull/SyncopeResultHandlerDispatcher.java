@@ -18,15 +18,17 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningActions;
@@ -42,6 +44,13 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 
+/**
+ * Dispatches items to result handlers, either in the calling thread or - when concurrent settings are defined
+ * for the task - to a pool of threads.
+ * In the latter case items are held in a bounded queue: the calling thread (typically the one paging through
+ * connector results) is blocked when the queue is full, and items sharing the same key (e.g. the same connector
+ * object) are processed in submission order, never concurrently.
+ */
 public abstract class SyncopeResultHandlerDispatcher<
         T extends ProvisioningTask<?>, A extends ProvisioningActions, RA extends SyncopeResultHandler<T, A>> {
 
@@ -55,12 +64,28 @@ public abstract class SyncopeResultHandlerDispatcher<
 
     protected final Map<String, RA> handlers = new ConcurrentHashMap<>();
 
-    protected final List<Future<?>> futures = new ArrayList<>();
+    /**
+     * Pending items, grouped by key: each queue is drained by a single thread at a time.
+     */
+    protected final Map<String, Queue<Runnable>> lanes = new ConcurrentHashMap<>();
+
+    protected final int queueCapacity;
+
+    protected final Semaphore queue;
+
+    protected final DispatcherStats stats;
+
+    protected SyncopeResultHandlerDispatcher(final ProvisioningProfile<T, A> profile, final DispatcherStats stats) {
+        this.stats = stats;
 
-    protected SyncopeResultHandlerDispatcher(final ProvisioningProfile<T, A> profile) {
         if (profile.getTask().getConcurrentSettings() == null) {
             tpte = Optional.empty();
+            queueCapacity = 0;
+            queue = null;
         } else {
+            queueCapacity = Math.max(1, profile.getTask().getConcurrentSettings().getQueueCapacity());
+            queue = new Semaphore(queueCapacity);
+
             VirtualThreadPoolTaskExecutor t = new VirtualThreadPoolTaskExecutor();
             t.setPoolSize(profile.getTask().getConcurrentSettings().getPoolSize());
             t.setWaitForTasksToCompleteOnShutdown(true);
@@ -94,23 +119,96 @@ public abstract class SyncopeResultHandlerDispatcher<
         return handlers.computeIfAbsent(key, k -> suppliers.get(k).get());
     }
 
-    protected void submit(final Runnable runnable) {
-        tpte.ifPresent(executor -> futures.add(executor.submit(runnable)));
+    protected <R> R process(final Supplier<R> supplier) {
+        return process(supplier, 1);
     }
 
-    public void stop() {
-        handlers.values().forEach(SyncopeResultHandler::stop);
+    protected <R> R process(final Supplier<R> supplier, final int items) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            stats.processed(System.nanoTime() - start, items);
+        }
     }
 
-    protected void shutdown() {
-        for (Future<?> f : this.futures) {
+    /**
+     * Enqueues the given item, waiting if the queue is full; items with the same key are processed sequentially.
+     *
+     * @param key item key
+     * @param runnable item processing
+     */
+    protected void submit(final String key, final Runnable runnable) {
+        VirtualThreadPoolTaskExecutor executor = tpte.orElseThrow();
+
+        try {
+            queue.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for queue space", e);
+        }
+        stats.enqueued();
+
+        AtomicBoolean newLane = new AtomicBoolean(false);
+        lanes.compute(key, (k, lane) -> {
+            Queue<Runnable> items = lane;
+            if (items == null) {
+                items = new ArrayDeque<>();
+                newLane.set(true);
+            }
+            items.add(runnable);
+            return items;
+        });
+
+        if (newLane.get()) {
             try {
-                f.get();
-            } catch (ExecutionException | InterruptedException e) {
-                LOG.error("Unexpected error when waiting for completion", e);
+                executor.execute(() -> drain(key));
+            } catch (RuntimeException e) {
+                lanes.remove(key);
+                stats.dequeued();
+                queue.release();
+                throw e;
             }
         }
+    }
+
+    protected Runnable poll(final String key) {
+        AtomicReference<Runnable> next = new AtomicReference<>();
+        lanes.computeIfPresent(key, (k, lane) -> {
+            next.set(lane.poll());
+            return next.get() == null ? null : lane;
+        });
+        return next.get();
+    }
+
+    protected void drain(final String key) {
+        for (Runnable next = poll(key); next != null; next = poll(key)) {
+            Runnable item = next;
+            try {
+                process(() -> {
+                    item.run();
+                    return null;
+                });
+            } catch (Exception e) {
+                LOG.error("Unexpected error while processing {}", key, e);
+            } finally {
+                stats.dequeued();
+                queue.release();
+            }
+        }
+    }
+
+    public void stop() {
+        handlers.values().forEach(SyncopeResultHandler::stop);
+    }
+
+    protected void shutdown() {
+        tpte.ifPresent(executor -> {
+            // wait for all queued items to be processed
+            queue.acquireUninterruptibly(queueCapacity);
+            queue.release(queueCapacity);
 
-        tpte.ifPresent(VirtualThreadPoolTaskExecutor::shutdown);
+            executor.shutdown();
+        });
     }
 }
@@ -48,6 +48,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.stream.SyncopeStreamPullExecutor;
+import org.apache.syncope.core.provisioning.java.pushpull.DispatcherStats;
 import org.apache.syncope.core.provisioning.java.pushpull.PullJobDelegate;
 import org.apache.syncope.core.provisioning.java.pushpull.PullResultHandlerDispatcher;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
@@ -191,7 +192,7 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
                     executor,
                     false);
 
-            dispatcher = new PullResultHandlerDispatcher(profile, this);
+            dispatcher = new PullResultHandlerDispatcher(profile, this, new DispatcherStats(), pullChunkSize(task));
 
             for (InboundActions action : profile.getActions()) {
                 action.beforeAll(profile);
@@ -227,6 +228,9 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
                     MappingUtils.buildOperationOptions(
                             MappingUtils.getInboundItems(provision.getMapping().getItems().stream()),
                             moreAttrsToGet.toArray(String[]::new)));
+            if (!dispatcher.flush()) {
+                LOG.debug("Stream pull of {} was stopped", provision.getObjectClass());
+            }
 
             try {
                 setGroupOwners();
@@ -45,6 +45,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.stream.SyncopeStreamPushExecutor;
+import org.apache.syncope.core.provisioning.java.pushpull.DispatcherStats;
 import org.apache.syncope.core.provisioning.java.pushpull.PushJobDelegate;
 import org.apache.syncope.core.provisioning.java.pushpull.PushResultHandlerDispatcher;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
@@ -149,7 +150,7 @@ public class StreamPushJobDelegate extends PushJobDelegate implements SyncopeStr
                     executor,
                     false);
 
-            dispatcher = new PushResultHandlerDispatcher(profile, this);
+            dispatcher = new PushResultHandlerDispatcher(profile, this, new DispatcherStats());
 
             for (PushActions action : profile.getActions()) {
                 action.beforeAll(profile);
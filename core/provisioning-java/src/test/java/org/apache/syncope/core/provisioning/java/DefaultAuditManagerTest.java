@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditConf;
+import org.apache.syncope.core.persistence.api.entity.AuditEvent;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+public class DefaultAuditManagerTest extends AbstractTest {
+
+    @TempDir
+    private Path spillDirectory;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Test
+    public void spill() throws Exception {
+        OpEvent opEvent = new OpEvent(
+                OpEvent.CategoryType.LOGIC, "UserLogic", null, "read", OpEvent.Outcome.SUCCESS);
+
+        AuditConf conf = mock(AuditConf.class);
+        when(conf.isActive()).thenReturn(true);
+        when(conf.getKey()).thenReturn(opEvent.toString());
+        AuditConfDAO auditConfDAO = mock(AuditConfDAO.class);
+        doReturn(List.of(conf)).when(auditConfDAO).findAll();
+
+        AuditEventDAO auditEventDAO = mock(AuditEventDAO.class);
+
+        AuditProperties props = new AuditProperties();
+        props.setQueueCapacity(1);
+        props.setOverflowPolicy(DefaultAuditManager.OverflowPolicy.SPILL);
+        props.setSpillDirectory(spillDirectory.toString());
+
+        // the executor never drains, so that the queue stays full
+        DefaultAuditManager auditManager = new DefaultAuditManager(
+                auditConfDAO, auditEventDAO, entityFactory, List.of(), mock(AsyncTaskExecutor.class), props);
+
+        for (int i = 0; i < 3; i++) {
+            auditManager.audit(
+                    SyncopeConstants.MASTER_DOMAIN,
+                    "admin",
+                    opEvent.getType(),
+                    opEvent.getCategory(),
+                    opEvent.getSubcategory(),
+                    opEvent.getOp(),
+                    opEvent.getOutcome(),
+                    null,
+                    "output" + i);
+        }
+        assertEquals(1, auditManager.getQueueDepth());
+        assertEquals(2, auditManager.getSpilled());
+        assertEquals(0, auditManager.getDropped());
+        assertEquals(2, Files.readAllLines(spillDirectory.resolve(DefaultAuditManager.SPILL_FILE)).size());
+
+        auditManager.drain();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditEvent>> saved = ArgumentCaptor.forClass(List.class);
+        verify(auditEventDAO, times(2)).saveAll(saved.capture());
+        assertEquals(
+                List.of("\"output0\"", "\"output1\"", "\"output2\""),
+                saved.getAllValues().stream().flatMap(List::stream).map(AuditEvent::getOutput).toList());
+        saved.getAllValues().stream().flatMap(List::stream).
+                forEach(event -> assertEquals(opEvent.toString(), event.getOpEvent()));
+
+        assertEquals(0, auditManager.getQueueDepth());
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.junit.jupiter.api.Test;
+
+public class StatsRegistryTest {
+
+    @Test
+    public void addedAndRemoved() {
+        StatsRegistry<AtomicLong> registry = new StatsRegistry<>(AtomicLong::new);
+
+        AtomicLong before = registry.of(SyncopeConstants.MASTER_DOMAIN, "report1");
+        assertSame(before, registry.of(SyncopeConstants.MASTER_DOMAIN, "report1"));
+        assertNotSame(before, registry.of("Two", "report1"));
+
+        // listeners are notified about existing and new statistics
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        registry.listen(new StatsRegistry.Listener<>() {
+
+            @Override
+            public void added(final String domain, final String key, final AtomicLong stats) {
+                added.add(domain + '/' + key);
+            }
+
+            @Override
+            public void removed(final String domain, final String key, final AtomicLong stats) {
+                removed.add(domain + '/' + key);
+            }
+        });
+        assertEquals(2, added.size());
+
+        registry.of(SyncopeConstants.MASTER_DOMAIN, "report2");
+        assertEquals(3, added.size());
+
+        registry.remove(SyncopeConstants.MASTER_DOMAIN, "report1");
+        registry.remove(SyncopeConstants.MASTER_DOMAIN, "report1");
+        assertEquals(List.of(SyncopeConstants.MASTER_DOMAIN + "/report1"), removed);
+
+        // statistics start over once removed
+        assertNotSame(before, registry.of(SyncopeConstants.MASTER_DOMAIN, "report1"));
+        assertEquals(4, added.size());
+    }
+}
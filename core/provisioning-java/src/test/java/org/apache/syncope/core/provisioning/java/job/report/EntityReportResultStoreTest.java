@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class EntityReportResultStoreTest {
+
+    @Test
+    public void createOpenDelete() throws Exception {
+        EntityReportResultStore store = new EntityReportResultStore();
+        ReportExec execution = mock(ReportExec.class);
+        when(execution.getKey()).thenReturn("5e6f7a8b-9c0d-4e1f-a2b3-c4d5e6f7a8b9");
+
+        byte[] content = "report output".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = store.create(execution)) {
+            out.write(content);
+
+            // the entity is only set once the output is closed
+            verify(execution, never()).setExecResult(any());
+        }
+
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(execution).setExecResult(stored.capture());
+        assertArrayEquals(content, stored.getValue());
+
+        when(execution.getExecResult()).thenReturn(stored.getValue());
+        try (InputStream in = store.open(execution).orElseThrow()) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+
+        store.delete(execution);
+        verify(execution).setExecResult(null);
+
+        when(execution.getExecResult()).thenReturn(null);
+        assertFalse(store.open(execution).isPresent());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileSystemReportResultStoreTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private static ReportExec execution(final String key) {
+        ReportExec execution = mock(ReportExec.class);
+        when(execution.getKey()).thenReturn(key);
+        return execution;
+    }
+
+    @Test
+    public void createOpenDelete() throws Exception {
+        FileSystemReportResultStore store = new FileSystemReportResultStore(tempDir);
+        ReportExec execution = execution("c1d0b2e5-5f4b-4b37-a3a8-0f4d5c6e7f80");
+
+        byte[] content = "report output".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = store.create(execution)) {
+            out.write(content);
+
+            // nothing is visible until the output is closed
+            assertFalse(store.open(execution).isPresent());
+        }
+        verify(execution, never()).setExecResult(any());
+
+        Path stored = tempDir.resolve(SyncopeConstants.MASTER_DOMAIN).resolve(execution.getKey() + ".zip");
+        assertEquals(content.length, Files.size(stored));
+        try (Stream<Path> files = Files.list(stored.getParent())) {
+            assertEquals(1, files.count());
+        }
+
+        Optional<InputStream> result = store.open(execution);
+        assertTrue(result.isPresent());
+        try (InputStream in = result.orElseThrow()) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+
+        store.delete(execution);
+        assertFalse(Files.exists(stored));
+        assertFalse(store.open(execution).isPresent());
+    }
+
+    @Test
+    public void fallbackToEntity() throws Exception {
+        FileSystemReportResultStore store = new FileSystemReportResultStore(tempDir);
+        ReportExec execution = execution("0a2b7c1e-3d4f-4a5b-8c6d-7e8f9a0b1c2d");
+
+        byte[] content = "legacy output".getBytes(StandardCharsets.UTF_8);
+        when(execution.getExecResult()).thenReturn(content);
+
+        try (InputStream in = store.open(execution).orElseThrow()) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.commons.lang3.mutable.Mutable;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtils;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPropagationTaskExec;
+import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationActions;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+public class PriorityPropagationTaskExecutorTest {
+
+    @Mock
+    private ExternalResource resource;
+
+    @Mock
+    private PropagationPolicy policy;
+
+    @Mock
+    private AsyncTaskExecutor taskExecutor;
+
+    @Mock
+    private NotificationManager notificationManager;
+
+    @Mock
+    private AuditManager auditManager;
+
+    @Mock
+    private TaskUtilsFactory taskUtilsFactory;
+
+    @Mock
+    private TaskUtils taskUtils;
+
+    @Mock
+    private Connector connector;
+
+    @Mock
+    private ConnInstance connInstance;
+
+    @Mock
+    private PropagationActions actions;
+
+    private PriorityPropagationTaskExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new PriorityPropagationTaskExecutor(
+                null, null, null, null, null, notificationManager, auditManager, null, null, taskUtilsFactory,
+                null, null, null, taskExecutor) {
+
+            @Override
+            protected List<PropagationActions> getPropagationActions(final ExternalResource resource) {
+                return List.of(actions);
+            }
+        };
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private PropagationTaskInfo taskInfo(
+            final ResourceOperation operation,
+            final String connObjectKey,
+            final Attribute... attrs) {
+
+        PropagationTaskInfo taskInfo = new PropagationTaskInfo(
+                resource,
+                operation,
+                ObjectClass.ACCOUNT,
+                AnyTypeKind.USER,
+                "USER",
+                "entityKey",
+                connObjectKey,
+                new PropagationData(new HashSet<>(List.of(attrs))));
+        taskInfo.setKey(UUID.randomUUID().toString());
+        return taskInfo;
+    }
+
+    @Test
+    public void coalesce() {
+        PropagationTaskInfo create = taskInfo(
+                ResourceOperation.CREATE, "old",
+                AttributeBuilder.build("email", "old@syncope.org"),
+                AttributeBuilder.build("surname", "surname"));
+        PropagationTaskInfo update = taskInfo(
+                ResourceOperation.UPDATE, "new",
+                AttributeBuilder.build("EMAIL", "new@syncope.org"));
+        update.setOldConnObjectKey("old");
+
+        assertTrue(executor.canCoalesce(create, update));
+
+        PropagationTaskInfo merged = executor.coalesce(create, update);
+        assertEquals(ResourceOperation.CREATE, merged.getOperation());
+        assertEquals(create.getKey(), merged.getKey());
+        assertEquals("new", merged.getConnObjectKey());
+        assertNull(merged.getOldConnObjectKey());
+
+        Set<Attribute> attrs = merged.getPropagationData().getAttributes();
+        assertEquals(2, attrs.size());
+        assertEquals("new@syncope.org", AttributeUtil.getStringValue(AttributeUtil.find("EMAIL", attrs)));
+        assertEquals("surname", AttributeUtil.getStringValue(AttributeUtil.find("surname", attrs)));
+    }
+
+    @Test
+    public void canCoalesce() {
+        PropagationTaskInfo update = taskInfo(ResourceOperation.UPDATE, "key");
+        PropagationTaskInfo delete = taskInfo(ResourceOperation.DELETE, "key");
+        PropagationTaskInfo create = taskInfo(ResourceOperation.CREATE, "key");
+
+        assertFalse(executor.canCoalesce(update, delete));
+        assertFalse(executor.canCoalesce(delete, update));
+        assertFalse(executor.canCoalesce(update, create));
+
+        PropagationTaskInfo delta = taskInfo(ResourceOperation.UPDATE, "key");
+        delta.getPropagationData().setAttributeDeltas(
+                Set.of(AttributeDeltaBuilder.build("email", List.of("new@syncope.org"))));
+        assertFalse(executor.canCoalesce(update, delta));
+        assertFalse(executor.canCoalesce(delta, update));
+    }
+
+    @Test
+    public void enqueue() {
+        when(resource.getKey()).thenReturn("resource");
+        when(resource.getPropagationPolicy()).thenReturn(policy);
+        when(policy.getCoalescingWindow()).thenReturn(3600);
+
+        List<PropagationTaskInfo> taskInfos = new ArrayList<>();
+        taskInfos.add(taskInfo(ResourceOperation.CREATE, "key", AttributeBuilder.build("email", "1")));
+        taskInfos.add(taskInfo(ResourceOperation.UPDATE, "key", AttributeBuilder.build("email", "2")));
+        taskInfos.add(taskInfo(ResourceOperation.UPDATE, "key", AttributeBuilder.build("email", "3")));
+        taskInfos.add(taskInfo(ResourceOperation.DELETE, "key"));
+        taskInfos.add(taskInfo(ResourceOperation.CREATE, "key", AttributeBuilder.build("email", "4")));
+        taskInfos.forEach(taskInfo -> executor.enqueue(taskInfo, new DefaultPropagationReporter(), "admin"));
+
+        Deque<PriorityPropagationTaskExecutor.CoalescingItem> items = executor.coalescing.get(
+                new PriorityPropagationTaskExecutor.CoalescingKey("resource", "entityKey"));
+        assertEquals(3, items.size());
+
+        PriorityPropagationTaskExecutor.CoalescingItem first = items.poll();
+        assertEquals(ResourceOperation.CREATE, first.taskInfo.getOperation());
+        assertEquals(
+                List.of(taskInfos.get(0).getKey(), taskInfos.get(1).getKey(), taskInfos.get(2).getKey()),
+                first.taskKeys);
+        assertEquals("3", AttributeUtil.getStringValue(
+                AttributeUtil.find("email", first.taskInfo.getPropagationData().getAttributes())));
+
+        assertEquals(ResourceOperation.DELETE, items.poll().taskInfo.getOperation());
+        assertEquals(ResourceOperation.CREATE, items.poll().taskInfo.getOperation());
+    }
+
+    private void mockUpdateDelta(final Set<AttributeDelta> sideEffects) {
+        when(resource.getKey()).thenReturn("resource");
+        when(resource.getUpdateTraceLevel()).thenReturn(TraceLevel.NONE);
+        when(taskUtilsFactory.getInstance(TaskType.PROPAGATION)).thenReturn(taskUtils);
+        when(taskUtils.newTaskExec()).thenReturn(new JPAPropagationTaskExec());
+        when(connector.updateDelta(eq(ObjectClass.ACCOUNT), eq(new Uid("key")), any(), isNull(), any())).
+                thenAnswer(ic -> {
+                    if (sideEffects == null) {
+                        throw new ConnectorException("boom");
+                    }
+
+                    ic.<Mutable<Boolean>>getArgument(4).setValue(true);
+                    return sideEffects;
+                });
+    }
+
+    private PropagationTaskInfo updateDeltaTaskInfo() {
+        PropagationTaskInfo taskInfo = taskInfo(ResourceOperation.UPDATE, "key");
+        taskInfo.getPropagationData().setAttributeDeltas(Set.of(
+                AttributeDeltaBuilder.build("email", List.of("new@syncope.org")),
+                AttributeDeltaBuilder.build("groups", List.of("group2"), List.of("group1"))));
+        taskInfo.setBeforeObj(Optional.of(new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid("key").
+                setName("key").
+                addAttribute(AttributeBuilder.build("email", "old@syncope.org")).
+                addAttribute(AttributeBuilder.build("surname", "surname")).
+                addAttribute(AttributeBuilder.build("groups", "group1", "group3")).
+                build()));
+        taskInfo.setConnector(connector);
+        return taskInfo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConnectorObject afterObj(final PropagationTaskInfo taskInfo, final ExecStatus expected) {
+        TaskExec<PropagationTask> exec = executor.doExecute(taskInfo, new DefaultPropagationReporter(), "admin");
+        assertEquals(expected.name(), exec.getStatus());
+
+        ArgumentCaptor<ConnectorObject> afterObj = ArgumentCaptor.forClass(ConnectorObject.class);
+        verify(actions).after(eq(taskInfo), any(TaskExec.class), afterObj.capture());
+        return afterObj.getValue();
+    }
+
+    private void mockNoSearchCapability() {
+        when(connector.getConnInstance()).thenReturn(connInstance);
+        when(connInstance.getCapabilities()).thenReturn(Set.of());
+    }
+
+    @Test
+    public void buildAfterObj() {
+        when(resource.getPropagationPolicy()).thenReturn(policy);
+        when(policy.isFetchAroundProvisioning()).thenReturn(true);
+        when(policy.isFetchAfterProvisioning()).thenReturn(false);
+        mockUpdateDelta(Set.of(AttributeDeltaBuilder.build("modifyTimestamp", List.of("20260101000000Z"))));
+
+        ConnectorObject afterObj = afterObj(updateDeltaTaskInfo(), ExecStatus.SUCCESS);
+        assertEquals("key", afterObj.getUid().getUidValue());
+        assertEquals("key", afterObj.getName().getNameValue());
+        assertEquals("new@syncope.org", AttributeUtil.getStringValue(afterObj.getAttributeByName("email")));
+        assertEquals("surname", AttributeUtil.getStringValue(afterObj.getAttributeByName("surname")));
+        assertEquals(Set.of("group2", "group3"), new HashSet<>(afterObj.getAttributeByName("groups").getValue()));
+        assertEquals("20260101000000Z", AttributeUtil.getStringValue(afterObj.getAttributeByName("modifyTimestamp")));
+    }
+
+    @Test
+    public void noSearchCapability() {
+        mockNoSearchCapability();
+        mockUpdateDelta(Set.of(AttributeDeltaBuilder.build("modifyTimestamp", List.of("20260101000000Z"))));
+
+        // the remote object cannot be read: rather than built from the values propagated, it only reports uid and name
+        ConnectorObject afterObj = afterObj(updateDeltaTaskInfo(), ExecStatus.SUCCESS);
+        assertEquals("key", afterObj.getUid().getUidValue());
+        assertEquals("key", afterObj.getName().getNameValue());
+        assertNull(afterObj.getAttributeByName("email"));
+        assertNull(afterObj.getAttributeByName("modifyTimestamp"));
+    }
+
+    @Test
+    public void noAfterObjOnFailure() {
+        mockNoSearchCapability();
+        mockUpdateDelta(null);
+
+        assertNull(afterObj(updateDeltaTaskInfo(), ExecStatus.FAILURE));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.junit.jupiter.api.Test;
+
+public class ResourceCircuitBreakerTest {
+
+    @Test
+    public void openOnFailures() {
+        ResourceCircuitBreaker breaker = new ResourceCircuitBreaker("resource", 2, 0, 3600);
+
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), true, 10);
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), false, 10);
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), true, 10);
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), true, 10);
+        assertEquals(ResourceCircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire().isEmpty());
+    }
+
+    @Test
+    public void openOnSlowCalls() {
+        ResourceCircuitBreaker breaker = new ResourceCircuitBreaker("resource", 1, 100, 3600);
+
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), false, 50);
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), false, 150);
+        assertEquals(ResourceCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void halfOpen() {
+        ResourceCircuitBreaker breaker = new ResourceCircuitBreaker("resource", 1, 0, 0);
+
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), true, 10);
+        assertEquals(ResourceCircuitBreaker.State.OPEN, breaker.getState());
+
+        // single trial attempt
+        ResourceCircuitBreaker.Permit trial = breaker.tryAcquire().orElseThrow();
+        assertTrue(trial.trial());
+        assertEquals(ResourceCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire().isEmpty());
+
+        breaker.onResult(trial, true, 10);
+        assertEquals(ResourceCircuitBreaker.State.OPEN, breaker.getState());
+
+        breaker.onIgnored(breaker.tryAcquire().orElseThrow());
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), false, 10);
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void slowAttemptCompletingWhileHalfOpen() {
+        ResourceCircuitBreaker breaker = new ResourceCircuitBreaker("resource", 1, 100, 0);
+
+        // slow attempt started while closed
+        ResourceCircuitBreaker.Permit slow = breaker.tryAcquire().orElseThrow();
+        assertFalse(slow.trial());
+
+        breaker.onResult(breaker.tryAcquire().orElseThrow(), true, 10);
+        assertEquals(ResourceCircuitBreaker.State.OPEN, breaker.getState());
+
+        ResourceCircuitBreaker.Permit trial = breaker.tryAcquire().orElseThrow();
+        assertEquals(ResourceCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // the slow attempt completing now is not taken as the trial's outcome
+        breaker.onResult(slow, false, 50);
+        assertEquals(ResourceCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onIgnored(slow);
+        assertTrue(breaker.tryAcquire().isEmpty());
+
+        breaker.onResult(trial, false, 10);
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+
+        // nor, once closed again, is the outcome of attempts started before
+        breaker.onResult(slow, false, 500);
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void bulkhead() {
+        List<Runnable> submitted = new ArrayList<>();
+        ResourceBulkhead bulkhead = new ResourceBulkhead("resource", 2, submitted::add);
+
+        List<String> executed = new ArrayList<>();
+        bulkhead.execute(() -> executed.add("1"));
+        bulkhead.execute(() -> executed.add("2"));
+        bulkhead.execute(() -> executed.add("3"));
+        assertEquals(2, submitted.size());
+        assertEquals(2, bulkhead.getInFlight());
+        assertEquals(1, bulkhead.getWaiting());
+
+        // completing the first command runs the waiting one on the same thread
+        submitted.get(0).run();
+        assertEquals(2, submitted.size());
+        assertEquals(1, bulkhead.getInFlight());
+        assertEquals(0, bulkhead.getWaiting());
+        assertEquals(List.of("1", "3"), executed);
+
+        submitted.get(1).run();
+        assertEquals(List.of("1", "3", "2"), executed);
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    public void bulkheadsOnSaturatedExecutor() throws InterruptedException {
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setPoolSize(2);
+        executor.initialize();
+        try {
+            // pool size is lower than the sum of maximum concurrency of all bulkheads
+            List<ResourceBulkhead> bulkheads = List.of(
+                    new ResourceBulkhead("resource1", 2, executor),
+                    new ResourceBulkhead("resource2", 2, executor));
+
+            int tasks = 20;
+            CountDownLatch done = new CountDownLatch(tasks * bulkheads.size());
+            // submitting blocks while the executor is saturated, hence not from the test thread
+            Thread.ofVirtual().start(() -> bulkheads.forEach(bulkhead -> {
+                for (int i = 0; i < tasks; i++) {
+                    bulkhead.execute(() -> {
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        done.countDown();
+                    });
+                }
+            }));
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            await().atMost(5, TimeUnit.SECONDS).until(
+                    () -> bulkheads.stream().allMatch(b -> b.getInFlight() == 0 && b.getWaiting() == 0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PullResultHandlerDispatcherTest {
+
+    private static SyncDelta delta(final int index) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setToken(new SyncToken(index)).
+                setObject(new ConnectorObjectBuilder().
+                        setObjectClass(ObjectClass.ACCOUNT).
+                        setUid(new Uid("uid" + index)).
+                        setName("name" + index).
+                        build()).
+                build();
+    }
+
+    @Mock
+    private ProvisioningProfile<PullTask, InboundActions> profile;
+
+    @Mock
+    private PullTask task;
+
+    @Mock
+    private SyncopePullExecutor executor;
+
+    @Mock
+    private SyncopePullResultHandler handler;
+
+    private final List<ProvisioningReport> results = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        when(task.getKey()).thenReturn(UUID.randomUUID().toString());
+        when(profile.getTask()).thenReturn(task);
+    }
+
+    @Test
+    public void chunks() {
+        when(profile.getResults()).thenReturn(results);
+
+        List<List<SyncDelta>> chunks = new ArrayList<>();
+        when(handler.handle(anyList())).thenAnswer(ic -> {
+            chunks.add(ic.getArgument(0));
+            return true;
+        });
+
+        PullResultHandlerDispatcher dispatcher =
+                new PullResultHandlerDispatcher(profile, executor, new DispatcherStats(), 3);
+        dispatcher.addHandlerSupplier(ObjectClass.ACCOUNT_NAME, () -> handler);
+
+        for (int i = 0; i < 7; i++) {
+            assertTrue(dispatcher.handle(delta(i)));
+        }
+        assertEquals(2, chunks.size());
+
+        dispatcher.shutdown();
+        assertEquals(List.of(3, 3, 1), chunks.stream().map(List::size).toList());
+
+        verify(handler, times(0)).handle(any(SyncDelta.class));
+        verify(executor, times(7)).reportHandled(any(), any());
+        verify(executor).setLatestSyncToken(ObjectClass.ACCOUNT_NAME, new SyncToken(6));
+    }
+
+    @Test
+    public void failingChunk() {
+        when(profile.getResults()).thenReturn(results);
+
+        when(handler.handle(anyList())).thenAnswer(ic -> {
+            List<SyncDelta> deltas = ic.getArgument(0);
+            deltas.forEach(delta -> {
+                ProvisioningReport report = new ProvisioningReport();
+                report.setUidValue(delta.getUid().getUidValue());
+                report.setStatus(ProvisioningReport.Status.SUCCESS);
+                results.add(report);
+            });
+            throw new IllegalStateException("Failure while handling chunk");
+        });
+        when(handler.handle(any(SyncDelta.class))).thenAnswer(ic -> {
+            SyncDelta delta = ic.getArgument(0);
+            ProvisioningReport report = new ProvisioningReport();
+            report.setUidValue(delta.getUid().getUidValue());
+            report.setStatus("uid1".equals(delta.getUid().getUidValue())
+                    ? ProvisioningReport.Status.FAILURE
+                    : ProvisioningReport.Status.SUCCESS);
+            results.add(report);
+            return true;
+        });
+
+        PullResultHandlerDispatcher dispatcher =
+                new PullResultHandlerDispatcher(profile, executor, new DispatcherStats(), 3);
+        dispatcher.addHandlerSupplier(ObjectClass.ACCOUNT_NAME, () -> handler);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(dispatcher.handle(delta(i)));
+        }
+        dispatcher.shutdown();
+
+        verify(handler, times(3)).handle(any(SyncDelta.class));
+        assertEquals(3, results.size());
+        assertEquals(
+                List.of(ProvisioningReport.Status.SUCCESS,
+                        ProvisioningReport.Status.FAILURE,
+                        ProvisioningReport.Status.SUCCESS),
+                results.stream().map(ProvisioningReport::getStatus).toList());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushExecutor;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PushResultHandlerDispatcherTest {
+
+    @Mock
+    private ProvisioningProfile<PushTask, PushActions> profile;
+
+    @Mock
+    private PushTask task;
+
+    @Mock
+    private SyncopePushExecutor executor;
+
+    @Mock
+    private SyncopePushResultHandler handler;
+
+    @Test
+    public void concurrentSameKeyOrdering() {
+        ThreadPoolSettings settings = new ThreadPoolSettings();
+        settings.setPoolSize(4);
+        settings.setQueueCapacity(2);
+
+        String taskKey = UUID.randomUUID().toString();
+        when(task.getKey()).thenReturn(taskKey);
+        when(task.getConcurrentSettings()).thenReturn(settings);
+        when(profile.getTask()).thenReturn(task);
+        when(profile.getExecutor()).thenReturn("admin");
+
+        Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> handled = new ConcurrentHashMap<>();
+        AtomicBoolean overlapping = new AtomicBoolean(false);
+        when(handler.handle(anyString())).thenAnswer(ic -> {
+            String anyKey = ic.getArgument(0);
+            if (running.computeIfAbsent(anyKey, k -> new AtomicInteger()).incrementAndGet() > 1) {
+                overlapping.set(true);
+            }
+            Thread.sleep(5);
+            running.get(anyKey).decrementAndGet();
+            handled.computeIfAbsent(anyKey, k -> new AtomicInteger()).incrementAndGet();
+            return true;
+        });
+
+        DispatcherStats stats = new DispatcherStats();
+        PushResultHandlerDispatcher dispatcher = new PushResultHandlerDispatcher(profile, executor, stats);
+        dispatcher.addHandlerSupplier("USER", () -> handler);
+
+        List<String> anyKeys = List.of("a", "b", "c");
+        for (int i = 0; i < 30; i++) {
+            assertTrue(dispatcher.handle("USER", anyKeys.get(i % anyKeys.size())));
+        }
+        dispatcher.shutdown();
+
+        assertFalse(overlapping.get());
+        anyKeys.forEach(anyKey -> assertEquals(10, handled.get(anyKey).get()));
+
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(30, stats.getProcessed());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.keymaster.internal;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever a configuration parameter is set or removed for the given domain.
+ */
+public class ConfParamChangeEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = 5102745381914474581L;
+
+    private final String domain;
+
+    private final String key;
+
+    public ConfParamChangeEvent(final Object source, final String domain, final String key) {
+        super(source);
+
+        this.domain = domain;
+        this.key = key;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.keymaster.internal;
+
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalidates the locally cached configuration parameters once changes are committed.
+ */
+public class ConfParamChangeListener {
+
+    protected final ConfParamOps confParamOps;
+
+    public ConfParamChangeListener(final ConfParamOps confParamOps) {
+        this.confParamOps = confParamOps;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(final ConfParamChangeEvent event) {
+        if (confParamOps instanceof CachingConfParamOps cachingConfParamOps) {
+            cachingConfParamOps.invalidate(event.getDomain());
+        }
+    }
+}
@@ -27,8 +27,10 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.keymaster.ConfParamDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.keymaster.ConfParam;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 public class InternalConfParamHelper {
@@ -41,9 +43,16 @@ public class InternalConfParamHelper {
 
     protected final EntityFactory entityFactory;
 
-    public InternalConfParamHelper(final ConfParamDAO confParamDAO, final EntityFactory entityFactory) {
+    protected final ApplicationEventPublisher publisher;
+
+    public InternalConfParamHelper(
+            final ConfParamDAO confParamDAO,
+            final EntityFactory entityFactory,
+            final ApplicationEventPublisher publisher) {
+
         this.confParamDAO = confParamDAO;
         this.entityFactory = entityFactory;
+        this.publisher = publisher;
     }
 
     @Transactional(readOnly = true)
@@ -77,10 +86,14 @@ public class InternalConfParamHelper {
         }
         param.setValue(value);
         confParamDAO.save(param);
+
+        publisher.publishEvent(new ConfParamChangeEvent(this, AuthContextUtils.getDomain(), key));
     }
 
     @Transactional
     public void remove(final String key) {
         confParamDAO.deleteById(key);
+
+        publisher.publishEvent(new ConfParamChangeEvent(this, AuthContextUtils.getDomain(), key));
     }
 }
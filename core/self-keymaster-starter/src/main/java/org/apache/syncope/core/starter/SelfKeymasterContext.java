@@ -42,6 +42,7 @@ import org.apache.cxf.jaxrs.utils.JAXRSUtils;
 import org.apache.cxf.jaxrs.validation.JAXRSBeanValidationInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPOutInterceptor;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.DomainWatcher;
@@ -52,6 +53,7 @@ import org.apache.syncope.common.keymaster.rest.api.service.DomainService;
 import org.apache.syncope.common.keymaster.rest.api.service.NetworkServiceService;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.core.keymaster.internal.ConfParamChangeListener;
 import org.apache.syncope.core.keymaster.internal.InternalConfParamHelper;
 import org.apache.syncope.core.keymaster.internal.SelfKeymasterInternalConfParamOps;
 import org.apache.syncope.core.keymaster.internal.SelfKeymasterInternalDomainOps;
@@ -80,10 +82,12 @@ import org.apache.syncope.core.spring.security.WebSecurityContext;
 import org.apache.syncope.core.starter.SelfKeymasterContext.SelfKeymasterCondition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
@@ -239,14 +243,25 @@ public class SelfKeymasterContext {
     @Bean
     public InternalConfParamHelper internalConfParamHelper(
             final ConfParamDAO confParamDAO,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final ApplicationEventPublisher publisher) {
 
-        return new InternalConfParamHelper(confParamDAO, entityFactory);
+        return new InternalConfParamHelper(confParamDAO, entityFactory, publisher);
     }
 
     @Bean
-    public ConfParamOps internalConfParamOps(final InternalConfParamHelper helper) {
-        return new SelfKeymasterInternalConfParamOps(helper);
+    public ConfParamOps internalConfParamOps(final InternalConfParamHelper helper, final KeymasterProperties props) {
+        ConfParamOps confParamOps = new SelfKeymasterInternalConfParamOps(helper);
+        return props.getConfParamCacheTtl() <= 0
+                ? confParamOps
+                : new CachingConfParamOps(confParamOps, props.getConfParamCacheTtl());
+    }
+
+    @Bean
+    public ConfParamChangeListener confParamChangeListener(
+            @Qualifier("internalConfParamOps") final ConfParamOps internalConfParamOps) {
+
+        return new ConfParamChangeListener(internalConfParamOps);
     }
 
     @Bean
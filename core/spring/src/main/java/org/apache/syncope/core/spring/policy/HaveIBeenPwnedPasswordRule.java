@@ -19,10 +19,12 @@
 package org.apache.syncope.core.spring.policy;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.policy.HaveIBeenPwnedPasswordRuleConf;
 import org.apache.syncope.common.lib.policy.PasswordRuleConf;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
@@ -31,6 +33,7 @@ import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.rules.PasswordRule;
 import org.apache.syncope.core.provisioning.api.rules.PasswordRuleConfClass;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,9 +50,16 @@ public class HaveIBeenPwnedPasswordRule implements PasswordRule {
 
     private static final Logger LOG = LoggerFactory.getLogger(HaveIBeenPwnedPasswordRule.class);
 
+    public static final String CORPUS_CONF_PARAM = "password.pwned.corpus";
+
+    private static final RestTemplate REST_TEMPLATE = new RestTemplate();
+
     @Autowired
     private EncryptorManager encryptorManager;
 
+    @Autowired
+    private ConfParamOps confParamOps;
+
     private HaveIBeenPwnedPasswordRuleConf conf;
 
     @Override
@@ -67,13 +77,23 @@ public class HaveIBeenPwnedPasswordRule implements PasswordRule {
         }
     }
 
-    protected void enforce(final String clearPassword) {
-        try {
-            String sha1 = encryptorManager.getInstance().encode(clearPassword, CipherAlgorithm.SHA1);
+    protected void enforceOffline(final String sha1) {
+        String corpus = confParamOps.get(AuthContextUtils.getDomain(), CORPUS_CONF_PARAM, null, String.class);
+        if (StringUtils.isBlank(corpus)) {
+            LOG.error("No breached password corpus configured via {}", CORPUS_CONF_PARAM);
+            return;
+        }
+
+        if (PwnedPasswordCorpus.of(Path.of(corpus)).map(c -> c.contains(sha1)).orElse(false)) {
+            throw new PasswordPolicyException("Password pwned");
+        }
+    }
 
+    protected void enforceOnline(final String sha1) {
+        try {
             HttpHeaders headers = new HttpHeaders();
             headers.set(HttpHeaders.USER_AGENT, "Apache Syncope");
-            ResponseEntity<String> response = new RestTemplate().exchange(
+            ResponseEntity<String> response = REST_TEMPLATE.exchange(
                     URI.create("https://api.pwnedpasswords.com/range/" + sha1.substring(0, 5)),
                     HttpMethod.GET,
                     new HttpEntity<>(null, headers),
@@ -85,13 +105,27 @@ public class HaveIBeenPwnedPasswordRule implements PasswordRule {
                     throw new PasswordPolicyException("Password pwned");
                 }
             }
-        } catch (GeneralSecurityException e) {
-            LOG.error("Could not encode the password value as SHA1", e);
         } catch (HttpStatusCodeException e) {
             LOG.error("Error while contacting the PwnedPasswords service", e);
         }
     }
 
+    protected void enforce(final String clearPassword) {
+        String sha1;
+        try {
+            sha1 = encryptorManager.getInstance().encode(clearPassword, CipherAlgorithm.SHA1);
+        } catch (GeneralSecurityException e) {
+            LOG.error("Could not encode the password value as SHA1", e);
+            return;
+        }
+
+        if (conf.isOffline()) {
+            enforceOffline(sha1);
+        } else {
+            enforceOnline(sha1);
+        }
+    }
+
     @Override
     public void enforce(final String username, final String clearPassword) {
         Optional.ofNullable(clearPassword).ifPresent(this::enforce);
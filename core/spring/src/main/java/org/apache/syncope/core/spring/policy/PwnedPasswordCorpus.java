@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.policy;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local copy of the breached password corpus published by "Have I Been Pwned?", for offline checks.
+ *
+ * The corpus is stored as a binary file made of the sorted SHA-1 digests of breached passwords, 20 bytes each, which
+ * is memory-mapped and searched via binary search, narrowed by an in-memory index over the first two bytes of each
+ * digest; lookups are lock-free and can be safely performed by concurrent threads.
+ */
+public final class PwnedPasswordCorpus {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PwnedPasswordCorpus.class);
+
+    public static final int RECORD_LENGTH = 20;
+
+    private static final int PREFIXES = 1 << 16;
+
+    private static final int RECORDS_PER_SEGMENT = Integer.MAX_VALUE / RECORD_LENGTH;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final Map<Path, PwnedPasswordCorpus> CORPORA = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the corpus stored at the given path, (re)loading it if not loaded yet or changed meanwhile.
+     *
+     * @param path corpus path
+     * @return corpus stored at the given path, if available
+     */
+    public static Optional<PwnedPasswordCorpus> of(final Path path) {
+        FileTime lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            LOG.error("Could not access breached password corpus {}", path, e);
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(CORPORA.compute(path, (p, loaded) -> {
+                if (loaded != null && loaded.lastModified.equals(lastModified)) {
+                    return loaded;
+                }
+
+                try {
+                    return new PwnedPasswordCorpus(p, lastModified);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        } catch (IllegalStateException e) {
+            LOG.error("Could not load breached password corpus {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Imports the given dump, as downloaded from "Have I Been Pwned?" in SHA-1 format, into a corpus file.
+     * Each line of the dump is expected as {@code <40 hex characters>:<count>}, sorted by hash; the target file is
+     * replaced only after successful completion.
+     *
+     * @param dump text dump
+     * @param target corpus path
+     * @return number of imported digests
+     * @throws IOException if the dump cannot be read or the corpus cannot be written
+     */
+    public static long importFrom(final BufferedReader dump, final Path target) throws IOException {
+        Path dir = Optional.ofNullable(target.toAbsolutePath().getParent()).orElseGet(() -> Path.of("."));
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+
+        long count = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+            byte[] previous = null;
+            String line;
+            while ((line = dump.readLine()) != null) {
+                String hash = StringUtils.substringBefore(line, ':').trim();
+                if (hash.isEmpty()) {
+                    continue;
+                }
+                if (hash.length() != RECORD_LENGTH * 2) {
+                    throw new IOException("Invalid SHA-1 digest at line " + (count + 1) + ": " + hash);
+                }
+
+                byte[] digest = HEX.parseHex(hash);
+                if (previous != null) {
+                    int cmp = Arrays.compareUnsigned(previous, digest);
+                    if (cmp == 0) {
+                        continue;
+                    }
+                    if (cmp > 0) {
+                        throw new IOException("Dump is not sorted by hash at line " + (count + 1) + ": " + hash);
+                    }
+                }
+
+                out.write(digest);
+                previous = digest;
+                count++;
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOG.info("Imported {} breached password digests into {}", count, target);
+
+        return count;
+    }
+
+    private final FileTime lastModified;
+
+    private final MappedByteBuffer[] segments;
+
+    private final long size;
+
+    /**
+     * For each value of the first two bytes, position of the first digest starting with such value or greater.
+     */
+    private final long[] index = new long[PREFIXES + 1];
+
+    private PwnedPasswordCorpus(final Path path, final FileTime lastModified) throws IOException {
+        this.lastModified = lastModified;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length % RECORD_LENGTH != 0) {
+                throw new IOException("Invalid breached password corpus length: " + length);
+            }
+            size = length / RECORD_LENGTH;
+
+            segments = new MappedByteBuffer[(int) ((size + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i * RECORDS_PER_SEGMENT * RECORD_LENGTH;
+                segments[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY, position, Math.min(length - position,
+                        (long) RECORDS_PER_SEGMENT * RECORD_LENGTH));
+            }
+        }
+
+        byte[] record = new byte[RECORD_LENGTH];
+        for (int prefix = 0; prefix < PREFIXES; prefix++) {
+            long low = prefix == 0 ? 0 : index[prefix - 1];
+            long high = size;
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                read(mid, record);
+                if ((((record[0] & 0xFF) << 8) | (record[1] & 0xFF)) < prefix) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            index[prefix] = low;
+        }
+        index[PREFIXES] = size;
+
+        LOG.debug("Loaded {} breached password digests from {}", size, path);
+    }
+
+    private void read(final long position, final byte[] record) {
+        segments[(int) (position / RECORDS_PER_SEGMENT)].
+                get((int) (position % RECORDS_PER_SEGMENT) * RECORD_LENGTH, record);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @param digest SHA-1 digest
+     * @return whether the given digest is found in this corpus
+     */
+    public boolean contains(final byte[] digest) {
+        if (digest.length != RECORD_LENGTH) {
+            return false;
+        }
+
+        int prefix = ((digest[0] & 0xFF) << 8) | (digest[1] & 0xFF);
+        long low = index[prefix];
+        long high = index[prefix + 1] - 1;
+
+        byte[] record = new byte[RECORD_LENGTH];
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            read(mid, record);
+
+            int cmp = Arrays.compareUnsigned(record, digest);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @param sha1 SHA-1 digest, as hex string
+     * @return whether the given digest is found in this corpus
+     */
+    public boolean contains(final String sha1) {
+        return sha1.length() == RECORD_LENGTH * 2 && contains(HEX.parseHex(sha1));
+    }
+}
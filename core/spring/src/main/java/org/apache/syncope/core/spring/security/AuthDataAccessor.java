@@ -26,6 +26,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.security.auth.login.AccountNotFoundException;
 import org.apache.commons.lang3.ArrayUtils;
@@ -51,13 +55,17 @@ import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +75,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.session.SessionAuthenticationException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Domain-sensible (via {@code @Transactional}) access to authentication / authorization data.
@@ -85,6 +94,17 @@ public class AuthDataAccessor {
 
     }
 
+    /**
+     * Authorities computed for a given user or delegation, along with the keys of all entities (users, groups,
+     * roles, delegations, dynamic realms) they were built from.
+     */
+    protected record CachedAuthorities(
+            Set<SyncopeGrantedAuthority> authorities,
+            Set<String> dependencies,
+            long cachedAt) {
+
+    }
+
     protected static final Logger LOG = LoggerFactory.getLogger(AuthDataAccessor.class);
 
     protected static final Set<SyncopeGrantedAuthority> ANONYMOUS_AUTHORITIES =
@@ -123,6 +143,16 @@ public class AuthDataAccessor {
 
     private final List<JWTSSOProvider> jwtSSOProviders;
 
+    /**
+     * Authorities cache: domain -> user or delegation key -> authorities.
+     */
+    protected final Map<String, Map<String, CachedAuthorities>> authoritiesCache = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented for each domain at every invalidation, to avoid caching authorities computed concurrently.
+     */
+    protected final Map<String, AtomicLong> authoritiesCacheGenerations = new ConcurrentHashMap<>();
+
     public AuthDataAccessor(
             final SecurityProperties securityProperties,
             final EncryptorManager encryptorManager,
@@ -345,6 +375,12 @@ public class AuthDataAccessor {
     }
 
     protected Set<SyncopeGrantedAuthority> getUserAuthorities(final User user) {
+        return getUserAuthorities(user, new HashSet<>());
+    }
+
+    protected Set<SyncopeGrantedAuthority> getUserAuthorities(final User user, final Set<String> dependencies) {
+        dependencies.add(user.getKey());
+
         if (user.isMustChangePassword()) {
             return MUST_CHANGE_PASSWORD_AUTHORITIES;
         }
@@ -353,9 +389,11 @@ public class AuthDataAccessor {
 
         // Give entitlements as assigned by roles (with static or dynamic realms, where applicable) - assigned
         // either statically and dynamically
-        userDAO.findAllRoles(user).stream().
+        List<? extends Role> roles = userDAO.findAllRoles(user).stream().
                 filter(role -> !RoleDAO.GROUP_OWNER_ROLE.equals(role.getKey())).
-                forEach(role -> role.getEntitlements().forEach(entitlement -> {
+                toList();
+        roles.forEach(role -> addDependencies(role, dependencies));
+        roles.forEach(role -> role.getEntitlements().forEach(entitlement -> {
             Set<String> realms = Optional.ofNullable(entForRealms.get(entitlement)).orElseGet(() -> {
                 Set<String> r = new HashSet<>();
                 entForRealms.put(entitlement, r);
@@ -369,8 +407,12 @@ public class AuthDataAccessor {
         }));
 
         // Give group entitlements for owned groups
-        groupDAO.findOwnedByUser(user.getKey()).
-                forEach(g -> roleDAO.findById(RoleDAO.GROUP_OWNER_ROLE).ifPresentOrElse(
+        List<Group> ownedGroups = groupDAO.findOwnedByUser(user.getKey());
+        if (!ownedGroups.isEmpty()) {
+            dependencies.add(RoleDAO.GROUP_OWNER_ROLE);
+            ownedGroups.forEach(g -> dependencies.add(g.getKey()));
+        }
+        ownedGroups.forEach(g -> roleDAO.findById(RoleDAO.GROUP_OWNER_ROLE).ifPresentOrElse(
                 groupOwnerRole -> groupOwnerRole.getEntitlements().forEach(entitlement -> {
                     Set<String> realms = Optional.ofNullable(entForRealms.get(entitlement)).orElseGet(() -> {
                         HashSet<String> r = new HashSet<>();
@@ -386,10 +428,22 @@ public class AuthDataAccessor {
     }
 
     protected Set<SyncopeGrantedAuthority> getDelegatedAuthorities(final Delegation delegation) {
+        return getDelegatedAuthorities(delegation, new HashSet<>());
+    }
+
+    protected Set<SyncopeGrantedAuthority> getDelegatedAuthorities(
+            final Delegation delegation,
+            final Set<String> dependencies) {
+
+        dependencies.add(delegation.getKey());
+
         Map<String, Set<String>> entForRealms = new HashMap<>();
 
-        delegation.getRoles().stream().filter(role -> !RoleDAO.GROUP_OWNER_ROLE.equals(role.getKey())).
-                forEach(role -> role.getEntitlements().forEach(entitlement -> {
+        List<? extends Role> roles = delegation.getRoles().stream().
+                filter(role -> !RoleDAO.GROUP_OWNER_ROLE.equals(role.getKey())).
+                toList();
+        roles.forEach(role -> addDependencies(role, dependencies));
+        roles.forEach(role -> role.getEntitlements().forEach(entitlement -> {
             Set<String> realms = Optional.ofNullable(entForRealms.get(entitlement)).orElseGet(() -> {
                 HashSet<String> r = new HashSet<>();
                 entForRealms.put(entitlement, r);
@@ -405,6 +459,106 @@ public class AuthDataAccessor {
         return buildAuthorities(entForRealms);
     }
 
+    protected void addDependencies(final Role role, final Set<String> dependencies) {
+        dependencies.add(role.getKey());
+        role.getDynRealms().forEach(dynRealm -> dependencies.add(dynRealm.getKey()));
+    }
+
+    protected void authoritiesCacheHit() {
+        // nothing to do by default
+    }
+
+    protected void authoritiesCacheMiss() {
+        // nothing to do by default
+    }
+
+    /**
+     * Returns the authorities cached for the given key in the current domain, or computes and caches them.
+     *
+     * @param key user or delegation key
+     * @param loader computes authorities, populating the given set with the keys of entities involved
+     * @return authorities
+     */
+    protected Set<SyncopeGrantedAuthority> getCachedAuthorities(
+            final String key,
+            final Function<Set<String>, Set<SyncopeGrantedAuthority>> loader) {
+
+        if (securityProperties.getAuthoritiesCacheSize() <= 0) {
+            return loader.apply(new HashSet<>());
+        }
+
+        String domain = AuthContextUtils.getDomain();
+        Map<String, CachedAuthorities> cache = authoritiesCache.computeIfAbsent(
+                domain, k -> new ConcurrentHashMap<>());
+
+        CachedAuthorities cached = cache.get(key);
+        if (cached != null && System.currentTimeMillis() - cached.cachedAt()
+                <= TimeUnit.SECONDS.toMillis(securityProperties.getAuthoritiesCacheTtl())) {
+
+            authoritiesCacheHit();
+            return cached.authorities();
+        }
+
+        authoritiesCacheMiss();
+
+        AtomicLong generation = authoritiesCacheGenerations.computeIfAbsent(domain, k -> new AtomicLong());
+        long before = generation.get();
+
+        Set<String> dependencies = new HashSet<>();
+        Set<SyncopeGrantedAuthority> authorities = Set.copyOf(loader.apply(dependencies));
+
+        if (generation.get() == before) {
+            if (cache.size() >= securityProperties.getAuthoritiesCacheSize()) {
+                LOG.debug("Authorities cache for domain {} is full, clearing", domain);
+                cache.clear();
+            }
+            cache.put(key, new CachedAuthorities(
+                    authorities, Set.copyOf(dependencies), System.currentTimeMillis()));
+        }
+
+        return authorities;
+    }
+
+    protected void evictAuthorities(final String domain, final Set<String> keys) {
+        Optional.ofNullable(authoritiesCacheGenerations.get(domain)).ifPresent(AtomicLong::incrementAndGet);
+        Optional.ofNullable(authoritiesCache.get(domain)).ifPresent(cache -> cache.values().
+                removeIf(cached -> cached.dependencies().stream().anyMatch(keys::contains)));
+    }
+
+    protected void evictAuthorities(final String domain) {
+        Optional.ofNullable(authoritiesCacheGenerations.get(domain)).ifPresent(AtomicLong::incrementAndGet);
+        Optional.ofNullable(authoritiesCache.get(domain)).ifPresent(Map::clear);
+    }
+
+    /**
+     * Evicts cached authorities affected by changes to users, groups, roles, delegations, dynamic realms or realms.
+     *
+     * @param event entity lifecycle event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof Realm) {
+            // realm full paths might have changed
+            evictAuthorities(event.getDomain());
+        } else if (event.getEntity() instanceof final Group group) {
+            if (group.getGroupOwner() == null) {
+                Set<String> keys = new HashSet<>();
+                keys.add(group.getKey());
+                Optional.ofNullable(group.getUserOwner()).ifPresent(owner -> keys.add(owner.getKey()));
+                evictAuthorities(event.getDomain(), keys);
+            } else {
+                // all members of the owner group are now owners as well
+                evictAuthorities(event.getDomain());
+            }
+        } else if (event.getEntity() instanceof User
+                || event.getEntity() instanceof Role
+                || event.getEntity() instanceof Delegation
+                || event.getEntity() instanceof DynRealm) {
+
+            evictAuthorities(event.getDomain(), Set.of(event.getEntity().getKey()));
+        }
+    }
+
     @Transactional
     public Set<SyncopeGrantedAuthority> getAuthorities(final String username, final String delegationKey) {
         Set<SyncopeGrantedAuthority> authorities;
@@ -414,19 +568,26 @@ public class AuthDataAccessor {
         } else if (securityProperties.getAdminUser().equals(username)) {
             authorities = getAdminAuthorities();
         } else if (delegationKey != null) {
-            Delegation delegation = delegationDAO.findById(delegationKey).
-                    orElseThrow(() -> new UsernameNotFoundException(
-                    "Could not find delegation " + delegationKey));
-
-            authorities = delegation.getRoles().isEmpty()
-                    ? getUserAuthorities(delegation.getDelegating())
-                    : getDelegatedAuthorities(delegation);
+            authorities = getCachedAuthorities(delegationKey, dependencies -> {
+                Delegation delegation = delegationDAO.findById(delegationKey).
+                        orElseThrow(() -> new UsernameNotFoundException(
+                        "Could not find delegation " + delegationKey));
+
+                if (delegation.getRoles().isEmpty()) {
+                    dependencies.add(delegation.getKey());
+                    return getUserAuthorities(delegation.getDelegating(), dependencies);
+                }
+                return getDelegatedAuthorities(delegation, dependencies);
+            });
         } else {
-            User user = userDAO.findByUsername(username).
+            String userKey = userDAO.findKey(username).
                     orElseThrow(() -> new UsernameNotFoundException(
                     "Could not find any user with username " + username));
 
-            authorities = getUserAuthorities(user);
+            authorities = getCachedAuthorities(userKey, dependencies -> getUserAuthorities(
+                    userDAO.findById(userKey).orElseThrow(() -> new UsernameNotFoundException(
+                    "Could not find any user with username " + username)),
+                    dependencies));
         }
 
         return authorities;
@@ -102,6 +102,19 @@ public class SecurityProperties {
 
     private String groovyBlacklist = "classpath:META-INF/groovy.blacklist";
 
+    /**
+     * Maximum number of authority sets cached per domain; 0 (default) disables caching.
+     * Cached authorities are evicted upon changes performed on the local node only: when running more than one Core
+     * node, changes performed elsewhere are only seen once cached entries expire, after
+     * {@link #authoritiesCacheTtl} seconds.
+     */
+    private int authoritiesCacheSize;
+
+    /**
+     * How long (in seconds) cached authority sets are kept, when caching is enabled.
+     */
+    private long authoritiesCacheTtl = 30;
+
     private final DigesterProperties digester = new DigesterProperties();
 
     public String getAdminUser() {
@@ -184,6 +197,22 @@ public class SecurityProperties {
         this.groovyBlacklist = groovyBlacklist;
     }
 
+    public int getAuthoritiesCacheSize() {
+        return authoritiesCacheSize;
+    }
+
+    public void setAuthoritiesCacheSize(final int authoritiesCacheSize) {
+        this.authoritiesCacheSize = authoritiesCacheSize;
+    }
+
+    public long getAuthoritiesCacheTtl() {
+        return authoritiesCacheTtl;
+    }
+
+    public void setAuthoritiesCacheTtl(final long authoritiesCacheTtl) {
+        this.authoritiesCacheTtl = authoritiesCacheTtl;
+    }
+
     public DigesterProperties getDigester() {
         return digester;
     }
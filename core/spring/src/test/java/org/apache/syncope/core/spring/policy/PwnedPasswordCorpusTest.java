@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PwnedPasswordCorpusTest {
+
+    private static String sha1(final String value) throws NoSuchAlgorithmException {
+        return HexFormat.of().withUpperCase().formatHex(
+                MessageDigest.getInstance("SHA-1").digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void importAndLookup() throws Exception {
+        List<String> pwned = IntStream.range(0, 1000).mapToObj(i -> "password" + i).toList();
+        String dump = pwned.stream().map(password -> {
+            try {
+                return sha1(password);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }).sorted().map(hash -> hash + ":" + 1).collect(Collectors.joining("\r\n"));
+
+        Path target = tempDir.resolve("pwned.bin");
+        assertEquals(1000, PwnedPasswordCorpus.importFrom(new BufferedReader(new StringReader(dump)), target));
+        assertEquals(1000 * PwnedPasswordCorpus.RECORD_LENGTH, Files.size(target));
+
+        PwnedPasswordCorpus corpus = PwnedPasswordCorpus.of(target).orElseThrow();
+        assertEquals(1000, corpus.size());
+        for (String password : pwned) {
+            assertTrue(corpus.contains(sha1(password)));
+        }
+        assertFalse(corpus.contains(sha1("Passw0rd!not-pwned")));
+        assertFalse(corpus.contains("0000000000000000000000000000000000000000"));
+        assertFalse(corpus.contains("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF"));
+    }
+
+    @Test
+    public void unsorted() {
+        String dump = "FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF:1\n0000000000000000000000000000000000000000:1";
+
+        Path target = tempDir.resolve("unsorted.bin");
+        assertThrows(IOException.class, () -> PwnedPasswordCorpus.importFrom(
+                new BufferedReader(new StringReader(dump)), target));
+        assertFalse(Files.exists(target));
+    }
+}
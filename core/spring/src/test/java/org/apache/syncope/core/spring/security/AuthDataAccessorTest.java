@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AuthDataAccessorTest {
+
+    private static final String USER_KEY = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    private static final String USERNAME = "rossini";
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private GroupDAO groupDAO;
+
+    @Mock
+    private User user;
+
+    @Mock
+    private Role role;
+
+    @Mock
+    private Realm realm;
+
+    private SecurityProperties securityProperties;
+
+    private AuthDataAccessor authDataAccessor;
+
+    @BeforeEach
+    void setUp() {
+        securityProperties = new SecurityProperties();
+        securityProperties.setAdminUser("admin");
+        securityProperties.setAnonymousUser("anonymous");
+        securityProperties.setAuthoritiesCacheSize(100);
+
+        authDataAccessor = new AuthDataAccessor(
+                securityProperties, null, null, userDAO, groupDAO, null, null, null, null, null, null, null, null,
+                null, List.of());
+
+        when(realm.getFullPath()).thenReturn(SyncopeConstants.ROOT_REALM);
+        when(role.getKey()).thenReturn("User reviewer");
+        when(role.getEntitlements()).thenReturn(Set.of("USER_READ"));
+        when(role.getRealms()).thenAnswer(ic -> List.of(realm));
+        when(role.getDynRealms()).thenReturn(List.of());
+
+        when(user.getKey()).thenReturn(USER_KEY);
+        when(userDAO.findKey(USERNAME)).thenReturn(Optional.of(USER_KEY));
+        when(userDAO.findById(USER_KEY)).thenAnswer(ic -> Optional.of(user));
+        when(userDAO.findAllRoles(user)).thenReturn(List.of(role));
+        when(groupDAO.findOwnedByUser(USER_KEY)).thenReturn(List.of());
+    }
+
+    @Test
+    void cachedAuthorities() {
+        Set<SyncopeGrantedAuthority> authorities = authDataAccessor.getAuthorities(USERNAME, null);
+        assertEquals(1, authorities.size());
+        assertEquals(authorities, authDataAccessor.getAuthorities(USERNAME, null));
+        verify(userDAO, times(1)).findAllRoles(user);
+
+        // changes to unrelated entities do not affect cached authorities
+        User other = mock(User.class);
+        when(other.getKey()).thenReturn("c9b2dec2-00a7-4855-97c0-d854842b4b24");
+        authDataAccessor.entity(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, other, SyncopeConstants.MASTER_DOMAIN));
+        authDataAccessor.getAuthorities(USERNAME, null);
+        verify(userDAO, times(1)).findAllRoles(user);
+
+        // changes to the assigned role do
+        authDataAccessor.entity(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, role, SyncopeConstants.MASTER_DOMAIN));
+        authDataAccessor.getAuthorities(USERNAME, null);
+        verify(userDAO, times(2)).findAllRoles(user);
+
+        // and so do changes to the user
+        authDataAccessor.entity(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, user, SyncopeConstants.MASTER_DOMAIN));
+        authDataAccessor.getAuthorities(USERNAME, null);
+        verify(userDAO, times(3)).findAllRoles(user);
+    }
+
+    @Test
+    void expiredAuthorities() throws InterruptedException {
+        securityProperties.setAuthoritiesCacheTtl(0);
+
+        authDataAccessor.getAuthorities(USERNAME, null);
+        Thread.sleep(10);
+        authDataAccessor.getAuthorities(USERNAME, null);
+        verify(userDAO, times(2)).findAllRoles(user);
+    }
+
+    @Test
+    void uncachedAuthorities() {
+        securityProperties.setAuthoritiesCacheSize(new SecurityProperties().getAuthoritiesCacheSize());
+
+        authDataAccessor.getAuthorities(USERNAME, null);
+        authDataAccessor.getAuthorities(USERNAME, null);
+        verify(userDAO, times(2)).findAllRoles(user);
+    }
+}
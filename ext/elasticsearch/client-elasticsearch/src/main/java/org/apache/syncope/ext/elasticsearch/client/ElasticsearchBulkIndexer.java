@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.elasticsearch.client;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Collects index and delete operations and sends them to Elasticsearch via {@code _bulk} requests, either when
+ * the configured number of operations is reached or when the flush interval expires.
+ * Pending operations for the same document are coalesced, so that only the latest one is sent; when the queue is
+ * full, callers are blocked until the next flush.
+ */
+public class ElasticsearchBulkIndexer implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ElasticsearchBulkIndexer.class);
+
+    protected record PendingOperation(BulkOperation operation, int attempts) {
+
+    }
+
+    protected final ElasticsearchClient client;
+
+    protected final ElasticsearchProperties.BulkProperties props;
+
+    protected final Map<String, PendingOperation> pending = new LinkedHashMap<>();
+
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    protected final Condition notFull = lock.newCondition();
+
+    protected final ReentrantLock flushLock = new ReentrantLock();
+
+    protected final ScheduledExecutorService scheduler;
+
+    protected final LongAdder sent = new LongAdder();
+
+    protected final LongAdder coalesced = new LongAdder();
+
+    protected final LongAdder retried = new LongAdder();
+
+    protected final LongAdder failed = new LongAdder();
+
+    protected final AtomicLong lastFlushLatency = new AtomicLong();
+
+    public ElasticsearchBulkIndexer(
+            final ElasticsearchClient client,
+            final ElasticsearchProperties.BulkProperties props) {
+
+        this.client = client;
+        this.props = props;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ElasticsearchBulkIndexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::flush, props.getFlushInterval(), props.getFlushInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Enqueues the given operation, replacing any pending operation for the same document.
+     * Once this indexer is destroyed, the operation is sent right away by the calling thread.
+     *
+     * @param index index name
+     * @param id document id, or {@code null} if the document is not expected to be updated afterwards
+     * @param operation bulk operation
+     */
+    public void add(final String index, final String id, final BulkOperation operation) {
+        String key = index + '/' + (id == null ? UUID.randomUUID().toString() : id);
+
+        boolean full;
+        lock.lock();
+        try {
+            while (pending.size() >= props.getQueueCapacity() && !pending.containsKey(key)) {
+                if (scheduleFlush()) {
+                    notFull.await();
+                } else {
+                    lock.unlock();
+                    try {
+                        flush();
+                    } finally {
+                        lock.lock();
+                    }
+                }
+            }
+
+            if (pending.remove(key) != null) {
+                coalesced.increment();
+            }
+            pending.put(key, new PendingOperation(operation, 0));
+
+            full = pending.size() >= props.getMaxActions();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to enqueue operation for " + key, e);
+        } finally {
+            lock.unlock();
+        }
+
+        if ((full || scheduler.isShutdown()) && !scheduleFlush()) {
+            flush();
+        }
+    }
+
+    /**
+     * Asks the scheduler thread to flush pending operations.
+     *
+     * @return whether the flush was scheduled, {@code false} if this indexer was destroyed
+     */
+    protected boolean scheduleFlush() {
+        if (scheduler.isShutdown()) {
+            return false;
+        }
+        try {
+            scheduler.execute(this::flush);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Only throttling (429) and server-side (5xx) errors are worth retrying: any other error, as mapping or parsing
+     * errors, will fail again in the same way.
+     *
+     * @param status HTTP status reported for the failed operation or bulk request
+     * @return whether the failed operation shall be retried
+     */
+    protected static boolean isRetriable(final int status) {
+        return status == 429 || status >= 500;
+    }
+
+    protected void requeue(final String key, final PendingOperation failedOperation) {
+        if (failedOperation.attempts() < props.getMaxRetries()) {
+            lock.lock();
+            try {
+                // a newer operation for the same document has been enqueued meanwhile: keep that one
+                if (pending.putIfAbsent(
+                        key,
+                        new PendingOperation(failedOperation.operation(), failedOperation.attempts() + 1)) == null) {
+
+                    retried.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            LOG.error("Giving up on {} after {} attempts", key, failedOperation.attempts() + 1);
+            failed.increment();
+        }
+    }
+
+    /**
+     * Sends all pending operations to Elasticsearch, via {@code _bulk} requests of at most {@code maxActions}
+     * operations each.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<String, PendingOperation>> batch;
+            lock.lock();
+            try {
+                batch = new ArrayList<>(pending.entrySet());
+                pending.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            int maxActions = Math.max(1, props.getMaxActions());
+            for (int from = 0; from < batch.size(); from += maxActions) {
+                send(batch.subList(from, Math.min(from + maxActions, batch.size())));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    protected void send(final List<Map.Entry<String, PendingOperation>> slice) {
+        long start = System.nanoTime();
+        try {
+            BulkResponse response = client.bulk(new BulkRequest.Builder().
+                    operations(slice.stream().map(entry -> entry.getValue().operation()).toList()).
+                    build());
+
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < items.size(); i++) {
+                BulkResponseItem item = items.get(i);
+                if (item.error() == null) {
+                    sent.increment();
+                } else if (isRetriable(item.status())) {
+                    LOG.warn("Could not process {}: {}", slice.get(i).getKey(), item.error().reason());
+                    requeue(slice.get(i).getKey(), slice.get(i).getValue());
+                } else {
+                    LOG.error("Discarding {}: {}", slice.get(i).getKey(), item.error().reason());
+                    failed.increment();
+                }
+            }
+        } catch (ElasticsearchException e) {
+            if (isRetriable(e.status())) {
+                LOG.error("While sending bulk request with {} operations", slice.size(), e);
+                slice.forEach(entry -> requeue(entry.getKey(), entry.getValue()));
+            } else {
+                LOG.error("Discarding bulk request with {} operations", slice.size(), e);
+                failed.add(slice.size());
+            }
+        } catch (Exception e) {
+            LOG.error("While sending bulk request with {} operations", slice.size(), e);
+            slice.forEach(entry -> requeue(entry.getKey(), entry.getValue()));
+        }
+        lastFlushLatency.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public long getRetried() {
+        return retried.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return duration of the last bulk request, in milliseconds
+     */
+    public long getLastFlushLatency() {
+        return lastFlushLatency.get();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+
+        // give retriable failures the chance to be sent before shutting down
+        for (int i = 0; i <= props.getMaxRetries() && getQueueDepth() > 0; i++) {
+            flush();
+        }
+    }
+}
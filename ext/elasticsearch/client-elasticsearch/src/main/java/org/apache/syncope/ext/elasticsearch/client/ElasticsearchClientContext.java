@@ -19,8 +19,13 @@
 package org.apache.syncope.ext.elasticsearch.client;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.net.URISyntaxException;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -28,8 +33,10 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.identityconnectors.common.CollectionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthContributor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,18 +72,60 @@ public class ElasticsearchClientContext {
         return new ElasticsearchUtils(userDAO, groupDAO, anyObjectDAO);
     }
 
+    @ConditionalOnProperty(prefix = "elasticsearch.bulk", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    @Bean
+    public ElasticsearchBulkIndexer elasticsearchBulkIndexer(
+            final ElasticsearchProperties props,
+            final ElasticsearchClient client) {
+
+        return new ElasticsearchBulkIndexer(client, props.getBulk());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public ElasticsearchIndexManager elasticsearchIndexManager(
             final ElasticsearchProperties props,
             final ElasticsearchClient client,
-            final ElasticsearchUtils elasticsearchUtils) {
+            final ElasticsearchUtils elasticsearchUtils,
+            final ObjectProvider<ElasticsearchBulkIndexer> bulkIndexer) {
 
         return new ElasticsearchIndexManager(
                 client,
                 elasticsearchUtils,
                 props.getNumberOfShards(),
-                props.getNumberOfReplicas());
+                props.getNumberOfReplicas(),
+                bulkIndexer.getIfAvailable());
+    }
+
+    @ConditionalOnProperty(prefix = "elasticsearch.bulk", name = "enabled", havingValue = "true")
+    @Bean
+    public MeterBinder elasticsearchBulkIndexerMeterBinder(final ElasticsearchBulkIndexer bulkIndexer) {
+        return registry -> {
+            Gauge.builder("syncope.elasticsearch.bulk.queue", bulkIndexer, ElasticsearchBulkIndexer::getQueueDepth).
+                    description("The number of operations waiting to be sent to Elasticsearch").
+                    register(registry);
+            TimeGauge.builder("syncope.elasticsearch.bulk.latency", bulkIndexer, TimeUnit.MILLISECONDS,
+                    ElasticsearchBulkIndexer::getLastFlushLatency).
+                    description("The duration of the last bulk request sent to Elasticsearch").
+                    register(registry);
+            FunctionCounter.builder("syncope.elasticsearch.bulk.sent", bulkIndexer,
+                    ElasticsearchBulkIndexer::getSent).
+                    description("The total number of operations successfully sent to Elasticsearch").
+                    register(registry);
+            FunctionCounter.builder("syncope.elasticsearch.bulk.coalesced", bulkIndexer,
+                    ElasticsearchBulkIndexer::getCoalesced).
+                    description("The total number of operations superseded by newer ones before being sent").
+                    register(registry);
+            FunctionCounter.builder("syncope.elasticsearch.bulk.retried", bulkIndexer,
+                    ElasticsearchBulkIndexer::getRetried).
+                    description("The total number of operations retried after failure").
+                    register(registry);
+            FunctionCounter.builder("syncope.elasticsearch.bulk.failed", bulkIndexer,
+                    ElasticsearchBulkIndexer::getFailed).
+                    description("The total number of operations discarded after exhausting retries").
+                    register(registry);
+        };
     }
 
     @ConditionalOnMissingBean
@@ -30,6 +30,7 @@ import co.elastic.clients.elasticsearch.core.DeleteRequest;
 import co.elastic.clients.elasticsearch.core.DeleteResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.CreateIndexResponse;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
@@ -67,16 +68,36 @@ public class ElasticsearchIndexManager {
 
     protected final String numberOfReplicas;
 
+    protected final ElasticsearchBulkIndexer bulkIndexer;
+
     public ElasticsearchIndexManager(
             final ElasticsearchClient client,
             final ElasticsearchUtils elasticsearchUtils,
             final String numberOfShards,
             final String numberOfReplicas) {
 
+        this(client, elasticsearchUtils, numberOfShards, numberOfReplicas, null);
+    }
+
+    /**
+     * @param client Elasticsearch client
+     * @param elasticsearchUtils utility methods
+     * @param numberOfShards number of shards for new indexes
+     * @param numberOfReplicas number of replicas for new indexes
+     * @param bulkIndexer if not {@code null}, any and audit changes are sent through bulk requests
+     */
+    public ElasticsearchIndexManager(
+            final ElasticsearchClient client,
+            final ElasticsearchUtils elasticsearchUtils,
+            final String numberOfShards,
+            final String numberOfReplicas,
+            final ElasticsearchBulkIndexer bulkIndexer) {
+
         this.client = client;
         this.elasticsearchUtils = elasticsearchUtils;
         this.numberOfShards = numberOfShards;
         this.numberOfReplicas = numberOfReplicas;
+        this.bulkIndexer = bulkIndexer;
     }
 
     public boolean existsAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
@@ -287,7 +308,20 @@ public class ElasticsearchIndexManager {
     public void entity(final EntityLifecycleEvent<Entity> event) throws IOException {
         LOG.debug("About to {} index for {}", event.getType().name(), event.getEntity());
 
-        if (event.getEntity() instanceof final Any any) {
+        if (event.getEntity() instanceof final Any any && bulkIndexer != null) {
+            String index = ElasticsearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind());
+            if (event.getType() == SyncDeltaType.DELETE) {
+                bulkIndexer.add(index, any.getKey(), new BulkOperation.Builder().
+                        delete(op -> op.index(index).id(any.getKey())).
+                        build());
+            } else {
+                Map<String, Object> document = elasticsearchUtils.document(any);
+                bulkIndexer.add(index, any.getKey(), new BulkOperation.Builder().
+                        index(op -> op.index(index).id(any.getKey()).document(document)).
+                        build());
+            }
+            LOG.debug("Index {} enqueued for {}", event.getType().name(), any);
+        } else if (event.getEntity() instanceof final Any any) {
             if (event.getType() == SyncDeltaType.DELETE) {
                 DeleteRequest request = new DeleteRequest.Builder().index(
                         ElasticsearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
@@ -330,6 +364,16 @@ public class ElasticsearchIndexManager {
     public void audit(final String domain, final AuditEvent auditEvent) throws IOException {
         LOG.debug("About to audit");
 
+        if (bulkIndexer != null) {
+            String index = ElasticsearchUtils.getAuditIndex(domain);
+            Map<String, Object> document = elasticsearchUtils.document(auditEvent);
+            bulkIndexer.add(index, null, new BulkOperation.Builder().
+                    index(op -> op.index(index).document(document)).
+                    build());
+            LOG.debug("Audit enqueued");
+            return;
+        }
+
         IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
                 index(ElasticsearchUtils.getAuditIndex(domain)).
                 document(elasticsearchUtils.document(auditEvent)).
@@ -25,6 +25,76 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties("elasticsearch")
 public class ElasticsearchProperties {
 
+    public static class BulkProperties {
+
+        /**
+         * Whether entity and audit changes shall be sent via asynchronous bulk requests rather than one request
+         * per change.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of pending operations triggering a bulk request, as well as maximum number of operations sent
+         * with each bulk request.
+         */
+        private int maxActions = 1000;
+
+        /**
+         * Maximum time (in milliseconds) an operation can wait before being sent.
+         */
+        private long flushInterval = 1000;
+
+        /**
+         * Maximum number of pending operations: when reached, callers are blocked until the next flush.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Number of times a failed operation is retried before being discarded.
+         */
+        private int maxRetries = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxActions() {
+            return maxActions;
+        }
+
+        public void setMaxActions(final int maxActions) {
+            this.maxActions = maxActions;
+        }
+
+        public long getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(final long flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(final int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+    }
+
     private List<String> hosts = new ArrayList<>();
 
     private int indexMaxResultWindow = 10000;
@@ -33,6 +103,8 @@ public class ElasticsearchProperties {
 
     private String numberOfReplicas = "1";
 
+    private final BulkProperties bulk = new BulkProperties();
+
     public List<String> getHosts() {
         return hosts;
     }
@@ -64,4 +136,8 @@ public class ElasticsearchProperties {
     public void setNumberOfReplicas(final String numberOfReplicas) {
         this.numberOfReplicas = numberOfReplicas;
     }
+
+    public BulkProperties getBulk() {
+        return bulk;
+    }
 }
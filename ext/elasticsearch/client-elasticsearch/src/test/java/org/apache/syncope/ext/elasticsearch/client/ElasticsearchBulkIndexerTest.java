@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.elasticsearch.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ElasticsearchBulkIndexerTest {
+
+    private static BulkOperation index(final String id) {
+        return BulkOperation.of(op -> op.index(idx -> idx.index("test").id(id).document(Map.of("key", id))));
+    }
+
+    private static BulkOperation delete(final String id) {
+        return BulkOperation.of(op -> op.delete(del -> del.index("test").id(id)));
+    }
+
+    private static String id(final BulkOperation operation) {
+        return operation.isDelete() ? operation.delete().id() : operation.index().id();
+    }
+
+    private static BulkResponse response(final int... statuses) {
+        List<BulkResponseItem> items = new ArrayList<>();
+        for (int status : statuses) {
+            BulkResponseItem item = mock(BulkResponseItem.class);
+            if (status >= 300) {
+                when(item.status()).thenReturn(status);
+                when(item.error()).thenReturn(mock(ErrorCause.class));
+            }
+            items.add(item);
+        }
+
+        BulkResponse response = mock(BulkResponse.class);
+        when(response.items()).thenReturn(items);
+        return response;
+    }
+
+    @Mock
+    private ElasticsearchClient client;
+
+    private final List<List<BulkOperation>> requests = new ArrayList<>();
+
+    private ElasticsearchProperties.BulkProperties props;
+
+    private ElasticsearchBulkIndexer indexer;
+
+    @BeforeEach
+    public void setUp() {
+        props = new ElasticsearchProperties.BulkProperties();
+        props.setFlushInterval(TimeUnit.HOURS.toMillis(1));
+        props.setMaxActions(100);
+        props.setQueueCapacity(100);
+        props.setMaxRetries(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (indexer != null) {
+            indexer.destroy();
+        }
+    }
+
+    /**
+     * Only flushes when explicitly requested, to keep tests deterministic.
+     */
+    private void manualIndexer() {
+        indexer = new ElasticsearchBulkIndexer(client, props) {
+
+            @Override
+            protected boolean scheduleFlush() {
+                return !scheduler.isShutdown();
+            }
+        };
+    }
+
+    private void respond(final BulkResponse... responses) throws IOException {
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0, BulkRequest.class).operations());
+            return responses[Math.min(requests.size(), responses.length) - 1];
+        });
+    }
+
+    @Test
+    public void coalesce() throws IOException {
+        respond(response(200, 200));
+        manualIndexer();
+
+        indexer.add("test", "1", index("1"));
+        indexer.add("test", "2", index("2"));
+        indexer.add("test", "1", delete("1"));
+        assertEquals(2, indexer.getQueueDepth());
+        assertEquals(1, indexer.getCoalesced());
+
+        indexer.flush();
+        assertEquals(1, requests.size());
+        assertEquals(2, requests.getFirst().size());
+        BulkOperation first = requests.getFirst().stream().filter(op -> "1".equals(id(op))).findFirst().orElseThrow();
+        assertTrue(first.isDelete());
+        assertEquals(2, indexer.getSent());
+        assertEquals(0, indexer.getQueueDepth());
+    }
+
+    @Test
+    public void sliceByMaxActions() throws IOException {
+        props.setMaxActions(2);
+        respond(response(200, 200), response(200, 200), response(200));
+        manualIndexer();
+
+        for (int i = 0; i < 5; i++) {
+            indexer.add("test", String.valueOf(i), index(String.valueOf(i)));
+        }
+        indexer.flush();
+
+        assertEquals(List.of(2, 2, 1), requests.stream().map(List::size).toList());
+        assertEquals(5, indexer.getSent());
+    }
+
+    @Test
+    public void backpressure() throws InterruptedException, IOException {
+        props.setQueueCapacity(2);
+        respond(response(200, 200), response(200));
+        manualIndexer();
+
+        indexer.add("test", "1", index("1"));
+        indexer.add("test", "2", index("2"));
+
+        Thread producer = new Thread(() -> indexer.add("test", "3", index("3")));
+        producer.start();
+        producer.join(500);
+        assertTrue(producer.isAlive());
+        assertEquals(2, indexer.getQueueDepth());
+
+        // an operation for an already pending document can still be enqueued
+        indexer.add("test", "1", delete("1"));
+        assertEquals(1, indexer.getCoalesced());
+
+        indexer.flush();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertEquals(1, indexer.getQueueDepth());
+
+        indexer.flush();
+        assertEquals(List.of("3"), requests.get(1).stream().map(ElasticsearchBulkIndexerTest::id).toList());
+    }
+
+    @Test
+    public void partialItemFailure() throws IOException {
+        respond(response(201, 429, 400, 503), response(200, 200));
+        manualIndexer();
+
+        Arrays.asList("1", "2", "3", "4").forEach(id -> indexer.add("test", id, index(id)));
+        indexer.flush();
+
+        assertEquals(1, indexer.getSent());
+        assertEquals(2, indexer.getRetried());
+        assertEquals(1, indexer.getFailed());
+        assertEquals(2, indexer.getQueueDepth());
+
+        indexer.flush();
+        assertEquals(List.of("2", "4"), requests.get(1).stream().map(ElasticsearchBulkIndexerTest::id).toList());
+        assertEquals(3, indexer.getSent());
+        assertEquals(0, indexer.getQueueDepth());
+    }
+
+    @Test
+    public void newerOperationWinsOverRetry() throws IOException {
+        BulkResponse failure = response(503);
+        BulkResponse success = response(200);
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0, BulkRequest.class).operations());
+            if (requests.size() == 1) {
+                indexer.add("test", "1", delete("1"));
+                return failure;
+            }
+            return success;
+        });
+        manualIndexer();
+
+        indexer.add("test", "1", index("1"));
+        indexer.flush();
+        assertEquals(0, indexer.getRetried());
+        assertEquals(1, indexer.getQueueDepth());
+
+        indexer.flush();
+        assertTrue(requests.get(1).getFirst().isDelete());
+        assertEquals(1, indexer.getSent());
+    }
+
+    @Test
+    public void retryExhaustion() throws IOException {
+        when(client.bulk(any(BulkRequest.class))).thenThrow(new IOException("connection refused"));
+        manualIndexer();
+
+        indexer.add("test", "1", index("1"));
+        for (int i = 0; i <= props.getMaxRetries(); i++) {
+            indexer.flush();
+        }
+
+        verify(client, times(props.getMaxRetries() + 1)).bulk(any(BulkRequest.class));
+        assertEquals(props.getMaxRetries(), indexer.getRetried());
+        assertEquals(1, indexer.getFailed());
+        assertEquals(0, indexer.getQueueDepth());
+    }
+
+    @Test
+    public void nonRetriableRequestFailure() throws IOException {
+        ElasticsearchException error = mock(ElasticsearchException.class);
+        when(error.status()).thenReturn(413);
+        when(client.bulk(any(BulkRequest.class))).thenThrow(error);
+        manualIndexer();
+
+        indexer.add("test", "1", index("1"));
+        indexer.add("test", "2", index("2"));
+        indexer.flush();
+
+        assertEquals(0, indexer.getRetried());
+        assertEquals(2, indexer.getFailed());
+        assertEquals(0, indexer.getQueueDepth());
+    }
+
+    @Test
+    public void flushOnDestroy() throws IOException {
+        respond(response(200), response(200));
+        indexer = new ElasticsearchBulkIndexer(client, props);
+
+        indexer.add("test", "1", index("1"));
+        verify(client, never()).bulk(any(BulkRequest.class));
+
+        indexer.destroy();
+        assertEquals(1, requests.size());
+        assertEquals(0, indexer.getQueueDepth());
+
+        // once destroyed, operations are sent right away
+        indexer.add("test", "2", index("2"));
+        assertEquals(2, requests.size());
+        assertEquals(2, indexer.getSent());
+        assertEquals(0, indexer.getQueueDepth());
+    }
+}
@@ -33,6 +33,8 @@ import co.elastic.clients.elasticsearch.core.CountRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.SourceConfig;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TrackHits;
 import co.elastic.clients.json.JsonData;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -40,7 +42,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -118,7 +119,8 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 schemaDAO,
                 entityFactory,
                 anyUtilsFactory,
-                validator);
+                validator,
+                0);
 
         this.client = client;
         this.indexMaxResultWindow = indexMaxResultWindow;
@@ -233,6 +235,35 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
         }
     }
 
+    /**
+     * Relies on the total hits tracked by a search request with no hits to return, which are accurately counted up to
+     * {@link #indexMaxResultWindow}; beyond that, the value returned is a lower bound.
+     */
+    @Override
+    protected long doEstimate(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        SearchRequest request = new SearchRequest.Builder().
+                index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
+                query(getQuery(base, recursive, adminRealms, cond, kind)).
+                size(0).
+                trackTotalHits(TrackHits.of(t -> t.count(indexMaxResultWindow))).
+                build();
+        LOG.debug("Estimate request: {}", request);
+
+        try {
+            return Optional.ofNullable(client.search(request, Void.class).hits().total()).
+                    map(TotalHits::value).orElse(0L);
+        } catch (Exception e) {
+            LOG.error("While estimating in Elasticsearch with request {}", request, e);
+            return 0;
+        }
+    }
+
     protected List<SortOptions> sortBuilders(final AnyTypeKind kind, final Stream<Sort.Order> orderBy) {
         AnyUtils anyUtils = anyUtilsFactory.getInstance(kind);
 
@@ -269,7 +300,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
     }
 
     @Override
-    protected <T extends Any> List<T> doSearch(
+    protected List<String> doSearchKeys(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -281,13 +312,17 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
                 searchType(SearchType.QueryThenFetch).
                 query(getQuery(base, recursive, adminRealms, cond, kind)).
-                from(pageable.isUnpaged() ? 0 : pageable.getPageSize() * pageable.getPageNumber()).
+                from(pageable.isUnpaged() ? 0 : (int) pageable.getOffset()).
                 size(pageable.isUnpaged() ? indexMaxResultWindow : pageable.getPageSize()).
                 sort(sortBuilders(kind, pageable.getSort().get())).
                 fields(List.of()).source(new SourceConfig.Builder().fetch(false).build()).
                 build();
         LOG.debug("Search request: {}", request);
 
+        return hitKeys(request);
+    }
+
+    protected List<String> hitKeys(final SearchRequest request) {
         List<Hit<Void>> esResult = null;
         try {
             esResult = client.search(request, Void.class).hits().hits();
@@ -297,7 +332,50 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
 
         return CollectionUtils.isEmpty(esResult)
                 ? List.of()
-                : buildResult(esResult.stream().map(Hit::id).collect(Collectors.toList()), kind);
+                : esResult.stream().map(Hit::id).toList();
+    }
+
+    /**
+     * Documents cannot be sorted by their internal {@code _id}, hence pages are sorted by the {@code key} field and
+     * fetched via {@code search_after}: unlike paging by offset, this is not bound to {@link #indexMaxResultWindow}.
+     */
+    @Override
+    public <T extends Any> SearchAfterPage<T> searchAfter(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String lastKey,
+            final int pageSize,
+            final AnyTypeKind kind) {
+
+        if (CollectionUtils.isEmpty(adminRealms)) {
+            LOG.error("No realms provided");
+            return new SearchAfterPage<>(List.of(), 0, lastKey);
+        }
+
+        LOG.debug("Search condition:\n{}", cond);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return new SearchAfterPage<>(List.of(), 0, lastKey);
+        }
+
+        SearchRequest.Builder builder = new SearchRequest.Builder().
+                index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
+                searchType(SearchType.QueryThenFetch).
+                query(getQuery(base, recursive, adminRealms, cond, kind)).
+                size(pageSize).
+                sort(new SortOptions.Builder().field(
+                        new FieldSort.Builder().field("key").order(SortOrder.Asc).build()).build()).
+                fields(List.of()).source(new SourceConfig.Builder().fetch(false).build());
+        if (lastKey != null) {
+            builder.searchAfter(List.of(FieldValue.of(lastKey)));
+        }
+        SearchRequest request = builder.build();
+        LOG.debug("Search after request: {}", request);
+
+        List<String> keys = hitKeys(request);
+        return new SearchAfterPage<>(buildResult(keys, kind), keys.size(), keys.isEmpty() ? lastKey : keys.getLast());
     }
 
     protected Query getQuery(final SearchCond cond, final AnyTypeKind kind) {
@@ -21,19 +21,28 @@ package org.apache.syncope.core.persistence.elasticsearch.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.SearchType;
+import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.DisMaxQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +50,8 @@ import java.util.Set;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
@@ -55,6 +66,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
@@ -63,6 +75,7 @@ import org.apache.syncope.ext.elasticsearch.client.ElasticsearchUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -393,4 +406,72 @@ public class ElasticsearchAnySearchDAOTest {
                     usingRecursiveComparison().isEqualTo(query);
         }
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void searchAfter() throws IOException {
+        // 1. mock
+        ElasticsearchClient client = mock(ElasticsearchClient.class);
+        ElasticsearchAnySearchDAO dao = spy(new ElasticsearchAnySearchDAO(
+                realmSearchDAO,
+                dynRealmDAO,
+                null,
+                groupDAO,
+                null,
+                null,
+                entityFactory,
+                anyUtilsFactory,
+                validator,
+                client,
+                10000));
+
+        Realm root = mock(Realm.class);
+        Set<String> adminRealms = Set.of(SyncopeConstants.ROOT_REALM);
+        AnyCond anyCond = new AnyCond(AttrCond.Type.ISNOTNULL);
+        anyCond.setSchema("id");
+        SearchCond cond = SearchCond.of(anyCond);
+        doReturn(new Query.Builder().matchAll(QueryBuilders.matchAll().build()).build()).
+                when(dao).getQuery(root, true, adminRealms, cond, AnyTypeKind.USER);
+
+        AnyUtils anyUtils = mock(AnyUtils.class);
+        doReturn(mock(AnyDAO.class)).when(anyUtils).dao();
+        when(anyUtilsFactory.getInstance(AnyTypeKind.USER)).thenReturn(anyUtils);
+
+        // hits are returned for users no longer available, then no more hits
+        Hit<Void> hit1 = mock(Hit.class);
+        when(hit1.id()).thenReturn("key1");
+        Hit<Void> hit2 = mock(Hit.class);
+        when(hit2.id()).thenReturn("key2");
+        HitsMetadata<Void> hits = mock(HitsMetadata.class);
+        when(hits.hits()).thenReturn(List.of(hit1, hit2), List.of());
+        SearchResponse<Void> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(hits);
+
+        ArgumentCaptor<SearchRequest> request = ArgumentCaptor.forClass(SearchRequest.class);
+        when(client.search(request.capture(), eq(Void.class))).thenReturn(response);
+
+        // 2. test
+        AnySearchDAO.SearchAfterPage<User> page =
+                dao.searchAfter(root, true, adminRealms, cond, null, 2, AnyTypeKind.USER);
+        assertTrue(page.result().isEmpty());
+        assertEquals(2, page.hits());
+        assertEquals("key2", page.lastKey());
+        assertTrue(page.hasNext(2));
+
+        assertNull(request.getValue().from());
+        assertEquals(2, request.getValue().size());
+        assertEquals("key", request.getValue().sort().getFirst().field().field());
+        assertEquals(SortOrder.Asc, request.getValue().sort().getFirst().field().order());
+        assertTrue(request.getValue().searchAfter().isEmpty());
+
+        // no limit to the number of results which can be walked through
+        page = dao.searchAfter(root, true, adminRealms, cond, page.lastKey(), 2, AnyTypeKind.USER);
+        assertTrue(page.result().isEmpty());
+        assertEquals(0, page.hits());
+        assertEquals("key2", page.lastKey());
+        assertFalse(page.hasNext(2));
+
+        assertNull(request.getValue().from());
+        assertEquals("key2", request.getValue().searchAfter().getFirst().stringValue());
+    }
 }
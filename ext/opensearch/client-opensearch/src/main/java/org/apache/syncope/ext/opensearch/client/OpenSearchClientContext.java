@@ -18,8 +18,13 @@
  */
 package org.apache.syncope.ext.opensearch.client;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.net.URISyntaxException;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -28,8 +33,10 @@ import org.identityconnectors.common.CollectionUtil;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthContributor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,18 +72,60 @@ public class OpenSearchClientContext {
         return new OpenSearchUtils(userDAO, groupDAO, anyObjectDAO);
     }
 
+    @ConditionalOnProperty(prefix = "opensearch.bulk", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    @Bean
+    public OpenSearchBulkIndexer openSearchBulkIndexer(
+            final OpenSearchProperties props,
+            final OpenSearchClient client) {
+
+        return new OpenSearchBulkIndexer(client, props.getBulk());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public OpenSearchIndexManager openSearchIndexManager(
             final OpenSearchProperties props,
             final OpenSearchClient client,
-            final OpenSearchUtils openSearchUtils) {
+            final OpenSearchUtils openSearchUtils,
+            final ObjectProvider<OpenSearchBulkIndexer> bulkIndexer) {
 
         return new OpenSearchIndexManager(
                 client,
                 openSearchUtils,
                 props.getNumberOfShards(),
-                props.getNumberOfReplicas());
+                props.getNumberOfReplicas(),
+                bulkIndexer.getIfAvailable());
+    }
+
+    @ConditionalOnProperty(prefix = "opensearch.bulk", name = "enabled", havingValue = "true")
+    @Bean
+    public MeterBinder openSearchBulkIndexerMeterBinder(final OpenSearchBulkIndexer bulkIndexer) {
+        return registry -> {
+            Gauge.builder("syncope.opensearch.bulk.queue", bulkIndexer, OpenSearchBulkIndexer::getQueueDepth).
+                    description("The number of operations waiting to be sent to OpenSearch").
+                    register(registry);
+            TimeGauge.builder("syncope.opensearch.bulk.latency", bulkIndexer, TimeUnit.MILLISECONDS,
+                    OpenSearchBulkIndexer::getLastFlushLatency).
+                    description("The duration of the last bulk request sent to OpenSearch").
+                    register(registry);
+            FunctionCounter.builder("syncope.opensearch.bulk.sent", bulkIndexer,
+                    OpenSearchBulkIndexer::getSent).
+                    description("The total number of operations successfully sent to OpenSearch").
+                    register(registry);
+            FunctionCounter.builder("syncope.opensearch.bulk.coalesced", bulkIndexer,
+                    OpenSearchBulkIndexer::getCoalesced).
+                    description("The total number of operations superseded by newer ones before being sent").
+                    register(registry);
+            FunctionCounter.builder("syncope.opensearch.bulk.retried", bulkIndexer,
+                    OpenSearchBulkIndexer::getRetried).
+                    description("The total number of operations retried after failure").
+                    register(registry);
+            FunctionCounter.builder("syncope.opensearch.bulk.failed", bulkIndexer,
+                    OpenSearchBulkIndexer::getFailed).
+                    description("The total number of operations discarded after exhausting retries").
+                    register(registry);
+        };
     }
 
     @ConditionalOnMissingBean
@@ -40,6 +40,7 @@ import org.opensearch.client.opensearch.core.DeleteRequest;
 import org.opensearch.client.opensearch.core.DeleteResponse;
 import org.opensearch.client.opensearch.core.IndexRequest;
 import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.indices.CreateIndexRequest;
 import org.opensearch.client.opensearch.indices.CreateIndexResponse;
 import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
@@ -66,16 +67,36 @@ public class OpenSearchIndexManager {
 
     protected final Integer numberOfReplicas;
 
+    protected final OpenSearchBulkIndexer bulkIndexer;
+
     public OpenSearchIndexManager(
             final OpenSearchClient client,
             final OpenSearchUtils ppenSearchUtils,
             final Integer numberOfShards,
             final Integer numberOfReplicas) {
 
+        this(client, ppenSearchUtils, numberOfShards, numberOfReplicas, null);
+    }
+
+    /**
+     * @param client OpenSearch client
+     * @param openSearchUtils utility methods
+     * @param numberOfShards number of shards for new indexes
+     * @param numberOfReplicas number of replicas for new indexes
+     * @param bulkIndexer if not {@code null}, any and audit changes are sent through bulk requests
+     */
+    public OpenSearchIndexManager(
+            final OpenSearchClient client,
+            final OpenSearchUtils openSearchUtils,
+            final Integer numberOfShards,
+            final Integer numberOfReplicas,
+            final OpenSearchBulkIndexer bulkIndexer) {
+
         this.client = client;
-        this.openSearchUtils = ppenSearchUtils;
+        this.openSearchUtils = openSearchUtils;
         this.numberOfShards = numberOfShards;
         this.numberOfReplicas = numberOfReplicas;
+        this.bulkIndexer = bulkIndexer;
     }
 
     public boolean existsAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
@@ -286,7 +307,20 @@ public class OpenSearchIndexManager {
     public void entity(final EntityLifecycleEvent<Entity> event) throws IOException {
         LOG.debug("About to {} index for {}", event.getType().name(), event.getEntity());
 
-        if (event.getEntity() instanceof final Any any) {
+        if (event.getEntity() instanceof final Any any && bulkIndexer != null) {
+            String index = OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind());
+            if (event.getType() == SyncDeltaType.DELETE) {
+                bulkIndexer.add(index, any.getKey(), new BulkOperation.Builder().
+                        delete(op -> op.index(index).id(any.getKey())).
+                        build());
+            } else {
+                Map<String, Object> document = openSearchUtils.document(any);
+                bulkIndexer.add(index, any.getKey(), new BulkOperation.Builder().
+                        index(op -> op.index(index).id(any.getKey()).document(document)).
+                        build());
+            }
+            LOG.debug("Index {} enqueued for {}", event.getType().name(), any);
+        } else if (event.getEntity() instanceof final Any any) {
             if (event.getType() == SyncDeltaType.DELETE) {
                 DeleteRequest request = new DeleteRequest.Builder().index(
                         OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
@@ -329,6 +363,16 @@ public class OpenSearchIndexManager {
     public void audit(final String domain, final AuditEvent auditEvent) throws IOException {
         LOG.debug("About to audit");
 
+        if (bulkIndexer != null) {
+            String index = OpenSearchUtils.getAuditIndex(domain);
+            Map<String, Object> document = openSearchUtils.document(auditEvent);
+            bulkIndexer.add(index, null, new BulkOperation.Builder().
+                    index(op -> op.index(index).document(document)).
+                    build());
+            LOG.debug("Audit enqueued");
+            return;
+        }
+
         IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
                 index(OpenSearchUtils.getAuditIndex(domain)).
                 document(openSearchUtils.document(auditEvent)).
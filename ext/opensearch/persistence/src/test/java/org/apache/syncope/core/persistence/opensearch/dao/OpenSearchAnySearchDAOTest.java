@@ -21,11 +21,15 @@ package org.apache.syncope.core.persistence.opensearch.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -35,6 +39,8 @@ import java.util.Set;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
@@ -49,6 +55,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
@@ -57,17 +64,23 @@ import org.apache.syncope.ext.opensearch.client.OpenSearchUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch._types.SearchType;
+import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
 import org.opensearch.client.opensearch._types.query_dsl.DisMaxQuery;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.QueryBuilders;
 import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.HitsMetadata;
 import org.springframework.util.ReflectionUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -394,4 +407,72 @@ public class OpenSearchAnySearchDAOTest {
                     usingRecursiveComparison().isEqualTo(query);
         }
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void searchAfter() throws IOException {
+        // 1. mock
+        OpenSearchClient client = mock(OpenSearchClient.class);
+        OpenSearchAnySearchDAO dao = spy(new OpenSearchAnySearchDAO(
+                realmSearchDAO,
+                dynRealmDAO,
+                null,
+                groupDAO,
+                null,
+                null,
+                entityFactory,
+                anyUtilsFactory,
+                validator,
+                client,
+                10000));
+
+        Realm root = mock(Realm.class);
+        Set<String> adminRealms = Set.of(SyncopeConstants.ROOT_REALM);
+        AnyCond anyCond = new AnyCond(AttrCond.Type.ISNOTNULL);
+        anyCond.setSchema("id");
+        SearchCond cond = SearchCond.of(anyCond);
+        doReturn(new Query.Builder().matchAll(QueryBuilders.matchAll().build()).build()).
+                when(dao).getQuery(root, true, adminRealms, cond, AnyTypeKind.USER);
+
+        AnyUtils anyUtils = mock(AnyUtils.class);
+        doReturn(mock(AnyDAO.class)).when(anyUtils).dao();
+        when(anyUtilsFactory.getInstance(AnyTypeKind.USER)).thenReturn(anyUtils);
+
+        // hits are returned for users no longer available, then no more hits
+        Hit<Void> hit1 = mock(Hit.class);
+        when(hit1.id()).thenReturn("key1");
+        Hit<Void> hit2 = mock(Hit.class);
+        when(hit2.id()).thenReturn("key2");
+        HitsMetadata<Void> hits = mock(HitsMetadata.class);
+        when(hits.hits()).thenReturn(List.of(hit1, hit2), List.of());
+        SearchResponse<Void> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(hits);
+
+        ArgumentCaptor<SearchRequest> request = ArgumentCaptor.forClass(SearchRequest.class);
+        when(client.search(request.capture(), eq(Void.class))).thenReturn(response);
+
+        // 2. test
+        AnySearchDAO.SearchAfterPage<User> page =
+                dao.searchAfter(root, true, adminRealms, cond, null, 2, AnyTypeKind.USER);
+        assertTrue(page.result().isEmpty());
+        assertEquals(2, page.hits());
+        assertEquals("key2", page.lastKey());
+        assertTrue(page.hasNext(2));
+
+        assertNull(request.getValue().from());
+        assertEquals(2, request.getValue().size());
+        assertEquals("key", request.getValue().sort().getFirst().field().field());
+        assertEquals(SortOrder.Asc, request.getValue().sort().getFirst().field().order());
+        assertTrue(request.getValue().searchAfter().isEmpty());
+
+        // no limit to the number of results which can be walked through
+        page = dao.searchAfter(root, true, adminRealms, cond, page.lastKey(), 2, AnyTypeKind.USER);
+        assertTrue(page.result().isEmpty());
+        assertEquals(0, page.hits());
+        assertEquals("key2", page.lastKey());
+        assertFalse(page.hasNext(2));
+
+        assertNull(request.getValue().from());
+        assertEquals("key2", request.getValue().searchAfter().getFirst().stringValue());
+    }
 }
@@ -60,6 +60,7 @@ import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.common.lib.types.StatusRType;
 import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
@@ -1476,7 +1477,9 @@ public class SCIMDataBinder {
 
         if (output(attributes, excludedAttributes, "members")) {
             long count = userLogic.search(
-                    searchCond, PageRequest.of(0, 1), SyncopeConstants.ROOT_REALM, true, false).getTotalElements();
+                    searchCond, PageRequest.of(0, 1), SyncopeConstants.ROOT_REALM, true, false, Set.of(),
+                    SearchCountMode.EXACT).
+                    getTotalElements();
 
             for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
                 List<UMembership> users = groupDAO.findUMemberships(
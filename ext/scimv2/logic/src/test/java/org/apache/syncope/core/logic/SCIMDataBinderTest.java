@@ -94,7 +94,6 @@ class SCIMDataBinderTest {
         JexlEngine jexlEngine = new JexlBuilder().
                 loader(new EmptyClassLoader()).
                 permissions(JexlPermissions.RESTRICTED.compose("java.time.*", "org.apache.syncope.*")).
-                cache(512).
                 silent(false).
                 strict(false).
                 create();
@@ -38,6 +38,7 @@ import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.core.logic.AnyObjectLogic;
 import org.apache.syncope.core.logic.GroupLogic;
 import org.apache.syncope.core.logic.SCIMDataBinder;
@@ -135,14 +136,18 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
         membCond.setGroup(group);
         SearchCond searchCond = SearchCond.of(membCond);
         long count = userLogic.search(
-                searchCond, PageRequest.of(0, 1), SyncopeConstants.ROOT_REALM, true, false).getTotalElements();
+                searchCond, PageRequest.of(0, 1), SyncopeConstants.ROOT_REALM, true, false, Set.of(),
+                SearchCountMode.EXACT).
+                getTotalElements();
         for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
             members.addAll(userLogic.search(
                     searchCond,
                     PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT),
                     SyncopeConstants.ROOT_REALM,
                     true,
-                    false).
+                    false,
+                    Set.of(),
+                    SearchCountMode.NONE).
                     get().map(UserTO::getKey).collect(Collectors.toSet()));
         }
 
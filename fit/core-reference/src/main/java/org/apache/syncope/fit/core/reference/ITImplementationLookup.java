@@ -49,6 +49,7 @@ import org.apache.syncope.core.provisioning.api.rules.PushCorrelationRule;
 import org.apache.syncope.core.provisioning.java.job.ExpiredAccessTokenCleanup;
 import org.apache.syncope.core.provisioning.java.job.ExpiredBatchCleanup;
 import org.apache.syncope.core.provisioning.java.job.MacroJobDelegate;
+import org.apache.syncope.core.provisioning.java.job.PwnedPasswordsImport;
 import org.apache.syncope.core.provisioning.java.propagation.AzurePropagationActions;
 import org.apache.syncope.core.provisioning.java.propagation.DBPasswordPropagationActions;
 import org.apache.syncope.core.provisioning.java.propagation.GoogleAppsPropagationActions;
@@ -140,6 +141,7 @@ public class ITImplementationLookup implements ImplementationLookup {
             classNames.add(ExpiredBatchCleanup.class.getName());
             classNames.add(TestSampleJobDelegate.class.getName());
             classNames.add(MacroJobDelegate.class.getName());
+            classNames.add(PwnedPasswordsImport.class.getName());
             classNames.add(LiveSyncJobDelegate.class.getName());
             classNames.add(PullJobDelegate.class.getName());
             classNames.add(PushJobDelegate.class.getName());
@@ -329,4 +329,70 @@ public class BatchITCase extends AbstractITCase {
         response = batchResponse.poll();
         assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
     }
+
+    private static BatchRequest createUsers(final int count) {
+        BatchRequest batchRequest = ADMIN_CLIENT.batch();
+
+        UserService batchUserService = batchRequest.getService(UserService.class);
+        for (int i = 0; i < count; i++) {
+            batchUserService.create(UserITCase.getUniqueSample("batch@syncope.apache.org"));
+        }
+
+        return batchRequest;
+    }
+
+    private static List<String> check(final BatchResponse batchResponse, final int count) throws IOException {
+        List<BatchResponseItem> resItems = batchResponse.getItems();
+        assertEquals(count, resItems.size());
+
+        List<String> keys = new ArrayList<>();
+        for (BatchResponseItem resItem : resItems) {
+            assertEquals(Response.Status.CREATED.getStatusCode(), resItem.getStatus());
+            keys.add(resItem.getHeaders().get(RESTHeaders.RESOURCE_KEY).getFirst().toString());
+        }
+        return keys;
+    }
+
+    @Test
+    public void parallel() throws IOException {
+        int count = 50;
+
+        // 1. create users, sequentially then in parallel
+        long start = System.currentTimeMillis();
+        List<String> sequential = check(createUsers(count).commit(), count);
+        long sequentialTime = System.currentTimeMillis() - start;
+
+        start = System.currentTimeMillis();
+        List<String> parallel = check(createUsers(count).commit(false, true), count);
+        long parallelTime = System.currentTimeMillis() - start;
+
+        LOG.info("Batch of {} user creates: sequential {} ms, parallel {} ms", count, sequentialTime, parallelTime);
+
+        // 2. update then delete each user: operations on the same user are executed in the given order
+        BatchRequest batchRequest = ADMIN_CLIENT.batch();
+        UserService batchUserService = batchRequest.getService(UserService.class);
+        List<String> keys = new ArrayList<>(sequential);
+        keys.addAll(parallel);
+        keys.forEach(key -> {
+            UserUR userUR = new UserUR();
+            userUR.setKey(key);
+            userUR.setRealm(new StringReplacePatchItem.Builder().value("/odd").build());
+            batchUserService.update(userUR);
+
+            batchUserService.delete(key);
+        });
+
+        List<BatchResponseItem> resItems = batchRequest.commit(false, true).getItems();
+        assertEquals(keys.size() * 2, resItems.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(Response.Status.OK.getStatusCode(), resItems.get(i * 2).getStatus());
+            ProvisioningResult<UserTO> updated = MAPPER.readValue(
+                    resItems.get(i * 2).getContent(), new TypeReference<>() {
+            });
+            assertEquals(keys.get(i), updated.getEntity().getKey());
+            assertEquals("/odd", updated.getEntity().getRealm());
+
+            assertEquals(Response.Status.OK.getStatusCode(), resItems.get(i * 2 + 1).getStatus());
+        }
+    }
 }
@@ -35,19 +35,23 @@ import java.io.IOException;
 import java.util.List;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.client.WebClient;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
 import org.apache.syncope.common.lib.request.StringReplacePatchItem;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.AnyVersionTO;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
 import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.service.ConnectorService;
 import org.apache.syncope.common.rest.api.service.GroupService;
 import org.apache.syncope.common.rest.api.service.UserService;
@@ -154,6 +158,63 @@ public class RESTITCase extends AbstractITCase {
         assertTrue(userTO.getUsername().endsWith("XX"));
     }
 
+    @Test
+    public void ifNoneMatch() {
+        UserTO userTO = createUser(UserITCase.getUniqueSample("ifnonematch@syncope.apache.org")).getEntity();
+        String bearer = "Bearer " + ADMIN_CLIENT.jwtInfo().orElseThrow().value();
+
+        // read
+        Response response = WebClient.create(ADDRESS).path("users").path(userTO.getKey()).
+                header(HttpHeaders.AUTHORIZATION, bearer).accept(MediaType.APPLICATION_JSON_TYPE).get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        EntityTag etag = response.getEntityTag();
+        assertNotNull(etag);
+        assertNotNull(response.getLastModified());
+
+        response = WebClient.create(ADDRESS).path("users").path(userTO.getKey()).
+                header(HttpHeaders.AUTHORIZATION, bearer).accept(MediaType.APPLICATION_JSON_TYPE).
+                header(HttpHeaders.IF_NONE_MATCH, etag.toString()).get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        // search
+        String fiql = "username==" + userTO.getUsername();
+        response = WebClient.create(ADDRESS).path("users").query("fiql", fiql).
+                header(HttpHeaders.AUTHORIZATION, bearer).accept(MediaType.APPLICATION_JSON_TYPE).get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        EntityTag searchETag = response.getEntityTag();
+        assertNotNull(searchETag);
+        assertTrue(searchETag.isWeak());
+
+        response = WebClient.create(ADDRESS).path("users").query("fiql", fiql).
+                header(HttpHeaders.AUTHORIZATION, bearer).accept(MediaType.APPLICATION_JSON_TYPE).
+                header(HttpHeaders.IF_NONE_MATCH, searchETag.toString()).get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        // update, then check that both read and search report the new version
+        UserUR userUR = new UserUR();
+        userUR.setKey(userTO.getKey());
+        userUR.getPlainAttrs().add(attrAddReplacePatch("ctype", "ifNoneMatch"));
+        updateUser(userUR);
+
+        response = WebClient.create(ADDRESS).path("users").path(userTO.getKey()).
+                header(HttpHeaders.AUTHORIZATION, bearer).accept(MediaType.APPLICATION_JSON_TYPE).
+                header(HttpHeaders.IF_NONE_MATCH, etag.toString()).get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        response = WebClient.create(ADDRESS).path("users").query("fiql", fiql).
+                header(HttpHeaders.AUTHORIZATION, bearer).accept(MediaType.APPLICATION_JSON_TYPE).
+                header(HttpHeaders.IF_NONE_MATCH, searchETag.toString()).get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        // changes
+        PagedResult<AnyVersionTO> changes = USER_SERVICE.changes(
+                userTO.getCreationDate(),
+                new AnyQuery.Builder().fiql(fiql).build());
+        assertEquals(1, changes.getTotalCount());
+        assertEquals(userTO.getKey(), changes.getResult().getFirst().getKey());
+        assertNotNull(changes.getResult().getFirst().getLastChangeDate());
+    }
+
     @Test
     public void exportInternalStorageContent() throws IOException {
         Response response = SYNCOPE_SERVICE.exportInternalStorageContent(100, List.of());
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -58,6 +59,7 @@ import org.apache.syncope.common.lib.to.TypeExtensionTO;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.SearchCountMode;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.beans.ConnObjectTOQuery;
@@ -146,6 +148,46 @@ public class SearchITCase extends AbstractITCase {
         assertEquals("rossini", matchingUsers.getResult().getFirst().getUsername());
     }
 
+    @Test
+    public void searchWithAttrs() {
+        PagedResult<UserTO> matchingUsers = USER_SERVICE.search(
+                new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).
+                        fiql(SyncopeClient.getUserSearchConditionBuilder().
+                                is("username").equalTo("rossini").query()).
+                        details(false).attr("firstname").attr("cn").build());
+        assertEquals(1, matchingUsers.getResult().size());
+
+        UserTO rossini = matchingUsers.getResult().getFirst();
+        assertEquals(1, rossini.getPlainAttrs().size());
+        assertTrue(rossini.getPlainAttr("firstname").isPresent());
+        assertEquals(1, rossini.getDerAttrs().size());
+        assertTrue(rossini.getDerAttr("cn").isPresent());
+        assertTrue(rossini.getMemberships().isEmpty());
+    }
+
+    @Test
+    public void searchWithCount() {
+        AnyQuery.Builder builder = new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).page(1).size(2);
+
+        PagedResult<UserTO> exact = USER_SERVICE.search(builder.build());
+        assertTrue(exact.getTotalCount() > 2);
+
+        PagedResult<UserTO> estimate = USER_SERVICE.search(builder.count(SearchCountMode.ESTIMATE).build());
+        assertEquals(2, estimate.getResult().size());
+        assertTrue(estimate.getTotalCount() > 2);
+
+        PagedResult<UserTO> none = USER_SERVICE.search(builder.count(SearchCountMode.NONE).build());
+        assertEquals(2, none.getResult().size());
+        assertEquals(3, none.getTotalCount());
+        assertNotNull(none.getNext());
+
+        // last page reports the exact count
+        int lastPage = (int) ((exact.getTotalCount() - 1) / 2) + 1;
+        none = USER_SERVICE.search(builder.page(lastPage).build());
+        assertEquals(exact.getTotalCount(), none.getTotalCount());
+        assertNull(none.getNext());
+    }
+
     @Test
     public void searchByUsernameAndKey() {
         PagedResult<UserTO> matchingUsers = USER_SERVICE.search(
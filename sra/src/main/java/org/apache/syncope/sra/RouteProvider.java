@@ -18,10 +18,16 @@
  */
 package org.apache.syncope.sra;
 
+import jakarta.ws.rs.RedirectionException;
+import jakarta.ws.rs.core.EntityTag;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
@@ -95,10 +101,29 @@ import org.springframework.http.HttpStatus;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ServerWebExchange;
 
+/**
+ * Translates the routes defined on Core into Spring Cloud Gateway routes.
+ *
+ * Translated routes are kept in a versioned route table, replaced as a whole upon refresh: Core is asked for the routes
+ * only when changed since the latest refresh, via {@code If-None-Match}, and only the routes actually changed are
+ * translated again.
+ */
 public class RouteProvider {
 
     protected static final Logger LOG = LoggerFactory.getLogger(RouteProvider.class);
 
+    protected record CompiledRoute(SRARouteTO routeTO, Route route) {
+    }
+
+    protected record RouteTable(
+            long version,
+            EntityTag etag,
+            Map<String, CompiledRoute> routes,
+            List<SRARouteTO> routeTOs) {
+
+        protected static final RouteTable EMPTY = new RouteTable(0, null, Map.of(), List.of());
+    }
+
     protected final ServiceOps serviceOps;
 
     protected final ConfigurableApplicationContext ctx;
@@ -111,7 +136,7 @@ public class RouteProvider {
 
     protected SyncopeClient client;
 
-    protected final List<SRARouteTO> routeTOs = new ArrayList<>();
+    protected final AtomicReference<RouteTable> routeTable = new AtomicReference<>(RouteTable.EMPTY);
 
     public RouteProvider(
             final ServiceOps serviceOps,
@@ -558,7 +583,29 @@ public class RouteProvider {
         return builder;
     }
 
-    public List<Route.AsyncBuilder> fetch() {
+    protected RouteTable compile(final RouteTable current, final List<SRARouteTO> routeTOs, final EntityTag etag) {
+        Map<String, CompiledRoute> routes = new LinkedHashMap<>();
+        int compiled = 0;
+        for (SRARouteTO routeTO : routeTOs) {
+            CompiledRoute route = current.routes().get(routeTO.getKey());
+            if (route == null || !route.routeTO().equals(routeTO)) {
+                route = new CompiledRoute(routeTO, toRoute(routeTO).build());
+                compiled++;
+            }
+            routes.put(routeTO.getKey(), route);
+        }
+
+        RouteTable table = new RouteTable(
+                current.version() + 1,
+                etag,
+                Collections.unmodifiableMap(routes),
+                routes.values().stream().map(CompiledRoute::routeTO).toList());
+        LOG.debug("Route table version {}: {} routes, {} of which were new or changed",
+                table.version(), routes.size(), compiled);
+        return table;
+    }
+
+    public List<Route> fetch() {
         synchronized (this) {
             if (client == null) {
                 try {
@@ -573,15 +620,26 @@ public class RouteProvider {
             }
         }
 
-        synchronized (routeTOs) {
-            routeTOs.clear();
-            routeTOs.addAll(client.getService(SRARouteService.class).list());
+        RouteTable current = routeTable.get();
+
+        SRARouteService service = client.getService(SRARouteService.class);
+        Optional.ofNullable(current.etag()).ifPresent(etag -> SyncopeClient.ifNoneMatch(service, etag));
+        try {
+            RouteTable updated = compile(current, service.list(), SyncopeClient.getLatestEntityTag(service));
+            // should a concurrent refresh have already replaced the route table, keep that
+            routeTable.compareAndSet(current, updated);
+        } catch (RedirectionException e) {
+            LOG.debug("Routes not changed since route table version {}", current.version());
         }
 
-        return routeTOs.stream().map(this::toRoute).toList();
+        return routeTable.get().routes().values().stream().map(CompiledRoute::route).toList();
     }
 
     public List<SRARouteTO> getRouteTOs() {
-        return routeTOs;
+        return routeTable.get().routeTOs();
+    }
+
+    public Optional<SRARouteTO> getRouteTO(final String key) {
+        return Optional.ofNullable(routeTable.get().routes().get(key)).map(CompiledRoute::routeTO);
     }
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.sra;
 
 import java.util.List;
 import org.apache.syncope.sra.session.CacheManagerReactiveSessionRepository;
+import org.apache.syncope.sra.session.SRASession;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -27,7 +28,6 @@ import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.config.annotation.web.server.EnableSpringWebSession;
 
@@ -40,7 +40,7 @@ public class SessionConfig {
 
     @ConditionalOnMissingBean
     @Bean
-    public ReactiveSessionRepository<MapSession> reactiveSessionRepository() {
+    public ReactiveSessionRepository<SRASession> reactiveSessionRepository() {
         return new CacheManagerReactiveSessionRepository();
     }
 
@@ -18,10 +18,12 @@
  */
 package org.apache.syncope.sra;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.syncope.common.keymaster.client.api.ServiceOps;
 import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
 import org.apache.syncope.common.keymaster.client.api.startstop.KeymasterStart;
 import org.apache.syncope.common.keymaster.client.api.startstop.KeymasterStop;
+import org.apache.syncope.sra.actuate.RouteMetricsFilter;
 import org.apache.syncope.sra.actuate.SRASessions;
 import org.apache.syncope.sra.actuate.SyncopeCoreHealthIndicator;
 import org.apache.syncope.sra.actuate.SyncopeSRAInfoContributor;
@@ -35,7 +37,6 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
-import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -83,7 +84,16 @@ public class SyncopeSRAApplication {
     @ConditionalOnMissingBean
     @Bean
     public RouteLocator routes(@Qualifier("routeProvider") final RouteProvider routeProvider) {
-        return () -> Flux.fromIterable(routeProvider.fetch()).map(Route.AbstractBuilder::build);
+        return () -> Flux.fromIterable(routeProvider.fetch());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public RouteMetricsFilter routeMetricsFilter(
+            final MeterRegistry meterRegistry,
+            @Qualifier("routeProvider") final RouteProvider routeProvider) {
+
+        return new RouteMetricsFilter(meterRegistry, routeProvider);
     }
 
     @ConditionalOnMissingBean
@@ -72,9 +72,7 @@ public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, Appli
         String routeId = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR);
         if (StringUtils.isNotBlank(routeId)) {
             Optional<URI> routeError = Optional.ofNullable(CACHE.get(routeId)).orElseGet(() -> {
-                Optional<SRARouteTO> route = routeProvider.getRouteTOs().stream().
-                        filter(r -> routeId.equals(r.getKey())).findFirst();
-                URI uri = route.map(SRARouteTO::getError).orElse(null);
+                URI uri = routeProvider.getRouteTO(routeId).map(SRARouteTO::getError).orElse(null);
 
                 CACHE.put(routeId, Optional.ofNullable(uri));
                 return CACHE.get(routeId);
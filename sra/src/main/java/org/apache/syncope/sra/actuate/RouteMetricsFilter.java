@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.actuate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.sra.RouteProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records how many requests were matched by each route, and how long they took to be served.
+ */
+public class RouteMetricsFilter implements GlobalFilter, Ordered {
+
+    public static final String METRIC_NAME = "syncope.sra.route.requests";
+
+    protected final MeterRegistry meterRegistry;
+
+    protected final RouteProvider routeProvider;
+
+    public RouteMetricsFilter(final MeterRegistry meterRegistry, final RouteProvider routeProvider) {
+        this.meterRegistry = meterRegistry;
+        this.routeProvider = routeProvider;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return chain.filter(exchange).doFinally(signal -> sample.stop(Timer.builder(METRIC_NAME).
+                description("The requests matched by SRA routes").
+                tag("route", route.getId()).
+                tag("name", routeProvider.getRouteTO(route.getId()).map(SRARouteTO::getName).orElse("")).
+                tag("status", Optional.ofNullable(exchange.getResponse().getStatusCode()).
+                        map(HttpStatusCode::value).map(String::valueOf).orElse("UNKNOWN")).
+                register(meterRegistry)));
+    }
+}
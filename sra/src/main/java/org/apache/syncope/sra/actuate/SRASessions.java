@@ -39,7 +39,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
-import org.springframework.session.MapSession;
+import org.springframework.session.Session;
 
 @Endpoint(id = "sraSessions")
 public class SRASessions {
@@ -54,16 +54,16 @@ public class SRASessions {
         this.cacheManager = cacheManager;
     }
 
-    protected static AMSession map(final MapSession mapSession) {
-        SecurityContext ctx = mapSession.getAttribute(
+    protected static AMSession map(final Session cachedSession) {
+        SecurityContext ctx = cachedSession.getAttribute(
                 WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME);
         if (ctx == null) {
             return null;
         }
 
         AMSession session = new AMSession();
-        session.setKey(mapSession.getId());
-        session.setAuthenticationDate(mapSession.getCreationTime().atOffset(OffsetDateTime.now().getOffset()));
+        session.setKey(cachedSession.getId());
+        session.setAuthenticationDate(cachedSession.getCreationTime().atOffset(OffsetDateTime.now().getOffset()));
 
         String principal;
         if (ctx.getAuthentication() instanceof SAML2AuthenticationToken saml2AuthenticationToken) {
@@ -80,7 +80,7 @@ public class SRASessions {
         try {
             session.setJson(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(ctx.getAuthentication()));
         } catch (JsonProcessingException e) {
-            LOG.error("While serializing session {}", mapSession.getId(), e);
+            LOG.error("While serializing session {}", cachedSession.getId(), e);
         }
 
         return session;
@@ -90,18 +90,18 @@ public class SRASessions {
     @SuppressWarnings("unchecked")
     public List<AMSession> list() {
         return ((ConcurrentMap<Object, Object>) cacheManager.getCache(SessionConfig.DEFAULT_CACHE).getNativeCache()).
-                values().stream().map(MapSession.class::cast).map(SRASessions::map).
+                values().stream().map(Session.class::cast).map(SRASessions::map).
                 filter(Objects::nonNull).toList();
     }
 
     @ReadOperation
     public AMSession read(@Selector final String id) {
         Cache.ValueWrapper value = cacheManager.getCache(SessionConfig.DEFAULT_CACHE).get(id);
-        if (value == null || !(value.get() instanceof final MapSession mapSession)) {
+        if (value == null || !(value.get() instanceof final Session cachedSession)) {
             return null;
         }
 
-        return map(mapSession);
+        return map(cachedSession);
     }
 
     @DeleteOperation
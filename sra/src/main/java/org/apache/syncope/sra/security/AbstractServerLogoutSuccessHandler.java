@@ -58,9 +58,7 @@ public abstract class AbstractServerLogoutSuccessHandler
         String routeId = exchange.getExchange().getAttribute(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR);
         if (StringUtils.isNotBlank(routeId)) {
             Optional<URI> routePostLogout = Optional.ofNullable(CACHE.get(routeId)).orElseGet(() -> {
-                Optional<SRARouteTO> route = routeProvider.getRouteTOs().stream().
-                        filter(r -> routeId.equals(r.getKey())).findFirst();
-                URI uri = route.map(SRARouteTO::getPostLogout).orElse(null);
+                URI uri = routeProvider.getRouteTO(routeId).map(SRARouteTO::getPostLogout).orElse(null);
 
                 CACHE.put(routeId, Optional.ofNullable(uri));
                 return CACHE.get(routeId);
@@ -51,9 +51,7 @@ public class CsrfRouteMatcher extends AbstractRouteMatcher {
 
     @Override
     protected boolean routeBehavior(final Route route) {
-        return routeProvider.getRouteTOs().stream().
-                filter(r -> route.getId().equals(r.getKey())).findFirst().
-                map(SRARouteTO::isCsrf).orElse(true)
+        return routeProvider.getRouteTO(route.getId()).map(SRARouteTO::isCsrf).orElse(true)
                 && !publicRouteMatcher.routeBehavior(route);
     }
 
@@ -37,8 +37,7 @@ public class PublicRouteMatcher extends AbstractRouteMatcher {
 
     @Override
     protected boolean routeBehavior(final Route route) {
-        return routeProvider.getRouteTOs().stream().
-                filter(r -> route.getId().equals(r.getKey())).findFirst().
+        return routeProvider.getRouteTO(route.getId()).
                 map(r -> r.getType() == SRARouteType.PUBLIC).orElse(true);
     }
 }
@@ -18,43 +18,77 @@
  */
 package org.apache.syncope.sra.session;
 
+import java.util.function.Function;
 import org.apache.syncope.sra.SessionConfig;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.session.MapSession;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.session.ReactiveSessionRepository;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
-public class CacheManagerReactiveSessionRepository implements ReactiveSessionRepository<MapSession> {
+/**
+ * Stores sessions in the {@link SessionConfig#DEFAULT_CACHE} cache.
+ *
+ * Sessions are copied when stored and when found, so that concurrent requests for the same session - possibly
+ * changing its id - never share the same instance, also with in-process caches.
+ * Operations on in-process caches are performed on the calling thread; operations on any other cache, which may
+ * block, are performed on a dedicated scheduler, not to hold event loop threads.
+ */
+public class CacheManagerReactiveSessionRepository implements ReactiveSessionRepository<SRASession>, DisposableBean {
 
     @Autowired
     private CacheManager cacheManager;
 
+    protected final Scheduler scheduler = Schedulers.newBoundedElastic(
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "sra-session");
+
+    protected <T> Mono<T> onCache(final Function<Cache, T> operation) {
+        Cache cache = cacheManager.getCache(SessionConfig.DEFAULT_CACHE);
+        Mono<T> result = Mono.fromSupplier(() -> operation.apply(cache));
+        return cache instanceof ConcurrentMapCache ? result : result.subscribeOn(scheduler);
+    }
+
     @Override
-    public Mono<MapSession> createSession() {
-        return Mono.just(new MapSession());
+    public Mono<SRASession> createSession() {
+        return Mono.fromSupplier(SRASession::create);
     }
 
     @Override
-    public Mono<Void> save(final MapSession session) {
-        return Mono.fromRunnable(() -> {
+    public Mono<Void> save(final SRASession session) {
+        return onCache(cache -> {
             if (!session.getId().equals(session.getOriginalId())) {
-                cacheManager.getCache(SessionConfig.DEFAULT_CACHE).evictIfPresent(session.getOriginalId());
+                cache.evictIfPresent(session.getOriginalId());
             }
-            cacheManager.getCache(SessionConfig.DEFAULT_CACHE).put(session.getId(), session);
+            session.saved();
+            cache.put(session.getId(), new SRASession(session));
+            return null;
         });
     }
 
     @Override
-    public Mono<MapSession> findById(final String id) {
-        return Mono.defer(() -> Mono.justOrEmpty(
-                cacheManager.getCache(SessionConfig.DEFAULT_CACHE).get(id, MapSession.class)).
-                map(MapSession::new).
-                switchIfEmpty(deleteById(id).then(Mono.empty())));
+    public Mono<SRASession> findById(final String id) {
+        return onCache(cache -> cache.get(id, SRASession.class)).
+                flatMap(session -> session.isExpired()
+                ? deleteById(id).then(Mono.<SRASession>empty())
+                : Mono.just(new SRASession(session)));
     }
 
     @Override
     public Mono<Void> deleteById(final String id) {
-        return Mono.fromRunnable(() -> cacheManager.getCache(SessionConfig.DEFAULT_CACHE).evictIfPresent(id));
+        return onCache(cache -> {
+            cache.evictIfPresent(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.SerializationUtils;
+import org.springframework.session.Session;
+
+/**
+ * {@link Session} implementation with compact binary serialization: session metadata is written as plain values and
+ * each attribute as a separately serialized value, which is only deserialized when first read.
+ */
+public class SRASession implements Session, Externalizable {
+
+    private static final long serialVersionUID = -1541183449513063738L;
+
+    public static final Duration DEFAULT_MAX_INACTIVE_INTERVAL = Duration.ofMinutes(30);
+
+    /**
+     * Attribute value as read from the serialized form, not deserialized yet.
+     *
+     * @param value serialized attribute value
+     */
+    protected record SerializedAttribute(byte[] value) {
+    }
+
+    public static SRASession create() {
+        return new SRASession(UUID.randomUUID().toString());
+    }
+
+    private String id;
+
+    private String originalId;
+
+    private Instant creationTime;
+
+    private Instant lastAccessedTime;
+
+    private Duration maxInactiveInterval;
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Only meant for deserialization, use {@link #create()} instead.
+     */
+    public SRASession() {
+        // nothing to do
+    }
+
+    public SRASession(final String id) {
+        this.id = id;
+        this.originalId = id;
+        this.creationTime = Instant.now();
+        this.lastAccessedTime = this.creationTime;
+        this.maxInactiveInterval = DEFAULT_MAX_INACTIVE_INTERVAL;
+    }
+
+    /**
+     * Copies metadata and attributes of the given session: attribute values are shared, and those not deserialized
+     * yet are left as such.
+     *
+     * @param session session to copy
+     */
+    public SRASession(final SRASession session) {
+        this.id = session.id;
+        this.originalId = session.originalId;
+        this.creationTime = session.creationTime;
+        this.lastAccessedTime = session.lastAccessedTime;
+        this.maxInactiveInterval = session.maxInactiveInterval;
+        this.attributes.putAll(session.attributes);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getOriginalId() {
+        return originalId;
+    }
+
+    @Override
+    public String changeSessionId() {
+        id = UUID.randomUUID().toString();
+        return id;
+    }
+
+    /**
+     * To be invoked once this session was stored under its current id.
+     */
+    void saved() {
+        originalId = id;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAttribute(final String attributeName) {
+        return (T) attributes.computeIfPresent(attributeName, (name, value) -> value instanceof SerializedAttribute sa
+                ? SerializationUtils.deserialize(sa.value())
+                : value);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return Set.copyOf(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(final String attributeName, final Object attributeValue) {
+        if (attributeValue == null) {
+            removeAttribute(attributeName);
+        } else {
+            attributes.put(attributeName, attributeValue);
+        }
+    }
+
+    @Override
+    public void removeAttribute(final String attributeName) {
+        attributes.remove(attributeName);
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public void setLastAccessedTime(final Instant lastAccessedTime) {
+        this.lastAccessedTime = lastAccessedTime;
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return lastAccessedTime;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(final Duration interval) {
+        this.maxInactiveInterval = interval;
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    @Override
+    public boolean isExpired() {
+        return !maxInactiveInterval.isNegative()
+                && !Instant.now().minus(maxInactiveInterval).isBefore(lastAccessedTime);
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeUTF(id);
+        out.writeLong(creationTime.toEpochMilli());
+        out.writeLong(lastAccessedTime.toEpochMilli());
+        out.writeLong(maxInactiveInterval.toSeconds());
+
+        List<Map.Entry<String, byte[]>> serialized = new ArrayList<>(attributes.size());
+        attributes.forEach((name, value) -> serialized.add(Map.entry(name, value instanceof SerializedAttribute sa
+                ? sa.value()
+                : SerializationUtils.serialize((Serializable) value))));
+
+        out.writeInt(serialized.size());
+        for (Map.Entry<String, byte[]> attribute : serialized) {
+            out.writeUTF(attribute.getKey());
+            out.writeInt(attribute.getValue().length);
+            out.write(attribute.getValue());
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        id = in.readUTF();
+        originalId = id;
+        creationTime = Instant.ofEpochMilli(in.readLong());
+        lastAccessedTime = Instant.ofEpochMilli(in.readLong());
+        maxInactiveInterval = Duration.ofSeconds(in.readLong());
+
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String name = in.readUTF();
+            byte[] value = new byte[in.readInt()];
+            in.readFully(value);
+            attributes.put(name, new SerializedAttribute(value));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.RedirectionException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Response;
+import java.net.URI;
+import java.util.List;
+import org.apache.syncope.client.lib.SyncopeClient;
+import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.common.rest.api.service.SRARouteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+public class RouteProviderRefreshTest {
+
+    private static SRARouteTO routeTO(final String key, final String target) {
+        SRARouteTO routeTO = new SRARouteTO();
+        routeTO.setKey(key);
+        routeTO.setName(key);
+        routeTO.setTarget(URI.create(target));
+        return routeTO;
+    }
+
+    @Mock
+    private ServiceOps serviceOps;
+
+    @Mock
+    private ConfigurableApplicationContext ctx;
+
+    @Mock
+    private SyncopeClient client;
+
+    @Mock
+    private SRARouteService routeService;
+
+    private MockedStatic<SyncopeClient> staticSyncopeClient;
+
+    private RouteProvider routeProvider;
+
+    @BeforeEach
+    public void setUp() {
+        staticSyncopeClient = mockStatic(SyncopeClient.class);
+
+        when(client.getService(SRARouteService.class)).thenReturn(routeService);
+
+        routeProvider = new RouteProvider(serviceOps, ctx, "anonymous", "anonymousKey", false);
+        routeProvider.client = client;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        staticSyncopeClient.close();
+    }
+
+    private List<Route> initialFetch() {
+        when(routeService.list()).thenReturn(List.of(
+                routeTO("route1", "http://localhost:8080"),
+                routeTO("route2", "http://localhost:8081")));
+        staticSyncopeClient.when(() -> SyncopeClient.getLatestEntityTag(routeService)).
+                thenReturn(new EntityTag("v1"));
+
+        List<Route> routes = routeProvider.fetch();
+        assertEquals(2, routes.size());
+        assertEquals(1, routeProvider.routeTable.get().version());
+        return routes;
+    }
+
+    @Test
+    public void unchangedRoutesAreReused() {
+        List<Route> before = initialFetch();
+
+        when(routeService.list()).thenReturn(List.of(
+                routeTO("route1", "http://localhost:8080"),
+                routeTO("route2", "http://localhost:8082")));
+        staticSyncopeClient.when(() -> SyncopeClient.getLatestEntityTag(routeService)).
+                thenReturn(new EntityTag("v2"));
+
+        List<Route> after = routeProvider.fetch();
+        staticSyncopeClient.verify(() -> SyncopeClient.ifNoneMatch(routeService, new EntityTag("v1")));
+
+        assertEquals(2, after.size());
+        assertSame(before.get(0), after.get(0));
+        assertNotSame(before.get(1), after.get(1));
+        assertEquals(URI.create("http://localhost:8082"), after.get(1).getUri());
+        assertEquals(URI.create("http://localhost:8082"), routeProvider.getRouteTO("route2").orElseThrow().getTarget());
+
+        assertEquals(2, routeProvider.routeTable.get().version());
+        assertEquals(new EntityTag("v2"), routeProvider.routeTable.get().etag());
+    }
+
+    @Test
+    public void notModifiedKeepsRouteTable() {
+        List<Route> before = initialFetch();
+        RouteProvider.RouteTable table = routeProvider.routeTable.get();
+
+        when(routeService.list()).thenThrow(new RedirectionException(Response.Status.NOT_MODIFIED, null));
+
+        List<Route> after = routeProvider.fetch();
+        staticSyncopeClient.verify(() -> SyncopeClient.ifNoneMatch(routeService, new EntityTag("v1")));
+
+        assertSame(table, routeProvider.routeTable.get());
+        assertEquals(before.size(), after.size());
+        assertSame(before.get(0), after.get(0));
+        assertSame(before.get(1), after.get(1));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.syncope.sra.SessionConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class CacheManagerReactiveSessionRepositoryTest {
+
+    private CacheManagerReactiveSessionRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        repository = new CacheManagerReactiveSessionRepository();
+        ReflectionTestUtils.setField(
+                repository, "cacheManager", new ConcurrentMapCacheManager(SessionConfig.DEFAULT_CACHE));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.destroy();
+    }
+
+    @Test
+    public void concurrentChangeSessionId() {
+        SRASession session = repository.createSession().block();
+        session.setAttribute("uri", "/protected");
+        repository.save(session).block();
+
+        // two concurrent requests for the same session
+        SRASession first = repository.findById(session.getId()).block();
+        SRASession second = repository.findById(session.getId()).block();
+        assertNotSame(first, second);
+
+        String originalId = first.getId();
+        String changedId = first.changeSessionId();
+        first.setAttribute("uri", "/changed");
+        assertEquals(originalId, second.getId());
+        assertEquals("/protected", second.<String>getAttribute("uri"));
+
+        repository.save(first).block();
+        assertNull(repository.findById(originalId).block());
+        assertEquals("/changed", repository.findById(changedId).block().<String>getAttribute("uri"));
+
+        // changes made after saving are not visible until saved again
+        first.setAttribute("uri", "/unsaved");
+        assertEquals("/changed", repository.findById(changedId).block().<String>getAttribute("uri"));
+    }
+}
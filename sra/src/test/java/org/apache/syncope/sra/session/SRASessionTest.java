@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+public class SRASessionTest {
+
+    @Test
+    public void serialization() {
+        SRASession session = SRASession.create();
+        session.setMaxInactiveInterval(Duration.ofMinutes(5));
+        session.setAttribute("uri", "/protected");
+        session.setAttribute("roles", List.of("admin", "user"));
+
+        SRASession copy = SerializationUtils.deserialize(SerializationUtils.serialize(session));
+        assertEquals(session.getId(), copy.getId());
+        assertEquals(copy.getId(), copy.getOriginalId());
+        assertEquals(session.getCreationTime().toEpochMilli(), copy.getCreationTime().toEpochMilli());
+        assertEquals(session.getLastAccessedTime().toEpochMilli(), copy.getLastAccessedTime().toEpochMilli());
+        assertEquals(Duration.ofMinutes(5), copy.getMaxInactiveInterval());
+        assertEquals(Set.of("uri", "roles"), copy.getAttributeNames());
+
+        // serialize again, with one attribute not deserialized yet
+        assertEquals("/protected", copy.<String>getAttribute("uri"));
+        copy = SerializationUtils.deserialize(SerializationUtils.serialize(copy));
+        assertEquals("/protected", copy.<String>getAttribute("uri"));
+        assertEquals(List.of("admin", "user"), copy.<List<String>>getAttribute("roles"));
+        assertNull(copy.getAttribute("missing"));
+    }
+
+    @Test
+    public void lifecycle() {
+        SRASession session = SRASession.create();
+        assertFalse(session.isExpired());
+
+        String originalId = session.getId();
+        assertNotEquals(originalId, session.changeSessionId());
+        assertEquals(originalId, session.getOriginalId());
+        session.saved();
+        assertEquals(session.getId(), session.getOriginalId());
+
+        session.setAttribute("uri", "/protected");
+        session.setAttribute("uri", null);
+        assertTrue(session.getAttributeNames().isEmpty());
+
+        session.setLastAccessedTime(Instant.now().minus(SRASession.DEFAULT_MAX_INACTIVE_INTERVAL));
+        assertTrue(session.isExpired());
+
+        session.setMaxInactiveInterval(Duration.ofSeconds(-1));
+        assertFalse(session.isExpired());
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.syncope.wa.starter.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
@@ -245,11 +247,13 @@ public class WAContext {
             final WARestClient waRestClient,
             final RegisteredServiceMapper registeredServiceMapper,
             @Qualifier("serviceRegistryListeners")
-            final ObjectProvider<List<ServiceRegistryListener>> serviceRegistryListeners) {
+            final ObjectProvider<List<ServiceRegistryListener>> serviceRegistryListeners,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
 
         WAServiceRegistry registry = new WAServiceRegistry(
                 waRestClient, registeredServiceMapper, ctx,
-                Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+                Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
         return plan -> plan.registerServiceRegistry(registry);
     }
 
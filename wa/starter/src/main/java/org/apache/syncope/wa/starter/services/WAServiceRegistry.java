@@ -18,10 +18,25 @@
  */
 package org.apache.syncope.wa.starter.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.ws.rs.RedirectionException;
+import jakarta.ws.rs.core.EntityTag;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.types.ClientAppType;
+import org.apache.syncope.common.lib.wa.WAClientApp;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
@@ -34,23 +49,98 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 
+/**
+ * Serves application definitions out of an in-memory snapshot of the client applications defined on Core, as mapped
+ * to CAS services.
+ *
+ * The snapshot is replaced by {@link #load()}: Core is asked for the client applications only when changed since
+ * the latest refresh, via {@code If-None-Match}, and only the client applications actually changed are mapped again.
+ * Should Core not be reachable, the latest snapshot is kept being served.
+ * Lookups not satisfied by the snapshot - as for client applications defined after the latest refresh - are read
+ * from Core.
+ */
 public class WAServiceRegistry extends AbstractServiceRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(WAServiceRegistry.class);
 
+    protected static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    protected record Entry(String fingerprint, RegisteredService service) {
+    }
+
+    protected record Snapshot(
+            EntityTag etag,
+            List<Entry> entries,
+            Map<Long, List<RegisteredService>> byId,
+            Map<String, List<RegisteredService>> byName) {
+
+        protected static final Snapshot EMPTY = new Snapshot(null, List.of(), Map.of(), Map.of());
+
+        protected static Snapshot of(final EntityTag etag, final List<Entry> entries) {
+            Map<Long, List<RegisteredService>> byId = new HashMap<>();
+            Map<String, List<RegisteredService>> byName = new HashMap<>();
+            entries.forEach(entry -> {
+                byId.computeIfAbsent(entry.service().getId(), k -> new ArrayList<>()).add(entry.service());
+                byName.computeIfAbsent(entry.service().getName(), k -> new ArrayList<>()).add(entry.service());
+            });
+            return new Snapshot(etag, List.copyOf(entries), byId, byName);
+        }
+
+        protected List<RegisteredService> services() {
+            return entries.stream().map(Entry::service).toList();
+        }
+    }
+
+    protected static String fingerprint(final WAClientApp clientApp) {
+        try {
+            return UUID.nameUUIDFromBytes(MAPPER.writeValueAsBytes(clientApp)).toString();
+        } catch (JsonProcessingException e) {
+            LOG.warn("Could not compute fingerprint for {}", clientApp.getClientAppTO().getName(), e);
+            return null;
+        }
+    }
+
+    protected static ClientAppType clientAppType(final Class<? extends RegisteredService> clazz) {
+        if (OidcRegisteredService.class.isAssignableFrom(clazz)) {
+            return ClientAppType.OIDCRP;
+        }
+        if (SamlRegisteredService.class.isAssignableFrom(clazz)) {
+            return ClientAppType.SAML2SP;
+        }
+        return ClientAppType.CASSP;
+    }
+
     protected final WARestClient waRestClient;
 
     protected final RegisteredServiceMapper registeredServiceMapper;
 
+    protected final Counter hits;
+
+    protected final Counter misses;
+
+    protected final MeterRegistry meterRegistry;
+
+    protected volatile Snapshot snapshot = Snapshot.EMPTY;
+
     public WAServiceRegistry(
             final WARestClient restClient,
             final RegisteredServiceMapper registeredServiceMapper,
             final ConfigurableApplicationContext applicationContext,
-            final Collection<ServiceRegistryListener> serviceRegistryListeners) {
+            final Collection<ServiceRegistryListener> serviceRegistryListeners,
+            final MeterRegistry meterRegistry) {
 
         super(applicationContext, serviceRegistryListeners);
         this.waRestClient = restClient;
         this.registeredServiceMapper = registeredServiceMapper;
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("syncope.wa.services.lookups").
+                description("The number of application definitions looked up").
+                tag("result", "hit").
+                register(meterRegistry);
+        this.misses = Counter.builder("syncope.wa.services.lookups").
+                description("The number of application definitions looked up").
+                tag("result", "miss").
+                register(meterRegistry);
     }
 
     @Override
@@ -68,83 +158,125 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
         throw new UnsupportedOperationException("Bulk deleting registered services from WA is not supported");
     }
 
+    protected Snapshot refresh(final Snapshot current, final List<WAClientApp> clientApps, final EntityTag etag) {
+        List<Entry> entries = new ArrayList<>(clientApps.size());
+        Map<String, Entry> reusable = new HashMap<>();
+        current.entries().stream().
+                filter(entry -> entry.fingerprint() != null).
+                forEach(entry -> reusable.put(entry.fingerprint(), entry));
+
+        int mapped = 0;
+        for (WAClientApp clientApp : clientApps) {
+            String fingerprint = fingerprint(clientApp);
+
+            Entry entry = fingerprint == null ? null : reusable.get(fingerprint);
+            if (entry == null) {
+                RegisteredService service = registeredServiceMapper.toRegisteredService(clientApp);
+                if (service != null) {
+                    entry = new Entry(fingerprint, service);
+                    mapped++;
+                }
+            }
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        LOG.debug("Loaded {} application definitions, {} of which were new or changed", entries.size(), mapped);
+
+        return Snapshot.of(etag, entries);
+    }
+
     @Override
     public Collection<RegisteredService> load() {
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return List.of();
+            return snapshot.services();
         }
 
         LOG.info("Loading application definitions");
-        return waRestClient.getService(WAClientAppService.class).list().stream().
-                map(registeredServiceMapper::toRegisteredService).
-                filter(Objects::nonNull).
-                toList();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failed";
+        try {
+            Snapshot current = snapshot;
+
+            // a fresh service instance is used, not to leak If-None-Match to other invocations
+            WAClientAppService service = waRestClient.getSyncopeClient().getService(WAClientAppService.class);
+            Optional.ofNullable(current.etag()).ifPresent(etag -> SyncopeClient.ifNoneMatch(service, etag));
+            try {
+                snapshot = refresh(current, service.list(), SyncopeClient.getLatestEntityTag(service));
+                result = "updated";
+            } catch (RedirectionException e) {
+                LOG.debug("Application definitions not changed since latest refresh");
+                result = "unchanged";
+            }
+        } catch (Exception e) {
+            LOG.error("Could not load application definitions, keeping the latest available", e);
+        } finally {
+            sample.stop(Timer.builder("syncope.wa.services.refresh").
+                    description("The time taken to refresh application definitions").
+                    tag("result", result).
+                    register(meterRegistry));
+        }
+
+        return snapshot.services();
     }
 
-    @Override
-    public RegisteredService findServiceById(final long id) {
+    protected <T extends RegisteredService> T find(
+            final Function<Snapshot, List<RegisteredService>> fromSnapshot,
+            final Class<T> clazz,
+            final Supplier<WAClientApp> fromCore) {
+
+        T found = Optional.ofNullable(fromSnapshot.apply(snapshot)).
+                flatMap(services -> services.stream().filter(clazz::isInstance).map(clazz::cast).findFirst()).
+                orElse(null);
+        if (found != null) {
+            hits.increment();
+            return found;
+        }
+
+        misses.increment();
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
         }
 
-        LOG.info("Searching for application definition by id {}", id);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, null));
+        RegisteredService service = registeredServiceMapper.toRegisteredService(fromCore.get());
+        return clazz.isInstance(service) ? clazz.cast(service) : null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        }
+    public RegisteredService findServiceById(final long id) {
+        LOG.debug("Searching for application definition by id {}", id);
+        return find(
+                s -> s.byId().get(id),
+                RegisteredService.class,
+                () -> waRestClient.getService(WAClientAppService.class).read(id, null));
+    }
 
-        LOG.info("Searching for application definition by id {} and type {}", id, clazz);
-        if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.OIDCRP));
-        }
-        if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.SAML2SP));
-        }
-        return (T) registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.CASSP));
+    @Override
+    public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
+        LOG.debug("Searching for application definition by id {} and type {}", id, clazz);
+        return find(
+                s -> s.byId().get(id),
+                clazz,
+                () -> waRestClient.getService(WAClientAppService.class).read(id, clientAppType(clazz)));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends RegisteredService> T findServiceByExactServiceName(final String name, final Class<T> clazz) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        }
-
-        LOG.info("Searching for application definition by name {} and type {}", name, clazz);
-        if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.OIDCRP));
-        }
-        if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.SAML2SP));
-        }
-        return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                getService(WAClientAppService.class).read(name, ClientAppType.CASSP));
+        LOG.debug("Searching for application definition by name {} and type {}", name, clazz);
+        return find(
+                s -> s.byName().get(name),
+                clazz,
+                () -> waRestClient.getService(WAClientAppService.class).read(name, clientAppType(clazz)));
     }
 
     @Override
     public RegisteredService findServiceByExactServiceName(final String name) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        }
-
-        LOG.info("Searching for application definition by name {}", name);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(name, null));
+        LOG.debug("Searching for application definition by name {}", name);
+        return find(
+                s -> s.byName().get(name),
+                RegisteredService.class,
+                () -> waRestClient.getService(WAClientAppService.class).read(name, null));
     }
 }
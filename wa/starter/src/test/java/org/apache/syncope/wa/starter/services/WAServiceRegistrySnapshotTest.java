@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.wa.starter.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.RedirectionException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.client.lib.SyncopeClient;
+import org.apache.syncope.common.lib.to.CASSPClientAppTO;
+import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
+import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+public class WAServiceRegistrySnapshotTest {
+
+    private static WAClientApp clientApp(final long clientAppId, final String description) {
+        CASSPClientAppTO clientAppTO = new CASSPClientAppTO();
+        clientAppTO.setClientAppId(clientAppId);
+        clientAppTO.setName("app" + clientAppId);
+        clientAppTO.setServiceId("https://app" + clientAppId + ".syncope.apache.org");
+        clientAppTO.setDescription(description);
+
+        WAClientApp clientApp = new WAClientApp();
+        clientApp.setClientAppTO(clientAppTO);
+        return clientApp;
+    }
+
+    private static RegisteredService toRegisteredService(final WAClientApp clientApp) {
+        CASSPClientAppTO clientAppTO = (CASSPClientAppTO) clientApp.getClientAppTO();
+
+        CasRegisteredService service = new CasRegisteredService();
+        service.setId(clientAppTO.getClientAppId());
+        service.setName(clientAppTO.getName());
+        service.setServiceId(clientAppTO.getServiceId());
+        service.setDescription(clientAppTO.getDescription());
+        return service;
+    }
+
+    @Mock
+    private WARestClient waRestClient;
+
+    @Mock
+    private SyncopeClient syncopeClient;
+
+    @Mock
+    private WAClientAppService clientAppService;
+
+    @Mock
+    private RegisteredServiceMapper registeredServiceMapper;
+
+    @Mock
+    private ConfigurableApplicationContext applicationContext;
+
+    private MockedStatic<SyncopeClient> staticSyncopeClient;
+
+    private WAServiceRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        staticSyncopeClient = mockStatic(SyncopeClient.class);
+
+        when(waRestClient.isReady()).thenReturn(true);
+        when(registeredServiceMapper.toRegisteredService(any(WAClientApp.class))).
+                thenAnswer(ic -> toRegisteredService(ic.getArgument(0)));
+
+        registry = new WAServiceRegistry(
+                waRestClient, registeredServiceMapper, applicationContext, List.of(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        staticSyncopeClient.close();
+    }
+
+    private void mockList() {
+        when(waRestClient.getSyncopeClient()).thenReturn(syncopeClient);
+        when(syncopeClient.getService(WAClientAppService.class)).thenReturn(clientAppService);
+    }
+
+    private List<RegisteredService> initialLoad() {
+        mockList();
+        when(clientAppService.list()).thenReturn(List.of(clientApp(1L, "first"), clientApp(2L, "second")));
+        staticSyncopeClient.when(() -> SyncopeClient.getLatestEntityTag(clientAppService)).
+                thenReturn(new EntityTag("v1"));
+
+        List<RegisteredService> loaded = new ArrayList<>(registry.load());
+        assertEquals(2, loaded.size());
+        return loaded;
+    }
+
+    @Test
+    public void changedRefresh() {
+        List<RegisteredService> before = initialLoad();
+
+        when(clientAppService.list()).thenReturn(List.of(clientApp(1L, "first"), clientApp(2L, "changed")));
+        staticSyncopeClient.when(() -> SyncopeClient.getLatestEntityTag(clientAppService)).
+                thenReturn(new EntityTag("v2"));
+
+        List<RegisteredService> after = new ArrayList<>(registry.load());
+        staticSyncopeClient.verify(() -> SyncopeClient.ifNoneMatch(clientAppService, new EntityTag("v1")));
+
+        // only the changed client app is mapped again
+        verify(registeredServiceMapper, times(3)).toRegisteredService(any(WAClientApp.class));
+        assertEquals(2, after.size());
+        assertSame(before.get(0), after.get(0));
+        assertNotSame(before.get(1), after.get(1));
+        assertEquals("changed", after.get(1).getDescription());
+        assertEquals(new EntityTag("v2"), registry.snapshot.etag());
+    }
+
+    @Test
+    public void unchangedRefresh() {
+        List<RegisteredService> before = initialLoad();
+
+        when(clientAppService.list()).thenThrow(new RedirectionException(Response.Status.NOT_MODIFIED, null));
+
+        List<RegisteredService> after = new ArrayList<>(registry.load());
+        staticSyncopeClient.verify(() -> SyncopeClient.ifNoneMatch(clientAppService, new EntityTag("v1")));
+
+        verify(registeredServiceMapper, times(2)).toRegisteredService(any(WAClientApp.class));
+        assertEquals(before, after);
+        assertSame(before.get(0), after.get(0));
+        assertSame(before.get(1), after.get(1));
+        assertEquals(new EntityTag("v1"), registry.snapshot.etag());
+    }
+
+    @Test
+    public void failedRefresh() {
+        List<RegisteredService> before = initialLoad();
+
+        when(clientAppService.list()).thenThrow(new ProcessingException("Core not reachable"));
+
+        List<RegisteredService> after = new ArrayList<>(registry.load());
+
+        verify(registeredServiceMapper, times(2)).toRegisteredService(any(WAClientApp.class));
+        assertEquals(before, after);
+        assertSame(before.get(0), after.get(0));
+        assertSame(before.get(1), after.get(1));
+        assertEquals(new EntityTag("v1"), registry.snapshot.etag());
+    }
+
+    @Test
+    public void snapshotMiss() {
+        List<RegisteredService> loaded = initialLoad();
+
+        // served by the snapshot
+        assertSame(loaded.get(0), registry.findServiceById(1L));
+        assertSame(loaded.get(1), registry.findServiceByExactServiceName("app2"));
+        verify(waRestClient, never()).getService(WAClientAppService.class);
+
+        // defined on Core after the latest refresh
+        when(waRestClient.getService(WAClientAppService.class)).thenReturn(clientAppService);
+        when(clientAppService.read(eq(3L), isNull())).thenReturn(clientApp(3L, "third"));
+
+        RegisteredService found = registry.findServiceById(3L);
+        assertEquals(3L, found.getId());
+        assertEquals("third", found.getDescription());
+        verify(clientAppService).read(anyLong(), isNull());
+        verify(registeredServiceMapper, times(3)).toRegisteredService(any(WAClientApp.class));
+    }
+}